@@ -0,0 +1,67 @@
+package com.example.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, e.g. the previous release against the current one:
+ * <pre>
+ * java -jar target/benchmarks.jar -rf json -rff results/current.json
+ * java -cp target/benchmarks.jar com.example.benchmarks.ResultsDiff results/previous.json results/current.json
+ * </pre>
+ * Prints one line per benchmark and parameter set. A change is only flagged when the two scores
+ * are further apart than their combined 99.9% error, otherwise it is noise.
+ */
+public final class ResultsDiff {
+
+    private record Score(double value, double error, String unit) {
+    }
+
+    private ResultsDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ResultsDiff <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> candidate = read(new File(args[1]));
+
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "candidate", "change");
+        candidate.forEach((name, after) -> {
+            Score before = baseline.get(name);
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", name, "-", after.value(), "new", after.unit());
+                return;
+            }
+            double change = (after.value() - before.value()) / before.value() * 100;
+            boolean significant = Math.abs(after.value() - before.value()) > before.error() + after.error();
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", name, before.value(), after.value(),
+                    change, after.unit(), significant ? "" : "  (within error)");
+        });
+        baseline.keySet().stream()
+                .filter(name -> !candidate.containsKey(name))
+                .forEach(name -> System.out.printf("%-90s %14.3f %14s %9s%n",
+                        name, baseline.get(name).value(), "-", "removed"));
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(result.path("benchmark").asText());
+            result.path("params").properties()
+                    .forEach(param -> name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble();
+            scores.put(name.toString(), new Score(metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+}
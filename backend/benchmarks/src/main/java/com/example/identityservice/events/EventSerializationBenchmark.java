@@ -0,0 +1,42 @@
+package com.example.identityservice.events;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka record values as the identity producer writes them, configured like
+ * {@code KafkaProducerConfig} (no type headers).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private final JsonSerializer<Object> serializer = new JsonSerializer<>();
+
+    private UserEvent userEvent;
+
+    @Setup
+    public void setUp() {
+        serializer.configure(Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+        userEvent = UserEvent.builder()
+                .userId(42L).email("dev@example.com").fullName("Dev Eloper")
+                .roles(List.of("DEVELOPER", "SCRUM_MASTER")).action("UPDATED")
+                .timestamp(Instant.now()).performedBy(1L)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] userEvent() {
+        return serializer.serialize("identity.user", new RecordHeaders(), userEvent);
+    }
+}
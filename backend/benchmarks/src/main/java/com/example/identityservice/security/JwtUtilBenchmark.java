@@ -0,0 +1,58 @@
+package com.example.identityservice.security;
+
+import com.example.identityservice.entity.Role;
+import com.example.identityservice.entity.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing on login/refresh and token verification on every authenticated identity request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final List<Long> TEAM_IDS = List.of(1L, 2L, 3L);
+    private static final List<Long> PROJECT_IDS = List.of(10L, 11L, 12L, 13L);
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "benchmark-secret-key-that-is-long-enough-for-hs256");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", TimeUnit.HOURS.toMillis(8));
+
+        Role role = new Role();
+        role.setName(Role.RoleName.DEVELOPER);
+        user = new User();
+        user.setId(42L);
+        user.setEmail("dev@example.com");
+        user.setFirstName("Dev");
+        user.setLastName("Eloper");
+        user.setRoles(Set.of(role));
+
+        token = jwtUtil.generateToken(user, TEAM_IDS, PROJECT_IDS);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user, TEAM_IDS, PROJECT_IDS);
+    }
+
+    @Benchmark
+    public Claims extractAllClaims() {
+        return jwtUtil.extractAllClaims(token);
+    }
+}
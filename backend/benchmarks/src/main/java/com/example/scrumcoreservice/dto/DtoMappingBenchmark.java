@@ -0,0 +1,55 @@
+package com.example.scrumcoreservice.dto;
+
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done for every backlog item and task a list endpoint returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private ProductBacklogItem item;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        item = ProductBacklogItem.builder()
+                .id(1L).projectId(10L).title("Export the sprint report as PDF")
+                .description("As a scrum master I want to export the sprint report. ".repeat(4))
+                .type(ProductBacklogItem.ItemType.STORY).storyPoints(5).position(1024)
+                .status(ProductBacklogItem.ItemStatus.IN_SPRINT)
+                .acceptanceCriteria("Given a finished sprint, when I export, then I get a PDF. ".repeat(4))
+                .createdBy(5L).createdByRole("PRODUCT_OWNER").createdAt(now).updatedAt(now)
+                .boardColumn(ProductBacklogItem.BoardColumn.IN_PROGRESS)
+                .build();
+        task = Task.builder()
+                .id(7L).backlogItem(item).title("Render the burndown chart")
+                .description("Server-side rendering of the chart image.")
+                .assigneeId(42L).status(Task.TaskStatus.IN_PROGRESS)
+                .estimatedHours(new BigDecimal("6.0")).actualHours(new BigDecimal("2.5"))
+                .createdAt(now).updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public BacklogItemDto backlogItemFromEntity() {
+        return BacklogItemDto.fromEntity(item);
+    }
+
+    @Benchmark
+    public TaskDto taskFromEntity() {
+        return TaskDto.fromEntity(task);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.scrumcoreservice.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka record values as the outbox stores them ({@code EventPublisher} serializes with the
+ * same {@link JsonSerializer} the producer used to).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private final JsonSerializer<Object> serializer = new JsonSerializer<>();
+
+    private SprintEvent sprintEvent;
+    private BacklogItemEvent backlogItemEvent;
+
+    @Setup
+    public void setUp() {
+        sprintEvent = SprintEvent.builder()
+                .sprintId(12L).projectId(10L).teamId(3L).sprintName("Sprint 12")
+                .sprintGoal("Ship the reporting export").status("COMPLETED")
+                .startDate(LocalDate.of(2026, 9, 1)).endDate(LocalDate.of(2026, 9, 14))
+                .committedPoints(31).completedPoints(28).velocity(28).storiesCompleted(9)
+                .action("COMPLETED").timestamp(Instant.now()).performedBy(42L)
+                .build();
+        backlogItemEvent = BacklogItemEvent.builder()
+                .itemId(1024L).projectId(10L).title("Export the sprint report as PDF")
+                .type("STORY").status("IN_SPRINT").storyPoints(5).sprintId(12L).boardColumn("REVIEW")
+                .action("MOVED").timestamp(Instant.now()).performedBy(42L)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] sprintEvent() {
+        return serializer.serialize("scrum.sprint", sprintEvent);
+    }
+
+    @Benchmark
+    public byte[] backlogItemEvent() {
+        return serializer.serialize("scrum.backlog-item", backlogItemEvent);
+    }
+}
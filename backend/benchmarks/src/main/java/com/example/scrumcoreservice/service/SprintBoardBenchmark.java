@@ -0,0 +1,150 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BacklogItemDto;
+import com.example.scrumcoreservice.dto.SprintBoardDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.entity.Sprint;
+import com.example.scrumcoreservice.entity.SprintBacklogItem;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Building the sprint board from its card projection: column grouping and card mapping, with the
+ * repositories returning in-memory results. {@link #legacySprintBoard} replays the previous read
+ * path (the sprint's item links, one findById per item, full entity mapping) as the baseline.
+ * <p>
+ * The repositories are mocks, so neither path pays for database round trips: the baseline's
+ * per-item lookups cost one mock invocation here and one statement against PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SprintBoardBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int cards;
+
+    private SprintRepository sprintRepository;
+    private SprintBacklogItemRepository sprintBacklogItemRepository;
+    private ProductBacklogItemRepository backlogItemRepository;
+    private SprintService sprintService;
+
+    @Setup
+    public void setUp() {
+        sprintRepository = mock(SprintRepository.class);
+        sprintBacklogItemRepository = mock(SprintBacklogItemRepository.class);
+        backlogItemRepository = mock(ProductBacklogItemRepository.class);
+        sprintService = new SprintService(sprintRepository, sprintBacklogItemRepository,
+                backlogItemRepository, mock(EventPublisher.class), mock(ApprovalService.class),
+                mock(ReportingSyncDispatcher.class), mock(ProjectRevisionService.class),
+                mock(CacheInvalidationBroadcaster.class));
+
+        ProductBacklogItem.BoardColumn[] columns = ProductBacklogItem.BoardColumn.values();
+        LocalDateTime now = LocalDateTime.now();
+        String description = "As a team member I want the board to load quickly. ".repeat(4);
+        String criteria = "Given a sprint, when the board opens, then every card is shown. ".repeat(4);
+        List<SprintBacklogItemRepository.BoardCard> board = new ArrayList<>(cards);
+        List<SprintBacklogItem> sprintItems = new ArrayList<>(cards);
+        List<ProductBacklogItem> items = new ArrayList<>(cards);
+        for (long id = 1; id <= cards; id++) {
+            // Every fifth card was never moved and has no column yet
+            ProductBacklogItem.BoardColumn column = id % 5 == 0 ? null : columns[(int) (id % columns.length)];
+            board.add(new Card(id, "Item " + id, description, column, now));
+            sprintItems.add(SprintBacklogItem.builder().sprintId(1L).backlogItemId(id).build());
+            items.add(ProductBacklogItem.builder()
+                    .id(id).projectId(10L).title("Item " + id).description(description)
+                    .type(ProductBacklogItem.ItemType.STORY).storyPoints(3).position((int) id)
+                    .status(ProductBacklogItem.ItemStatus.IN_SPRINT).acceptanceCriteria(criteria)
+                    .createdBy(5L).createdAt(now).updatedAt(now).boardColumn(column)
+                    .build());
+        }
+        Map<Long, ProductBacklogItem> itemsById = items.stream()
+                .collect(Collectors.toMap(ProductBacklogItem::getId, Function.identity()));
+
+        Sprint sprint = Sprint.builder().id(1L).projectId(10L).name("Sprint 1")
+                .status(Sprint.SprintStatus.ACTIVE).build();
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(sprint));
+        when(sprintBacklogItemRepository.findBoardCards(1L)).thenReturn(board);
+        when(sprintBacklogItemRepository.findBySprintId(1L)).thenReturn(sprintItems);
+        when(backlogItemRepository.findById(any()))
+                .thenAnswer(inv -> Optional.ofNullable(itemsById.get(inv.<Long>getArgument(0))));
+    }
+
+    @Benchmark
+    public SprintBoardDto getSprintBoard() {
+        return sprintService.getSprintBoard(1L);
+    }
+
+    @Benchmark
+    public SprintBoardDto legacySprintBoard() {
+        Sprint sprint = sprintRepository.findById(1L).orElseThrow();
+        List<ProductBacklogItem> items = sprintBacklogItemRepository.findBySprintId(1L).stream()
+                .map(sbi -> backlogItemRepository.findById(sbi.getBacklogItemId()).orElseThrow())
+                .toList();
+
+        List<BacklogItemDto> toDo = new ArrayList<>();
+        List<BacklogItemDto> inProgress = new ArrayList<>();
+        List<BacklogItemDto> review = new ArrayList<>();
+        List<BacklogItemDto> done = new ArrayList<>();
+        for (ProductBacklogItem item : items) {
+            BacklogItemDto dto = BacklogItemDto.fromEntity(item);
+            if (item.getBoardColumn() == null) {
+                toDo.add(dto);
+            } else {
+                switch (item.getBoardColumn()) {
+                    case TO_DO -> toDo.add(dto);
+                    case IN_PROGRESS -> inProgress.add(dto);
+                    case REVIEW -> review.add(dto);
+                    case DONE -> done.add(dto);
+                }
+            }
+        }
+
+        return SprintBoardDto.builder()
+                .sprintId(sprint.getId())
+                .sprintName(sprint.getName())
+                .sprintStatus(sprint.getStatus().name())
+                .columns(SprintBoardDto.BoardColumnsDto.builder()
+                        .toDo(toDo).inProgress(inProgress).review(review).done(done).build())
+                .build();
+    }
+
+    private record Card(Long id, String title, String description, ProductBacklogItem.BoardColumn boardColumn,
+                        LocalDateTime createdAt) implements SprintBacklogItemRepository.BoardCard {
+        public Long getId() { return id; }
+        public Long getProjectId() { return 10L; }
+        public String getTitle() { return title; }
+        public String getDescription() { return description; }
+        public ProductBacklogItem.ItemType getType() { return ProductBacklogItem.ItemType.STORY; }
+        public Integer getStoryPoints() { return 3; }
+        public Integer getPriority() { return 0; }
+        public Integer getPosition() { return id.intValue(); }
+        public ProductBacklogItem.ItemStatus getStatus() { return ProductBacklogItem.ItemStatus.IN_SPRINT; }
+        public ProductBacklogItem.BoardColumn getBoardColumn() { return boardColumn; }
+        public Long getCreatedBy() { return 5L; }
+        public String getCreatedByRole() { return "PRODUCT_OWNER"; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public LocalDateTime getUpdatedAt() { return createdAt; }
+        public Long getReviewedBy() { return null; }
+        public LocalDateTime getReviewedAt() { return null; }
+        public Long getVersion() { return 0L; }
+    }
+}
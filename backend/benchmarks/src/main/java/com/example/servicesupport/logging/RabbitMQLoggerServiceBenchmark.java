@@ -0,0 +1,64 @@
+package com.example.servicesupport.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log shipping cost: what a request thread pays per log call, and the same plus the publisher
+ * thread's batch-to-JSON message conversion (the broker send itself is stubbed out).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RabbitMQLoggerServiceBenchmark {
+
+    private static final int BATCH_SIZE = 256;
+    private static final String MESSAGE = "Sprint 12 started by user 42 with 31 committed points";
+    private static final String URL = "/api/sprints/12/start";
+
+    private RabbitMQLoggerService loggerService;
+
+    @Setup
+    public void setUp() {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate() {
+            @Override
+            public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+                // Conversion is measured, the network is not
+            }
+        };
+        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        // The publisher thread is not started; flush() runs on the benchmark thread
+        loggerService = new RabbitMQLoggerService(rabbitTemplate, new SimpleMeterRegistry(), "scrum-core-service",
+                8192, BATCH_SIZE, 200, 1.0, 1.0, 1.0, 1.0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void drain() {
+        while (loggerService.flush() > 0) {
+            // Leave an empty buffer for the next iteration
+        }
+    }
+
+    @Benchmark
+    public void logInfo() {
+        loggerService.logInfo(MESSAGE, URL);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int logInfoAndShip() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            loggerService.logInfo(MESSAGE, URL);
+        }
+        return loggerService.flush();
+    }
+}
@@ -27,6 +27,24 @@ export class NotificationController {
     }
   }
 
+  @Post('batch')
+  async createNotifications(
+    @Body() body: { notifications: { recipientId: number; type: NotificationType; payload: any }[] },
+  ) {
+    const url = `/notifications/batch`;
+    const items = body.notifications ?? [];
+    rabbitMQLogger.logInfo(`Creating ${items.length} notifications`, url);
+
+    try {
+      const notifications = await this.notificationService.createNotifications(items);
+      rabbitMQLogger.logInfo(`Created ${notifications.length} notifications`, url);
+      return { created: notifications.length };
+    } catch (error) {
+      rabbitMQLogger.logError(`Failed to create notifications: ${error.message}`, url);
+      throw error;
+    }
+  }
+
   @Get()
   @UseGuards(JwtAuthGuard)
   async getUserNotifications(@Request() req) {
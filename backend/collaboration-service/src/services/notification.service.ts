@@ -23,6 +23,16 @@ export class NotificationService {
     return this.notificationRepository.save(notification);
   }
 
+  async createNotifications(
+    items: { recipientId: number; type: NotificationType; payload: any }[],
+  ): Promise<Notification[]> {
+    if (items.length === 0) {
+      return [];
+    }
+    const notifications = this.notificationRepository.create(items);
+    return this.notificationRepository.save(notifications);
+  }
+
   async getUserNotifications(userId: number): Promise<Notification[]> {
     return this.notificationRepository.find({
       where: { recipientId: userId },
@@ -1,5 +1,6 @@
 package com.example.identityservice.config;
 
+import com.example.servicesupport.logging.RabbitMQLoggerService;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -25,9 +26,9 @@ public class RabbitMQConfig {
     @Value("${spring.rabbitmq.password:admin}")
     private String rabbitmqPassword;
 
-    public static final String LOGGING_EXCHANGE = "logging_exchange";
+    public static final String LOGGING_EXCHANGE = RabbitMQLoggerService.LOGGING_EXCHANGE;
     public static final String LOGGING_QUEUE = "logging_queue";
-    public static final String LOGGING_ROUTING_KEY = "logs";
+    public static final String LOGGING_ROUTING_KEY = RabbitMQLoggerService.LOGGING_ROUTING_KEY;
 
     @Bean
     public ConnectionFactory connectionFactory() {
@@ -4,7 +4,7 @@ import com.example.identityservice.dto.LoginRequest;
 import com.example.identityservice.dto.LoginResponse;
 import com.example.identityservice.dto.UserDto;
 import com.example.identityservice.service.AuthService;
-import com.example.identityservice.service.RabbitMQLoggerService;
+import com.example.servicesupport.logging.RabbitMQLoggerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
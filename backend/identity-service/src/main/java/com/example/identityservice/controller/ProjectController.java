@@ -7,7 +7,7 @@ import com.example.identityservice.dto.UpdateProjectRequest;
 import com.example.identityservice.entity.Project;
 import com.example.identityservice.security.JwtUtil;
 import com.example.identityservice.service.ProjectService;
-import com.example.identityservice.service.RabbitMQLoggerService;
+import com.example.servicesupport.logging.RabbitMQLoggerService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
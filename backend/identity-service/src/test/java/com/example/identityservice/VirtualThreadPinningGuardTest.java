@@ -0,0 +1,55 @@
+package com.example.identityservice;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * On Java 21 a virtual thread that blocks inside {@code synchronized} pins its carrier thread, and
+ * a handful of pinned requests can stall the whole service in virtual-thread mode. Guard our own
+ * code against it; use a {@code ReentrantLock} (or a concurrent collection) instead. Pinning in
+ * libraries shows up at runtime as {@code jvm.threads.virtual.pinned}.
+ */
+class VirtualThreadPinningGuardTest {
+
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\s*[({]|\\bsynchronized\\s+\\w");
+
+    @Test
+    void testMainSources_DoNotUseSynchronized() throws IOException {
+        // Arrange
+        Path sources = Path.of("src/main/java");
+
+        // Act
+        List<String> offenders;
+        try (Stream<Path> files = Files.walk(sources)) {
+            offenders = files.filter(file -> file.toString().endsWith(".java"))
+                    .flatMap(VirtualThreadPinningGuardTest::synchronizedLines)
+                    .toList();
+        }
+
+        // Assert
+        assertTrue(offenders.isEmpty(), "synchronized pins virtual threads, use a ReentrantLock:\n"
+                + String.join("\n", offenders));
+    }
+
+    private static Stream<String> synchronizedLines(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file);
+            return IntStream.range(0, lines.size())
+                    .filter(i -> !lines.get(i).trim().startsWith("*") && !lines.get(i).trim().startsWith("//"))
+                    .filter(i -> SYNCHRONIZED.matcher(lines.get(i)).find())
+                    .mapToObj(i -> file + ":" + (i + 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP calls to the two services. Every call is timed into the current {@link LatencyRecorder}
+ * under its endpoint label; transport failures come back as status -1 instead of exceptions.
+ */
+final class ApiClient {
+
+    enum Service { IDENTITY, SCRUM_CORE }
+
+    record Response(int status, String body, HttpHeaders headers) {
+
+        private static final ObjectMapper JSON = new ObjectMapper();
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        String header(String name) {
+            return headers.firstValue(name).orElse(null);
+        }
+
+        JsonNode json() {
+            try {
+                return JSON.readTree(body);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Response is not JSON: " + body, e);
+            }
+        }
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final HttpHeaders NO_HEADERS = HttpHeaders.of(java.util.Map.of(), (name, value) -> true);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper json = new ObjectMapper();
+    private final URI identity;
+    private final URI scrumCore;
+    private volatile LatencyRecorder recorder = new LatencyRecorder();
+
+    ApiClient(URI identity, URI scrumCore) {
+        this.identity = identity;
+        this.scrumCore = scrumCore;
+    }
+
+    /**
+     * Later calls are recorded into {@code recorder}; the previous one stops receiving samples.
+     */
+    void recordInto(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    Response get(Service service, String endpoint, String path, String token, String ifNoneMatch) {
+        HttpRequest.Builder request = request(service, path, token).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return send(endpoint, request.build());
+    }
+
+    Response post(Service service, String endpoint, String path, String token, Object body) {
+        HttpRequest.Builder request = request(service, path, token)
+                .header("Content-Type", "application/json")
+                .POST(body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(write(body)));
+        return send(endpoint, request.build());
+    }
+
+    private HttpRequest.Builder request(Service service, String path, String token) {
+        URI base = service == Service.IDENTITY ? identity : scrumCore;
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    private Response send(String endpoint, HttpRequest request) {
+        LatencyRecorder target = recorder;
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            target.record(endpoint, response.statusCode(), System.nanoTime() - started);
+            return new Response(response.statusCode(), response.body(), response.headers());
+        } catch (IOException e) {
+            target.record(endpoint, -1, System.nanoTime() - started);
+            return new Response(-1, e.toString(), NO_HEADERS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, "interrupted", NO_HEADERS);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return json.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code --name=value} command line arguments. Options take what they know; whatever is left
+ * over is a typo and fails the run.
+ */
+final class Arguments {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    private Arguments() {
+    }
+
+    static Arguments parse(String... args) {
+        Arguments arguments = new Arguments();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            arguments.values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return arguments;
+    }
+
+    String take(String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    int takeInt(String name, int defaultValue) {
+        String value = values.remove(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    long takeLong(String name, long defaultValue) {
+        String value = values.remove(name);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    boolean takeBoolean(String name, boolean defaultValue) {
+        String value = values.remove(name);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    /**
+     * Takes every {@code --<prefix><name>=value}, keyed by name.
+     */
+    Map<String, String> takeWithPrefix(String prefix) {
+        Map<String, String> taken = new LinkedHashMap<>();
+        values.entrySet().removeIf(entry -> {
+            if (!entry.getKey().startsWith(prefix)) {
+                return false;
+            }
+            taken.put(entry.getKey().substring(prefix.length()), entry.getValue());
+            return true;
+        });
+        return taken;
+    }
+
+    void requireAllTaken() {
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Streams rows into one table with {@code COPY ... FROM STDIN} in text format. Closing the
+ * writer ends the COPY; the rows are visible once the connection's transaction commits.
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+    private final StringBuilder row = new StringBuilder(512);
+    private long rows;
+
+    private CopyWriter(Writer out) {
+        this.out = out;
+    }
+
+    static CopyWriter open(Connection connection, String table, String... columns) throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+        PGCopyOutputStream stream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, BUFFER_SIZE);
+        return new CopyWriter(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    /**
+     * One row; {@code null} is SQL NULL, anything else is written with {@code toString()}, which
+     * Postgres reads back fine for numbers, booleans and {@code java.time} values.
+     */
+    void row(Object... values) throws IOException {
+        row.setLength(0);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                row.append('\t');
+            }
+            append(values[i]);
+        }
+        row.append('\n');
+        out.append(row);
+        rows++;
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            row.append("\\N");
+            return;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            row.append(value);
+            return;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> row.append("\\\\");
+                case '\t' -> row.append("\\t");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                default -> row.append(c);
+            }
+        }
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,593 @@
+package com.example.loadtest;
+
+import com.example.loadtest.ProjectPlan.Item;
+import com.example.loadtest.ProjectPlan.Sprint;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Writes a production-sized synthetic organisation straight into identity_db and
+ * scrum_core_db with COPY. identity_db gets users, teams and projects. Each project in
+ * scrum_core_db gets:
+ * <ul>
+ *   <li>years of completed sprints, plus the active and the planned one</li>
+ *   <li>backlog items</li>
+ *   <li>sprint entries</li>
+ *   <li>approvals and their per-request counters</li>
+ *   <li>tasks</li>
+ * </ul>
+ * Sizes and status mixes are set in {@link DatasetOptions}. The same options and seed give the
+ * same dataset.
+ * <p>
+ * The schemas must already exist: start the services, or run the load test, once. Rows are
+ * appended after the current ids. {@code --truncate=true} empties the tables first, demo data
+ * included. Generated users log in with {@link DatasetSeeder#PASSWORD}.
+ * <p>
+ * COPY runs with {@code session_replication_role = replica}, which needs a superuser such as
+ * the local postgres user. For that session it skips triggers and foreign key checks; the
+ * generator keeps the references consistent itself. The full-text search documents the
+ * triggers would have written are filled in afterwards, in bulk. Run from the repository root:
+ * <pre>
+ * mvn -o -f backend/load-test/pom.xml exec:exec -Dloadtest.main=com.example.loadtest.DatasetGenerator \
+ *     -Dloadtest.args="--projects=5000 --backlog-items=lognormal:300:1.2 --truncate=true"
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    private static final String EMAIL_DOMAIN = "@scale.loadtest.local";
+    private static final String[] WORDS = {
+            "login", "board", "sprint", "backlog", "export", "report", "burndown", "velocity", "search",
+            "notification", "email", "invite", "team", "project", "permission", "role", "token", "session",
+            "dashboard", "filter", "sort", "drag", "drop", "column", "estimate", "story", "epic", "task",
+            "approval", "review", "retrospective", "impediment", "calendar", "timezone", "avatar", "profile",
+            "import", "csv", "audit", "cache", "latency", "timeout", "retry", "mobile", "offline", "dark mode"};
+
+    private final DatasetOptions options;
+    private final Map<String, LongAdder> rows = new LinkedHashMap<>();
+
+    // Per project, filled by the counting pass: ids are handed out in project order
+    private final long[] firstUserIds;
+    private final long[] firstSprintIds;
+    private final long[] firstItemIds;
+    private final int[] sprintLengthWeeks;
+    private long firstTeamId;
+    private long firstProjectId;
+    private String passwordHash;
+    private Map<String, Integer> roleIds;
+
+    private DatasetGenerator(DatasetOptions options) {
+        this.options = options;
+        this.firstUserIds = new long[options.projects() + 1];
+        this.firstSprintIds = new long[options.projects() + 1];
+        this.firstItemIds = new long[options.projects() + 1];
+        this.sprintLengthWeeks = new int[options.projects()];
+        for (String table : List.of("users", "user_roles", "teams", "team_members", "projects", "sprints",
+                "product_backlog_items", "sprint_backlog_items", "backlog_item_approvals", "backlog_item_approval_requests",
+                "tasks", "search_documents")) {
+            rows.put(table, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetOptions options = DatasetOptions.parse(args);
+        long started = System.nanoTime();
+        new DatasetGenerator(options).generate();
+        System.out.printf("Done in %.0f s%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    private void generate() throws Exception {
+        try (Connection identity = connect(options.identityDbUrl());
+             Connection scrumCore = connect(options.scrumCoreDbUrl())) {
+            requireTables(identity, "users", "roles", "user_roles", "teams", "team_members", "projects");
+            requireTables(scrumCore, "sprints", "product_backlog_items", "sprint_backlog_items",
+                    "backlog_item_approvals", "backlog_item_approval_requests", "tasks", "search_documents");
+            if (options.truncate()) {
+                execute(identity, "TRUNCATE users, teams, projects RESTART IDENTITY CASCADE");
+                execute(scrumCore, "TRUNCATE product_backlog_items, sprints, search_documents, project_revisions "
+                        + "RESTART IDENTITY CASCADE");
+            } else if (exists(identity, "SELECT 1 FROM users WHERE email LIKE '%" + EMAIL_DOMAIN + "'")) {
+                throw new IllegalStateException("identity_db already holds a generated dataset, run with --truncate=true");
+            }
+
+            plan(identity, scrumCore);
+            System.out.printf("Writing %d projects: %d users, %d sprints, %d backlog items%n", options.projects(),
+                    firstUserIds[options.projects()] - firstUserIds[0],
+                    firstSprintIds[options.projects()] - firstSprintIds[0],
+                    firstItemIds[options.projects()] - firstItemIds[0]);
+
+            writeIdentity(identity);
+            writeScrumCore();
+            if (options.searchDocuments()) {
+                indexSearchDocuments();
+            }
+
+            resetSequence(identity, "users");
+            resetSequence(identity, "teams");
+            resetSequence(identity, "projects");
+            resetSequence(scrumCore, "sprints");
+            resetSequence(scrumCore, "product_backlog_items");
+            vacuumAnalyze(identity, "users", "user_roles", "teams", "team_members", "projects");
+            vacuumAnalyze(scrumCore, "sprints", "product_backlog_items", "sprint_backlog_items",
+                    "backlog_item_approvals", "backlog_item_approval_requests", "tasks", "search_documents");
+        }
+        rows.forEach((table, count) -> System.out.printf("%-24s %,12d rows%n", table, count.sum()));
+    }
+
+    /**
+     * Counting pass: plans every project once to hand out contiguous id ranges, so the table
+     * passes can run in parallel without asking the database for ids.
+     */
+    private void plan(Connection identity, Connection scrumCore) throws SQLException {
+        passwordHash = new BCryptPasswordEncoder().encode(DatasetSeeder.PASSWORD);
+        roleIds = new HashMap<>();
+        try (Statement statement = identity.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id, name FROM roles")) {
+            while (resultSet.next()) {
+                roleIds.put(resultSet.getString("name"), resultSet.getInt("id"));
+            }
+        }
+
+        int projects = options.projects();
+        int[] users = new int[projects];
+        int[] sprints = new int[projects];
+        int[] items = new int[projects];
+        IntStream.range(0, projects).parallel().forEach(p -> {
+            ProjectPlan plan = ProjectPlan.create(options, p);
+            users[p] = plan.developers() + 2;
+            sprints[p] = plan.sprints().size();
+            items[p] = plan.items().size();
+            sprintLengthWeeks[p] = plan.sprintLengthWeeks();
+        });
+
+        firstUserIds[0] = nextId(identity, "users");
+        firstSprintIds[0] = nextId(scrumCore, "sprints");
+        firstItemIds[0] = nextId(scrumCore, "product_backlog_items");
+        for (int p = 0; p < projects; p++) {
+            firstUserIds[p + 1] = firstUserIds[p] + users[p];
+            firstSprintIds[p + 1] = firstSprintIds[p] + sprints[p];
+            firstItemIds[p + 1] = firstItemIds[p] + items[p];
+        }
+        firstTeamId = nextId(identity, "teams");
+        firstProjectId = nextId(identity, "projects");
+    }
+
+    // identity_db
+
+    private void writeIdentity(Connection connection) throws SQLException, IOException {
+        long started = System.nanoTime();
+        connection.setAutoCommit(false);
+        execute(connection, "SET session_replication_role = replica");
+        LocalDateTime createdAt = options.asOf().minusYears(3).atTime(9, 0);
+        int projects = options.projects();
+
+        try (CopyWriter out = CopyWriter.open(connection, "users",
+                "id", "email", "password_hash", "first_name", "last_name", "status", "created_at")) {
+            for (int p = 0; p < projects; p++) {
+                long id = firstUserIds[p];
+                out.row(id, "po-" + p + EMAIL_DOMAIN, passwordHash, "Product", "Owner " + p, "ACTIVE", createdAt);
+                out.row(id + 1, "sm-" + p + EMAIL_DOMAIN, passwordHash, "Scrum", "Master " + p, "ACTIVE", createdAt);
+                for (int d = 0; d < developers(p); d++) {
+                    out.row(developerId(p, d), "dev-" + p + "-" + d + EMAIL_DOMAIN, passwordHash,
+                            "Developer", p + "-" + d, "ACTIVE", createdAt);
+                }
+            }
+            rows.get("users").add(out.rows());
+        }
+        try (CopyWriter out = CopyWriter.open(connection, "user_roles", "user_id", "role_id")) {
+            for (int p = 0; p < projects; p++) {
+                out.row(firstUserIds[p], role("PRODUCT_OWNER"));
+                out.row(firstUserIds[p] + 1, role("SCRUM_MASTER"));
+                for (int d = 0; d < developers(p); d++) {
+                    out.row(developerId(p, d), role("DEVELOPER"));
+                }
+            }
+            rows.get("user_roles").add(out.rows());
+        }
+        try (CopyWriter out = CopyWriter.open(connection, "teams",
+                "id", "name", "description", "project_id", "product_owner_id", "scrum_master_id", "created_at",
+                "created_by")) {
+            for (int p = 0; p < projects; p++) {
+                out.row(firstTeamId + p, "Scale team " + p, "Generated team", firstProjectId + p,
+                        firstUserIds[p], firstUserIds[p] + 1, createdAt, firstUserIds[p]);
+            }
+            rows.get("teams").add(out.rows());
+        }
+        try (CopyWriter out = CopyWriter.open(connection, "team_members", "team_id", "user_id", "role", "joined_at")) {
+            for (int p = 0; p < projects; p++) {
+                for (int d = 0; d < developers(p); d++) {
+                    out.row(firstTeamId + p, developerId(p, d), "DEVELOPER", createdAt);
+                }
+            }
+            rows.get("team_members").add(out.rows());
+        }
+        try (CopyWriter out = CopyWriter.open(connection, "projects",
+                "id", "name", "description", "team_id", "status", "default_sprint_length", "timezone", "created_at",
+                "created_by")) {
+            for (int p = 0; p < projects; p++) {
+                out.row(firstProjectId + p, "Scale project " + p, "Generated project", firstTeamId + p, "ACTIVE",
+                        sprintLengthWeeks[p], "UTC", createdAt, firstUserIds[p]);
+            }
+            rows.get("projects").add(out.rows());
+        }
+
+        connection.commit();
+        execute(connection, "SET session_replication_role = DEFAULT");
+        connection.setAutoCommit(true);
+        System.out.printf("identity_db written in %.0f s%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    // scrum_core_db
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(CopyWriter out, ProjectPlan plan) throws IOException;
+    }
+
+    private record Table(String name, String[] columns, RowWriter writer) {
+    }
+
+    /**
+     * Projects are split over {@code --parallelism} connections, each writing its share table
+     * by table in one transaction.
+     */
+    private void writeScrumCore() throws Exception {
+        long started = System.nanoTime();
+        List<Table> tables = List.of(
+                new Table("sprints", new String[]{"id", "project_id", "name", "goal", "start_date", "end_date",
+                        "length_weeks", "status", "team_capacity", "created_by", "created_at", "started_at", "ended_at"},
+                        this::writeSprints),
+                new Table("product_backlog_items", new String[]{"id", "project_id", "title", "description", "type",
+                        "story_points", "priority", "position", "status", "acceptance_criteria", "created_by",
+                        "created_by_role", "created_at", "updated_at", "reviewed_by", "reviewed_at", "rejection_reason",
+                        "board_column"},
+                        this::writeItems),
+                new Table("sprint_backlog_items", new String[]{"sprint_id", "backlog_item_id", "committed_points",
+                        "actual_points", "added_at", "completed_at"},
+                        this::writeSprintItems),
+                new Table("backlog_item_approvals", new String[]{"backlog_item_id", "sprint_id", "developer_id",
+                        "status", "rejection_reason", "requested_at", "responded_at"},
+                        this::writeApprovals),
+                new Table("backlog_item_approval_requests", new String[]{"backlog_item_id", "sprint_id",
+                        "pending_count", "approved_count", "rejected_count", "created_at", "updated_at"},
+                        this::writeApprovalRequests),
+                new Table("tasks", new String[]{"backlog_item_id", "title", "description", "assignee_id", "status",
+                        "estimated_hours", "actual_hours", "created_at", "updated_at", "completed_at"},
+                        this::writeTasks));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(options.parallelism())) {
+            List<Future<?>> shards = new ArrayList<>();
+            for (int shard = 0; shard < options.parallelism(); shard++) {
+                int first = shard;
+                shards.add(executor.submit(() -> {
+                    writeShard(first, tables);
+                    return null;
+                }));
+            }
+            for (Future<?> shard : shards) {
+                shard.get();
+            }
+        }
+        System.out.printf("scrum_core_db written in %.0f s%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    private void writeShard(int shard, List<Table> tables) throws SQLException, IOException {
+        try (Connection connection = connect(options.scrumCoreDbUrl())) {
+            connection.setAutoCommit(false);
+            execute(connection, "SET session_replication_role = replica");
+            for (Table table : tables) {
+                try (CopyWriter out = CopyWriter.open(connection, table.name(), table.columns())) {
+                    for (int p = shard; p < options.projects(); p += options.parallelism()) {
+                        table.writer().write(out, ProjectPlan.create(options, p));
+                    }
+                    rows.get(table.name()).add(out.rows());
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    private void writeSprints(CopyWriter out, ProjectPlan plan) throws IOException {
+        int p = plan.index();
+        for (int s = 0; s < plan.sprints().size(); s++) {
+            Sprint sprint = plan.sprints().get(s);
+            String status = sprint.status();
+            out.row(firstSprintIds[p] + s, firstProjectId + p, "Sprint " + sprint.number(),
+                    "Ship the " + sprint.items() + " committed items of sprint " + sprint.number(),
+                    sprint.startDate(), sprint.endDate(), plan.sprintLengthWeeks(), status,
+                    plan.developers() * 5 * plan.sprintLengthWeeks(), firstUserIds[p] + 1,
+                    sprint.startDate().minusDays(3).atTime(10, 0),
+                    status.equals(ProjectPlan.PLANNED) ? null : sprint.startDate().atTime(9, 0),
+                    status.equals(ProjectPlan.COMPLETED) ? sprint.endDate().atTime(17, 0) : null);
+        }
+    }
+
+    private void writeItems(CopyWriter out, ProjectPlan plan) throws IOException {
+        int p = plan.index();
+        long productOwner = firstUserIds[p];
+        for (int i = 0; i < plan.items().size(); i++) {
+            Item item = plan.items().get(i);
+            long id = firstItemIds[p] + i;
+            Random text = new Random(options.seed() * 31 + id);
+            boolean bug = item.type().equals("BUG");
+            long createdBy = bug ? developerId(p, text.nextInt(plan.developers())) : productOwner;
+            out.row(id, firstProjectId + p,
+                    label(item.type()) + " " + (i + 1) + ": " + words(text, 3 + text.nextInt(4)),
+                    "As a team member I want the " + words(text, 6 + text.nextInt(10)) + " so that we deliver.",
+                    item.type(), item.storyPoints(), item.priority(), plan.position(i), item.status(),
+                    "Given the " + words(text, 3) + ", when it is used, then the " + words(text, 3) + " works.",
+                    createdBy, bug ? "DEVELOPER" : "PRODUCT_OWNER", item.createdAt(),
+                    item.reviewedAt() != null ? item.reviewedAt() : item.createdAt(),
+                    item.reviewedAt() != null ? productOwner : null, item.reviewedAt(),
+                    item.status().equals("REJECTED") ? "Does not meet the acceptance criteria" : null,
+                    item.boardColumn());
+        }
+    }
+
+    private void writeSprintItems(CopyWriter out, ProjectPlan plan) throws IOException {
+        int p = plan.index();
+        for (int i = 0; i < plan.items().size(); i++) {
+            Item item = plan.items().get(i);
+            if (!item.committed()) {
+                continue;
+            }
+            Sprint sprint = plan.sprints().get(item.sprint());
+            boolean completed = sprint.status().equals(ProjectPlan.COMPLETED);
+            out.row(firstSprintIds[p] + item.sprint(), firstItemIds[p] + i, item.storyPoints(),
+                    completed ? item.storyPoints() : null,
+                    requestedAt(sprint).plusHours(4), completed ? sprint.endDate().atTime(17, 0) : null);
+        }
+    }
+
+    private void writeApprovals(CopyWriter out, ProjectPlan plan) throws IOException {
+        int p = plan.index();
+        for (int i = 0; i < plan.items().size(); i++) {
+            Item item = plan.items().get(i);
+            if (item.approvers().length == 0) {
+                continue;
+            }
+            Sprint sprint = plan.sprints().get(item.sprint());
+            LocalDateTime requestedAt = requestedAt(sprint);
+            for (int a = 0; a < item.approvers().length; a++) {
+                String status = item.approvalStatuses()[a];
+                out.row(firstItemIds[p] + i, firstSprintIds[p] + item.sprint(), developerId(p, item.approvers()[a]),
+                        status, status.equals("REJECTED") ? "Too large for the sprint, split it first" : null,
+                        requestedAt, status.equals("PENDING") ? null : requestedAt.plusHours(1 + a));
+            }
+        }
+    }
+
+    private void writeApprovalRequests(CopyWriter out, ProjectPlan plan) throws IOException {
+        int p = plan.index();
+        for (int i = 0; i < plan.items().size(); i++) {
+            Item item = plan.items().get(i);
+            if (item.approvers().length == 0) {
+                continue;
+            }
+            int[] counts = new int[3];
+            int lastResponse = -1;
+            for (int a = 0; a < item.approvers().length; a++) {
+                String status = item.approvalStatuses()[a];
+                counts[status.equals("PENDING") ? 0 : status.equals("APPROVED") ? 1 : 2]++;
+                if (!status.equals("PENDING")) {
+                    lastResponse = a;
+                }
+            }
+            LocalDateTime requestedAt = requestedAt(plan.sprints().get(item.sprint()));
+            out.row(firstItemIds[p] + i, firstSprintIds[p] + item.sprint(), counts[0], counts[1], counts[2],
+                    requestedAt, lastResponse < 0 ? requestedAt : requestedAt.plusHours(1 + lastResponse));
+        }
+    }
+
+    private void writeTasks(CopyWriter out, ProjectPlan plan) throws IOException {
+        int p = plan.index();
+        for (int i = 0; i < plan.items().size(); i++) {
+            Item item = plan.items().get(i);
+            if (item.tasks() == 0) {
+                continue;
+            }
+            long itemId = firstItemIds[p] + i;
+            Sprint sprint = plan.sprints().get(item.sprint());
+            Random random = new Random(options.seed() * 53 + itemId);
+            LocalDateTime createdAt = sprint.startDate().atTime(10, 0);
+            for (int t = 0; t < item.tasks(); t++) {
+                String status = taskStatus(item, random);
+                boolean done = status.equals("DONE");
+                BigDecimal estimate = BigDecimal.valueOf(1 + random.nextInt(32), 1).multiply(BigDecimal.valueOf(5));
+                LocalDateTime completedAt = done
+                        ? min(sprint.endDate().atTime(16, 0), options.asOf().atTime(8, 0)) : null;
+                out.row(itemId, "Task " + (t + 1) + ": " + words(random, 2 + random.nextInt(4)),
+                        "Implement the " + words(random, 4 + random.nextInt(8)),
+                        developerId(p, random.nextInt(plan.developers())), status, estimate,
+                        done ? estimate.multiply(BigDecimal.valueOf(50 + random.nextInt(130), 2))
+                                .setScale(2, RoundingMode.HALF_UP) : null,
+                        createdAt, completedAt != null ? completedAt : createdAt, completedAt);
+            }
+        }
+    }
+
+    /**
+     * Tasks of completed work are done; on the active board they trail their item's column.
+     */
+    private static String taskStatus(Item item, Random random) {
+        return switch (item.boardColumn()) {
+            case "TO_DO" -> "TO_DO";
+            case "IN_PROGRESS" -> new String[]{"TO_DO", "IN_PROGRESS", "IN_PROGRESS", "DONE"}[random.nextInt(4)];
+            case "REVIEW" -> random.nextBoolean() ? "REVIEW" : "DONE";
+            default -> "DONE";
+        };
+    }
+
+    /**
+     * Fills search_documents the way the V8 triggers would, in parallel ranges of item ids.
+     */
+    private void indexSearchDocuments() throws Exception {
+        long started = System.nanoTime();
+        long first = firstItemIds[0];
+        long end = firstItemIds[options.projects()];
+        long chunk = Math.max(1, (end - first + options.parallelism() - 1) / options.parallelism());
+        try (ExecutorService executor = Executors.newFixedThreadPool(options.parallelism())) {
+            List<Future<?>> ranges = new ArrayList<>();
+            for (long from = first; from < end; from += chunk) {
+                long to = Math.min(end, from + chunk);
+                long rangeStart = from;
+                ranges.add(executor.submit(() -> {
+                    try (Connection connection = connect(options.scrumCoreDbUrl())) {
+                        rows.get("search_documents").add(update(connection,
+                                "SELECT count(search_documents_put('BACKLOG_ITEM', id, project_id, NULL, title, "
+                                        + "description, acceptance_criteria)) FROM product_backlog_items "
+                                        + "WHERE id >= ? AND id < ?", rangeStart, to));
+                        rows.get("search_documents").add(update(connection,
+                                "SELECT count(search_documents_put('TASK', t.id, p.project_id, t.backlog_item_id, "
+                                        + "t.title, t.description, NULL)) FROM tasks t "
+                                        + "JOIN product_backlog_items p ON p.id = t.backlog_item_id "
+                                        + "WHERE t.backlog_item_id >= ? AND t.backlog_item_id < ?", rangeStart, to));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> range : ranges) {
+                range.get();
+            }
+        }
+        System.out.printf("search_documents written in %.0f s%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    // helpers
+
+    private int developers(int project) {
+        return (int) (firstUserIds[project + 1] - firstUserIds[project]) - 2;
+    }
+
+    private long developerId(int project, int developer) {
+        return firstUserIds[project] + 2 + developer;
+    }
+
+    private int role(String name) {
+        Integer id = roleIds.get(name);
+        if (id == null) {
+            throw new IllegalStateException("Role " + name + " is missing from identity_db");
+        }
+        return id;
+    }
+
+    /**
+     * Approval requests go out two days before the sprint starts, or today for the planned
+     * sprint when that is sooner.
+     */
+    private LocalDateTime requestedAt(Sprint sprint) {
+        return min(sprint.startDate().minusDays(2).atTime(10, 0), options.asOf().atTime(8, 0));
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static String label(String type) {
+        return switch (type) {
+            case "BUG" -> "Bug";
+            case "EPIC" -> "Epic";
+            case "TECHNICAL_TASK" -> "Technical task";
+            default -> "Story";
+        };
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int w = 0; w < count; w++) {
+            if (w > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private Connection connect(String url) throws SQLException {
+        return DatasetSeeder.connect(url, options.dbUsername(), options.dbPassword());
+    }
+
+    private static void requireTables(Connection connection, String... tables) throws SQLException {
+        for (String table : tables) {
+            if (!exists(connection, "SELECT 1 FROM pg_tables WHERE schemaname = 'public' AND tablename = '" + table + "'")) {
+                throw new IllegalStateException("Table " + table + " is missing from " + connection.getCatalog()
+                        + "; start the service once so Flyway creates the schema");
+            }
+        }
+    }
+
+    private static boolean exists(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next();
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long update(Connection connection, String sql, long from, long to) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, from);
+            statement.setLong(2, to);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * The first id after both the rows already there and the values the sequence handed out.
+     */
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT GREATEST("
+                     + "(SELECT COALESCE(max(id), 0) FROM " + table + "), "
+                     + "(SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END "
+                     + "FROM " + sequence(connection, table) + ")) + 1")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void resetSequence(Connection connection, String table) throws SQLException {
+        execute(connection, "SELECT setval('" + sequence(connection, table) + "', "
+                + "(SELECT COALESCE(max(id), 1) FROM " + table + "))");
+    }
+
+    private static String sequence(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_get_serial_sequence('" + table + "', 'id')")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static void vacuumAnalyze(Connection connection, String... tables) throws SQLException {
+        for (String table : tables) {
+            execute(connection, "VACUUM (ANALYZE) " + table);
+        }
+    }
+}
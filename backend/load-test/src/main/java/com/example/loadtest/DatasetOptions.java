@@ -0,0 +1,71 @@
+package com.example.loadtest;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Options of the {@link DatasetGenerator}, all in {@code --name=value} form. Sizes are
+ * {@link Distribution}s sampled per project or per sprint; statuses are {@link ValueMix}es.
+ * The defaults give about 1.5 million backlog items for 2000 projects.
+ */
+record DatasetOptions(int projects,
+                      long seed,
+                      LocalDate asOf,
+                      Distribution developers,
+                      Distribution historyWeeks,
+                      Distribution sprintLengthWeeks,
+                      Distribution sprintItems,
+                      Distribution backlogItems,
+                      Distribution tasksPerItem,
+                      Distribution approversPerItem,
+                      ValueMix itemTypes,
+                      ValueMix completedItemStatuses,
+                      ValueMix boardColumns,
+                      ValueMix approvalStatuses,
+                      ValueMix backlogStatuses,
+                      String identityDbUrl,
+                      String scrumCoreDbUrl,
+                      String dbUsername,
+                      String dbPassword,
+                      int parallelism,
+                      boolean truncate,
+                      boolean searchDocuments) {
+
+    static DatasetOptions parse(String... args) {
+        Arguments arguments = Arguments.parse(args);
+        DatasetOptions options = new DatasetOptions(
+                arguments.takeInt("projects", 2000),
+                arguments.takeLong("seed", 42),
+                LocalDate.parse(arguments.take("as-of", LocalDate.now().toString())),
+                Distribution.parse(arguments.take("developers", "uniform:3:9"), 1, 50),
+                Distribution.parse(arguments.take("history-weeks", "uniform:12:156")),
+                Distribution.parse(arguments.take("sprint-length-weeks", "normal:2:0.7"), 1, 4),
+                Distribution.parse(arguments.take("sprint-items", "normal:12:4"), 1, 200),
+                Distribution.parse(arguments.take("backlog-items", "lognormal:150:1.0"), 0, 20_000),
+                Distribution.parse(arguments.take("tasks-per-item", "uniform:2:6")),
+                Distribution.parse(arguments.take("approvers-per-item", "uniform:1:3"), 1, 50),
+                ValueMix.parse(arguments.take("type-mix", "STORY:70,BUG:20,TECHNICAL_TASK:8,EPIC:2"),
+                        Set.of("STORY", "EPIC", "BUG", "TECHNICAL_TASK")),
+                ValueMix.parse(arguments.take("completed-status-mix", "ACCEPTED:92,DONE:8"),
+                        Set.of("ACCEPTED", "DONE")),
+                ValueMix.parse(arguments.take("board-column-mix", "TO_DO:30,IN_PROGRESS:35,REVIEW:15,DONE:20"),
+                        Set.of("TO_DO", "IN_PROGRESS", "REVIEW", "DONE")),
+                ValueMix.parse(arguments.take("approval-status-mix", "PENDING:70,APPROVED:25,REJECTED:5"),
+                        Set.of("PENDING", "APPROVED", "REJECTED")),
+                ValueMix.parse(arguments.take("backlog-status-mix", "BACKLOG:94,REJECTED:6"),
+                        Set.of("BACKLOG", "SPRINT_READY", "REJECTED")),
+                arguments.take("identity-db", "jdbc:postgresql://localhost:5432/identity_db"),
+                arguments.take("scrum-core-db", "jdbc:postgresql://localhost:5433/scrum_core_db"),
+                arguments.take("db-username", "postgres"),
+                arguments.take("db-password", "postgres"),
+                arguments.takeInt("parallelism", Math.min(4, Runtime.getRuntime().availableProcessors())),
+                arguments.takeBoolean("truncate", false),
+                arguments.takeBoolean("search-documents", true));
+        arguments.requireAllTaken();
+
+        if (options.projects() < 1 || options.parallelism() < 1) {
+            throw new IllegalArgumentException("projects and parallelism must be at least 1");
+        }
+        return options;
+    }
+}
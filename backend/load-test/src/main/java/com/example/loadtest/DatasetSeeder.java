@@ -0,0 +1,165 @@
+package com.example.loadtest;
+
+import com.example.loadtest.TeamFixture.Member;
+import com.example.loadtest.TeamFixture.Role;
+import org.postgresql.Driver;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seeds the synthetic organisation: users, teams and projects straight into identity_db (the
+ * service has no sign-up or team endpoints a load test could use), then the backlog and a
+ * started sprint per team through the scrum-core API, as the Product Owner and Scrum Master
+ * would. Previous load-test data is removed first, so runs with the same seed start alike.
+ */
+final class DatasetSeeder {
+
+    static final String PASSWORD = "load-test";
+    private static final String EMAIL_DOMAIN = "@loadtest.local";
+    private static final String TEAM_PREFIX = "Load test team ";
+
+    private DatasetSeeder() {
+    }
+
+    /**
+     * Drops everything in the public schema; Flyway recreates it when the service starts.
+     */
+    static void resetSchema(String url, LoadTestOptions options) throws SQLException {
+        try (Connection connection = connect(url, options.dbUsername(), options.dbPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA public CASCADE");
+            statement.execute("CREATE SCHEMA public");
+        }
+    }
+
+    static List<TeamFixture> seedIdentity(LoadTestOptions options) throws SQLException {
+        // BCrypt is deliberately slow; every load-test user shares one hash
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<TeamFixture> teams = new ArrayList<>(options.teams());
+
+        try (Connection connection = connect(options.identityDbUrl(), options.dbUsername(), options.dbPassword())) {
+            connection.setAutoCommit(false);
+            deletePrevious(connection);
+
+            for (int t = 1; t <= options.teams(); t++) {
+                Member productOwner = insertUser(connection, "po-" + t, Role.PRODUCT_OWNER, passwordHash);
+                Member scrumMaster = insertUser(connection, "sm-" + t, Role.SCRUM_MASTER, passwordHash);
+                List<Member> developers = new ArrayList<>(options.developersPerTeam());
+                for (int d = 1; d <= options.developersPerTeam(); d++) {
+                    developers.add(insertUser(connection, "dev-" + t + "-" + d, Role.DEVELOPER, passwordHash));
+                }
+
+                long teamId = insertReturningId(connection,
+                        "INSERT INTO teams (name, description, product_owner_id, scrum_master_id) VALUES (?, ?, ?, ?) RETURNING id",
+                        TEAM_PREFIX + t, "Synthetic load-test team", productOwner.id(), scrumMaster.id());
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO team_members (team_id, user_id, role) VALUES (?, ?, 'DEVELOPER')")) {
+                    for (Member developer : developers) {
+                        statement.setLong(1, teamId);
+                        statement.setLong(2, developer.id());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+                long projectId = insertReturningId(connection,
+                        "INSERT INTO projects (name, description, team_id, status, default_sprint_length, timezone, created_by) "
+                                + "VALUES (?, ?, ?, 'ACTIVE', 2, 'UTC', ?) RETURNING id",
+                        "Load test project " + t, "Synthetic load-test project", teamId, productOwner.id());
+                try (PreparedStatement statement = connection.prepareStatement("UPDATE teams SET project_id = ? WHERE id = ?")) {
+                    statement.setLong(1, projectId);
+                    statement.setLong(2, teamId);
+                    statement.executeUpdate();
+                }
+
+                teams.add(new TeamFixture(t, teamId, projectId, productOwner, scrumMaster, developers,
+                        options.sprintItems()));
+            }
+            connection.commit();
+        }
+        return teams;
+    }
+
+    /**
+     * Per team and in parallel: every member logs in, the Product Owner fills the backlog and
+     * the first sprint is planned and started.
+     */
+    static void seedScrumCore(List<TeamFixture> teams, ApiClient api, LoadTestOptions options) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> seeded = new ArrayList<>(teams.size());
+            for (TeamFixture team : teams) {
+                Random random = new Random(options.seed() * 31 + team.index());
+                seeded.add(executor.submit(() -> {
+                    for (Member member : team.members()) {
+                        TeamActions.login(api, team, member);
+                    }
+                    for (int i = 0; i < options.backlogItemsPerTeam(); i++) {
+                        TeamActions.createBacklogItem(api, team, random);
+                    }
+                    team.activeSprint(TeamActions.planAndStartSprint(api, team, random));
+                    return null;
+                }));
+            }
+            for (Future<?> future : seeded) {
+                future.get();
+            }
+        }
+    }
+
+    private static void deletePrevious(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM projects WHERE team_id IN (SELECT id FROM teams WHERE name LIKE '" + TEAM_PREFIX + "%')");
+            statement.executeUpdate("DELETE FROM teams WHERE name LIKE '" + TEAM_PREFIX + "%'");
+            statement.executeUpdate("DELETE FROM users WHERE email LIKE '%" + EMAIL_DOMAIN + "'");
+        }
+    }
+
+    private static Member insertUser(Connection connection, String name, Role role, String passwordHash)
+            throws SQLException {
+        String email = name + EMAIL_DOMAIN;
+        long id = insertReturningId(connection,
+                "INSERT INTO users (email, password_hash, first_name, last_name, status) VALUES (?, ?, ?, ?, 'ACTIVE') RETURNING id",
+                email, passwordHash, "Load", name);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO user_roles (user_id, role_id) SELECT ?, id FROM roles WHERE name = ?")) {
+            statement.setLong(1, id);
+            statement.setString(2, role.name());
+            statement.executeUpdate();
+        }
+        return new Member(id, email, role);
+    }
+
+    private static long insertReturningId(Connection connection, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * Straight through the driver: DriverManager only hands out drivers visible to the caller's
+     * class loader, and the services register theirs in their own loaders.
+     */
+    static Connection connect(String url, String username, String password) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        return new Driver().connect(url, properties);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.loadtest;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * A non-negative integer distribution given on the command line:
+ * <ul>
+ *   <li>{@code const:N}</li>
+ *   <li>{@code uniform:MIN:MAX} (both inclusive)</li>
+ *   <li>{@code normal:MEAN:SD}</li>
+ *   <li>{@code lognormal:MEDIAN:SIGMA}, the long tail of real backlogs: most projects are
+ *       small, a few are huge</li>
+ * </ul>
+ * Samples are rounded and clamped to {@code [min, max]}.
+ */
+final class Distribution {
+
+    private enum Kind { CONST, UNIFORM, NORMAL, LOGNORMAL }
+
+    private final String spec;
+    private final Kind kind;
+    private final double first;
+    private final double second;
+    private final int min;
+    private final int max;
+
+    private Distribution(String spec, Kind kind, double first, double second, int min, int max) {
+        this.spec = spec;
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+        this.min = min;
+        this.max = max;
+    }
+
+    static Distribution parse(String spec) {
+        return parse(spec, 0, Integer.MAX_VALUE);
+    }
+
+    static Distribution parse(String spec, int min, int max) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        Kind kind = switch (parts[0]) {
+            case "const" -> Kind.CONST;
+            case "uniform" -> Kind.UNIFORM;
+            case "normal" -> Kind.NORMAL;
+            case "lognormal" -> Kind.LOGNORMAL;
+            default -> throw new IllegalArgumentException("Unknown distribution '" + spec
+                    + "', use const:N, uniform:MIN:MAX, normal:MEAN:SD or lognormal:MEDIAN:SIGMA");
+        };
+        if (parts.length != (kind == Kind.CONST ? 2 : 3)) {
+            throw new IllegalArgumentException("Wrong number of parameters in distribution: " + spec);
+        }
+        double first = Double.parseDouble(parts[1]);
+        double second = kind == Kind.CONST ? 0 : Double.parseDouble(parts[2]);
+        if (first < 0 || second < 0 || (kind == Kind.UNIFORM && second < first)) {
+            throw new IllegalArgumentException("Invalid parameters in distribution: " + spec);
+        }
+        return new Distribution(spec, kind, first, second, min, max);
+    }
+
+    int sample(Random random) {
+        double value = switch (kind) {
+            case CONST -> first;
+            case UNIFORM -> first + random.nextInt((int) (second - first) + 1);
+            case NORMAL -> first + random.nextGaussian() * second;
+            case LOGNORMAL -> first * Math.exp(random.nextGaussian() * second);
+        };
+        return (int) Math.max(min, Math.min(max, Math.round(value)));
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarFile;
+
+/**
+ * One service running in this JVM in a class loader of its own. Both services ship an
+ * {@code application.yml} and {@code db/migration/V1__init_schema.sql}, so on a shared
+ * classpath each would pick up the other's configuration and migrations; the loader sees the
+ * harness classpath minus the other service.
+ */
+final class IsolatedService implements AutoCloseable {
+
+    private final String name;
+    private final URLClassLoader classLoader;
+    private final AutoCloseable context;
+
+    private IsolatedService(String name, URLClassLoader classLoader, AutoCloseable context) {
+        this.name = name;
+        this.classLoader = classLoader;
+        this.context = context;
+    }
+
+    static IsolatedService start(String name, String applicationClass, String otherApplicationClass,
+                                 Map<String, Object> properties, Map<String, LongAdder> kafkaRecords,
+                                 LongAdder rabbitMessages) throws Exception {
+        URLClassLoader classLoader = new URLClassLoader(name, classpathWithout(otherApplicationClass),
+                ClassLoader.getPlatformClassLoader());
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            Method start = classLoader.loadClass(ServiceBootstrap.class.getName())
+                    .getMethod("start", String.class, Map.class, Map.class, LongAdder.class);
+            AutoCloseable context = (AutoCloseable) start.invoke(null, applicationClass, properties,
+                    kafkaRecords, rabbitMessages);
+            return new IsolatedService(name, classLoader, context);
+        } catch (InvocationTargetException e) {
+            classLoader.close();
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static URL[] classpathWithout(String applicationClass) {
+        String resource = applicationClass.replace('.', '/') + ".class";
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(Path::of)
+                .filter(entry -> !contains(entry, resource))
+                .map(IsolatedService::toUrl)
+                .toArray(URL[]::new);
+    }
+
+    private static boolean contains(Path entry, String resource) {
+        if (Files.isDirectory(entry)) {
+            return Files.exists(entry.resolve(resource));
+        }
+        if (!Files.isRegularFile(entry)) {
+            return false;
+        }
+        try (JarFile jar = new JarFile(entry.toFile())) {
+            return jar.getEntry(resource) != null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static URL toUrl(Path entry) {
+        try {
+            return entry.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            context.close();
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
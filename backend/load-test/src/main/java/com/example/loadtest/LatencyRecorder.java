@@ -0,0 +1,69 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds, 3 significant digits) and response counts for
+ * one phase of a run.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    static final class EndpointStats {
+
+        final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder success = new LongAdder();
+        final LongAdder notModified = new LongAdder();
+        final LongAdder clientErrors = new LongAdder();
+        final LongAdder serverErrors = new LongAdder();
+        final LongAdder failures = new LongAdder();
+
+        long count() {
+            return latencyMicros.getTotalCount();
+        }
+    }
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final long startedNanos = System.nanoTime();
+    private volatile long stoppedNanos;
+
+    void record(String endpoint, int status, long elapsedNanos) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, ignored -> new EndpointStats());
+        stats.latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status < 0) {
+            stats.failures.increment();
+        } else if (status == 304) {
+            stats.notModified.increment();
+        } else if (status >= 500) {
+            stats.serverErrors.increment();
+        } else if (status >= 400) {
+            stats.clientErrors.increment();
+        } else {
+            stats.success.increment();
+        }
+    }
+
+    /**
+     * Ends the phase; throughput is computed over the time until here.
+     */
+    void stop() {
+        stoppedNanos = System.nanoTime();
+    }
+
+    double elapsedSeconds() {
+        long end = stoppedNanos != 0 ? stoppedNanos : System.nanoTime();
+        return (end - startedNanos) / 1e9;
+    }
+
+    Map<String, EndpointStats> endpoints() {
+        return new TreeMap<>(endpoints);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.loadtest;
+
+import com.example.loadtest.LatencyRecorder.EndpointStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prints the per-endpoint table and writes {@code summary.json} plus one HdrHistogram
+ * percentile distribution ({@code .hgrm}, milliseconds) per endpoint into
+ * {@code <report-dir>/<profile>-<timestamp>/}. The .hgrm files load into HdrHistogram's plotter,
+ * so two runs can be compared on one chart.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadReport() {
+    }
+
+    static Path write(LoadTestOptions options, LatencyRecorder recorder, Map<String, LongAdder> scenarioFailures,
+                      Map<String, LongAdder> kafkaRecords, LongAdder rabbitMessages,
+                      Map<String, Long> stubRequests) throws IOException {
+        print(System.out, options, recorder);
+
+        Path directory = options.reportDir()
+                .resolve(options.profile().profileName() + "-" + LocalDateTime.now().format(RUN_ID));
+        Files.createDirectories(directory);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        recorder.endpoints().forEach((endpoint, stats) -> {
+            endpoints.put(endpoint, summary(stats, recorder.elapsedSeconds()));
+            writeHistogram(directory.resolve(fileName(endpoint) + ".hgrm"), stats.latencyMicros);
+        });
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("profile", options.profile().profileName());
+        config.put("seed", options.seed());
+        config.put("warmupSeconds", options.warmup().toSeconds());
+        config.put("durationSeconds", options.duration().toSeconds());
+        config.put("teams", options.teams());
+        config.put("developersPerTeam", options.developersPerTeam());
+        config.put("users", options.users());
+        config.put("thinkMillis", options.effectiveThinkMillis());
+        config.put("serviceProperties", options.serviceProperties());
+
+        Map<String, Object> standIns = new LinkedHashMap<>();
+        standIns.put("kafkaRecords", sums(kafkaRecords));
+        standIns.put("rabbitMessages", rabbitMessages.sum());
+        standIns.put("nodeServiceRequests", stubRequests);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("config", config);
+        summary.put("measuredSeconds", recorder.elapsedSeconds());
+        summary.put("endpoints", endpoints);
+        summary.put("scenarioFailures", sums(scenarioFailures));
+        summary.put("standIns", standIns);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("summary.json").toFile(), summary);
+        return directory;
+    }
+
+    static void print(PrintStream out, LoadTestOptions options, LatencyRecorder recorder) {
+        double seconds = recorder.elapsedSeconds();
+        out.printf("%nProfile %s, %d users, %.0f s measured%n", options.profile().profileName(), options.users(), seconds);
+        out.printf("%-48s %8s %8s %7s %6s %6s %6s %6s %8s %8s %8s %8s %8s%n", "endpoint", "count", "req/s",
+                "ok", "304", "4xx", "5xx", "err", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        recorder.endpoints().forEach((endpoint, stats) -> {
+            Histogram latency = stats.latencyMicros;
+            out.printf("%-48s %8d %8.1f %7d %6d %6d %6d %6d %8.1f %8.1f %8.1f %8.1f %8.1f%n", endpoint,
+                    stats.count(), stats.count() / seconds, stats.success.sum(), stats.notModified.sum(),
+                    stats.clientErrors.sum(), stats.serverErrors.sum(), stats.failures.sum(),
+                    millis(latency.getValueAtPercentile(PERCENTILES[0])),
+                    millis(latency.getValueAtPercentile(PERCENTILES[1])),
+                    millis(latency.getValueAtPercentile(PERCENTILES[2])),
+                    millis(latency.getValueAtPercentile(PERCENTILES[3])),
+                    millis(latency.getMaxValue()));
+        });
+    }
+
+    private static Map<String, Object> summary(EndpointStats stats, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", stats.count());
+        summary.put("requestsPerSecond", stats.count() / seconds);
+        summary.put("ok", stats.success.sum());
+        summary.put("notModified", stats.notModified.sum());
+        summary.put("clientErrors", stats.clientErrors.sum());
+        summary.put("serverErrors", stats.serverErrors.sum());
+        summary.put("failures", stats.failures.sum());
+
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("mean", stats.latencyMicros.getMean() / 1000.0);
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile)),
+                    millis(stats.latencyMicros.getValueAtPercentile(percentile)));
+        }
+        latency.put("max", millis(stats.latencyMicros.getMaxValue()));
+        summary.put("latencyMillis", latency);
+        return summary;
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((name, counter) -> sums.put(name, counter.sum()));
+        return sums;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options, all in {@code --name=value} form. {@code --service.<property>=<value>}
+ * is passed to both services, e.g. {@code --service.spring.threads.virtual.enabled=true}.
+ */
+record LoadTestOptions(WorkloadProfile profile,
+                       Duration warmup,
+                       Duration duration,
+                       long seed,
+                       int teams,
+                       int developersPerTeam,
+                       int backlogItemsPerTeam,
+                       int sprintItems,
+                       Long thinkMillis,
+                       String identityDbUrl,
+                       String scrumCoreDbUrl,
+                       String dbUsername,
+                       String dbPassword,
+                       boolean reset,
+                       Path reportDir,
+                       Map<String, String> serviceProperties) {
+
+    static LoadTestOptions parse(String... args) {
+        Arguments arguments = Arguments.parse(args);
+        String thinkMillis = arguments.take("think-ms", null);
+        LoadTestOptions options = new LoadTestOptions(
+                WorkloadProfile.fromName(arguments.take("profile", "sprint-day")),
+                duration(arguments.take("warmup", "15s")),
+                duration(arguments.take("duration", "60s")),
+                arguments.takeLong("seed", 42),
+                arguments.takeInt("teams", 10),
+                arguments.takeInt("developers", 5),
+                arguments.takeInt("backlog-items", 60),
+                arguments.takeInt("sprint-items", 8),
+                thinkMillis != null ? Long.valueOf(thinkMillis) : null,
+                arguments.take("identity-db", "jdbc:postgresql://localhost:5432/identity_db"),
+                arguments.take("scrum-core-db", "jdbc:postgresql://localhost:5433/scrum_core_db"),
+                arguments.take("db-username", "postgres"),
+                arguments.take("db-password", "postgres"),
+                arguments.takeBoolean("reset", false),
+                Path.of(arguments.take("report-dir", "target/load-test")),
+                arguments.takeWithPrefix("service."));
+        arguments.requireAllTaken();
+
+        if (options.teams() < 1 || options.developersPerTeam() < 1 || options.sprintItems() < 1) {
+            throw new IllegalArgumentException("teams, developers and sprint-items must be at least 1");
+        }
+        return options;
+    }
+
+    long effectiveThinkMillis() {
+        return thinkMillis != null ? thinkMillis : profile.thinkMillis();
+    }
+
+    int users() {
+        return teams * (developersPerTeam + 2);
+    }
+
+    /**
+     * Accepts {@code 500ms}, {@code 90s}, {@code 2m} or ISO-8601 ({@code PT2M}).
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.startsWith("pt")) {
+            return Duration.parse(text);
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+}
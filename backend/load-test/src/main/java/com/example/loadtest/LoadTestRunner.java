@@ -0,0 +1,139 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Boots identity-service and scrum-core-service in this JVM against local Postgres databases,
+ * with in-process Kafka/RabbitMQ stand-ins and a stub for the Node services, seeds a synthetic
+ * organisation and replays a {@link WorkloadProfile}. Nothing leaves the machine.
+ * <p>
+ * Each team member is a virtual user in a closed loop (action, think time, action), so the
+ * offered load is set by {@code --teams}, {@code --developers} and {@code --think-ms}. Requests
+ * during {@code --warmup} are discarded; the {@code --duration} that follows is measured and
+ * reported per endpoint. Options are listed in {@link LoadTestOptions}. From the repository root:
+ * <pre>
+ * mvn -f backend/pom.xml install -DskipTests
+ * mvn -o -f backend/load-test/pom.xml exec:exec \
+ *     -Dloadtest.args="--profile=sprint-boundary --teams=20 --duration=2m --service.DB_POOL_SIZE=20"
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private static final String IDENTITY_APPLICATION = "com.example.identityservice.IdentityServiceApplication";
+    private static final String SCRUM_CORE_APPLICATION = "com.example.scrumcoreservice.ScrumCoreServiceApplication";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        if (options.reset()) {
+            DatasetSeeder.resetSchema(options.identityDbUrl(), options);
+            DatasetSeeder.resetSchema(options.scrumCoreDbUrl(), options);
+        }
+
+        Map<String, LongAdder> kafkaRecords = new ConcurrentHashMap<>();
+        LongAdder rabbitMessages = new LongAdder();
+        int identityPort = freePort();
+        int scrumCorePort = freePort();
+
+        try (StubHttpServer nodeServices = StubHttpServer.start()) {
+            Map<String, Object> identityProperties = serviceProperties(options, identityPort, options.identityDbUrl());
+            Map<String, Object> scrumCoreProperties = serviceProperties(options, scrumCorePort, options.scrumCoreDbUrl());
+            scrumCoreProperties.put("identity-service.url", "http://localhost:" + identityPort);
+            scrumCoreProperties.put("reporting-service.url", nodeServices.uri());
+            scrumCoreProperties.put("collaboration-service.url", nodeServices.uri());
+            scrumCoreProperties.putAll(options.serviceProperties());
+            identityProperties.putAll(options.serviceProperties());
+
+            System.out.println("Starting identity-service on port " + identityPort);
+            try (IsolatedService identity = IsolatedService.start("identity-service", IDENTITY_APPLICATION,
+                    SCRUM_CORE_APPLICATION, identityProperties, kafkaRecords, rabbitMessages)) {
+                // Flyway of the identity schema has run, so the organisation can be seeded
+                List<TeamFixture> teams = DatasetSeeder.seedIdentity(options);
+
+                System.out.println("Starting scrum-core-service on port " + scrumCorePort);
+                try (IsolatedService scrumCore = IsolatedService.start("scrum-core-service", SCRUM_CORE_APPLICATION,
+                        IDENTITY_APPLICATION, scrumCoreProperties, kafkaRecords, rabbitMessages)) {
+                    ApiClient api = new ApiClient(URI.create("http://localhost:" + identityPort),
+                            URI.create("http://localhost:" + scrumCorePort + "/api"));
+                    run(options, teams, api, kafkaRecords, rabbitMessages, nodeServices);
+                }
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, List<TeamFixture> teams, ApiClient api,
+                            Map<String, LongAdder> kafkaRecords, LongAdder rabbitMessages,
+                            StubHttpServer nodeServices) throws Exception {
+        System.out.printf("Seeding %d teams of %d%n", options.teams(), options.developersPerTeam() + 2);
+        api.recordInto(new LatencyRecorder());
+        DatasetSeeder.seedScrumCore(teams, api, options);
+
+        Map<String, LongAdder> scenarioFailures = new ConcurrentHashMap<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<VirtualUser> users = new ArrayList<>(options.users());
+        long runStartedMillis = System.currentTimeMillis();
+        for (TeamFixture team : teams) {
+            for (TeamFixture.Member member : team.members()) {
+                users.add(new VirtualUser(api, team, member, options.profile(), options.effectiveThinkMillis(),
+                        options.seed(), runStartedMillis, running, scenarioFailures));
+            }
+        }
+
+        System.out.printf("Running profile %s with %d users: %s warm-up, %s measured%n",
+                options.profile().profileName(), users.size(), options.warmup(), options.duration());
+        LatencyRecorder measured;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            users.forEach(executor::submit);
+
+            TimeUnit.MILLISECONDS.sleep(options.warmup().toMillis());
+            scenarioFailures.clear();
+            measured = new LatencyRecorder();
+            api.recordInto(measured);
+            TimeUnit.MILLISECONDS.sleep(options.duration().toMillis());
+            measured.stop();
+            api.recordInto(new LatencyRecorder());
+            running.set(false);
+        }
+
+        Path report = LoadReport.write(options, measured, scenarioFailures, kafkaRecords, rabbitMessages,
+                nodeServices.requests());
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private static Map<String, Object> serviceProperties(LoadTestOptions options, int port, String dbUrl) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", port);
+        properties.put("spring.datasource.url", dbUrl);
+        properties.put("spring.datasource.username", options.dbUsername());
+        properties.put("spring.datasource.password", options.dbPassword());
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        // Hibernate also scans the system class loader, whose copies do not match the service's
+        properties.put("logging.level.org.hibernate.boot.registry.classloading.internal.AggregatedServiceLoader", "ERROR");
+        // Never dialled: producers and the RabbitMQ template are replaced by StandInBrokers
+        properties.put("spring.kafka.bootstrap-servers", "localhost:9");
+        return properties;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
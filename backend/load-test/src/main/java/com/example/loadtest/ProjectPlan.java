@@ -0,0 +1,205 @@
+package com.example.loadtest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * What one generated project looks like: its team size, its sprint history (completed sprints,
+ * the active one and the one being planned) and every backlog item's place in it. Drawn from a
+ * generator seeded with the run seed and the project index, so every pass over the project, and
+ * every run with the same options, sees the same plan.
+ * <p>
+ * Items follow the application's rules: completed sprints keep only DONE and ACCEPTED items
+ * (unfinished ones went back to the backlog), and an item proposed for the planned sprint is in
+ * it only once every approver has approved, and back in the backlog after a rejection.
+ */
+final class ProjectPlan {
+
+    static final String COMPLETED = "COMPLETED";
+    static final String ACTIVE = "ACTIVE";
+    static final String PLANNED = "PLANNED";
+
+    private static final int[] STORY_POINTS = {1, 2, 3, 5, 8, 13};
+    private static final int RANK_GAP = 1024; // BacklogService.RANK_GAP
+
+    record Sprint(int number, String status, LocalDate startDate, LocalDate endDate, int firstItem, int items) {
+    }
+
+    /**
+     * @param sprint           index into {@link #sprints()}, -1 for items never proposed for one
+     * @param approvers        developer indices asked to approve the item for its sprint
+     * @param approvalStatuses their answers, in the same order
+     * @param committed        whether the item has a sprint_backlog_items row
+     */
+    record Item(int sprint, String status, String boardColumn, String type, int storyPoints, int priority,
+                LocalDateTime createdAt, LocalDateTime reviewedAt, int[] approvers, String[] approvalStatuses,
+                int tasks, boolean committed) {
+    }
+
+    private final int index;
+    private final int developers;
+    private final int sprintLengthWeeks;
+    private final List<Sprint> sprints;
+    private final List<Item> items;
+    private final int[] positions;
+
+    private ProjectPlan(int index, int developers, int sprintLengthWeeks, List<Sprint> sprints, List<Item> items) {
+        this.index = index;
+        this.developers = developers;
+        this.sprintLengthWeeks = sprintLengthWeeks;
+        this.sprints = sprints;
+        this.items = items;
+        this.positions = rank(sprints, items);
+    }
+
+    static ProjectPlan create(DatasetOptions options, int index) {
+        Random random = new Random(options.seed() * 31 + index);
+        int developers = options.developers().sample(random);
+        int lengthWeeks = options.sprintLengthWeeks().sample(random);
+        int completedSprints = options.historyWeeks().sample(random) / lengthWeeks;
+        LocalDate activeStart = options.asOf().minusDays(random.nextInt(lengthWeeks * 7));
+        LocalDate firstStart = activeStart.minusWeeks((long) completedSprints * lengthWeeks);
+
+        List<Sprint> sprints = new ArrayList<>(completedSprints + 2);
+        List<Item> items = new ArrayList<>();
+        for (int s = 0; s < completedSprints + 2; s++) {
+            String status = s < completedSprints ? COMPLETED : s == completedSprints ? ACTIVE : PLANNED;
+            LocalDate start = firstStart.plusWeeks((long) s * lengthWeeks);
+            LocalDate end = start.plusWeeks(lengthWeeks).minusDays(1);
+            int size = options.sprintItems().sample(random);
+            int firstItem = items.size();
+            for (int i = 0; i < size; i++) {
+                items.add(sprintItem(options, random, s, status, developers, start, end));
+            }
+            sprints.add(new Sprint(s + 1, status, start, end, firstItem, size));
+        }
+
+        int backlogItems = options.backlogItems().sample(random);
+        int historyDays = (int) (options.asOf().toEpochDay() - firstStart.toEpochDay()) + 1;
+        for (int i = 0; i < backlogItems; i++) {
+            items.add(backlogItem(options, random, historyDays));
+        }
+        return new ProjectPlan(index, developers, lengthWeeks, sprints, items);
+    }
+
+    private static Item sprintItem(DatasetOptions options, Random random, int sprint, String sprintStatus,
+                                   int developers, LocalDate start, LocalDate end) {
+        String type = options.itemTypes().pick(random);
+        int storyPoints = STORY_POINTS[random.nextInt(STORY_POINTS.length)];
+        int priority = random.nextInt(5);
+        LocalDateTime createdAt = start.minusDays(1 + random.nextInt(60)).atTime(9 + random.nextInt(8), random.nextInt(60));
+        int[] approvers = approvers(options, random, developers);
+        String[] approvalStatuses = new String[approvers.length];
+
+        return switch (sprintStatus) {
+            case COMPLETED -> {
+                Arrays.fill(approvalStatuses, "APPROVED");
+                String status = options.completedItemStatuses().pick(random);
+                LocalDateTime reviewedAt = status.equals("ACCEPTED") ? end.atTime(16, random.nextInt(60)) : null;
+                yield new Item(sprint, status, "DONE", type, storyPoints, priority, createdAt, reviewedAt,
+                        approvers, approvalStatuses, options.tasksPerItem().sample(random), true);
+            }
+            case ACTIVE -> {
+                Arrays.fill(approvalStatuses, "APPROVED");
+                String column = options.boardColumns().pick(random);
+                String status = column.equals("DONE") ? "DONE" : "IN_SPRINT";
+                yield new Item(sprint, status, column, type, storyPoints, priority, createdAt, null,
+                        approvers, approvalStatuses, options.tasksPerItem().sample(random), true);
+            }
+            default -> {
+                boolean rejected = false;
+                boolean allApproved = true;
+                for (int a = 0; a < approvers.length; a++) {
+                    approvalStatuses[a] = options.approvalStatuses().pick(random);
+                    rejected |= approvalStatuses[a].equals("REJECTED");
+                    allApproved &= approvalStatuses[a].equals("APPROVED");
+                }
+                String status = rejected ? "BACKLOG" : allApproved ? "IN_SPRINT" : "PENDING_APPROVAL";
+                yield new Item(sprint, status, null, type, storyPoints, priority, createdAt, null,
+                        approvers, approvalStatuses, 0, allApproved && !rejected);
+            }
+        };
+    }
+
+    private static Item backlogItem(DatasetOptions options, Random random, int historyDays) {
+        String type = options.itemTypes().pick(random);
+        int storyPoints = STORY_POINTS[random.nextInt(STORY_POINTS.length)];
+        int priority = random.nextInt(5);
+        int age = random.nextInt(historyDays);
+        LocalDateTime createdAt = options.asOf().minusDays(age).atTime(9 + random.nextInt(8), random.nextInt(60));
+        String status = options.backlogStatuses().pick(random);
+        LocalDateTime reviewedAt = status.equals("REJECTED") ? createdAt.plusDays(random.nextInt(age + 1)) : null;
+        return new Item(-1, status, null, type, storyPoints, priority, createdAt, reviewedAt,
+                new int[0], new String[0], 0, false);
+    }
+
+    /**
+     * Distinct developers, as many as the distribution asks for and the team has.
+     */
+    private static int[] approvers(DatasetOptions options, Random random, int developers) {
+        int[] team = new int[developers];
+        for (int d = 0; d < developers; d++) {
+            team[d] = d;
+        }
+        int count = Math.min(options.approversPerItem().sample(random), developers);
+        for (int a = 0; a < count; a++) {
+            int pick = a + random.nextInt(developers - a);
+            int swap = team[a];
+            team[a] = team[pick];
+            team[pick] = swap;
+        }
+        return Arrays.copyOf(team, count);
+    }
+
+    /**
+     * Sparse backlog positions: the items being planned on top, then the open backlog, the
+     * active sprint and the completed sprints, most recent first.
+     */
+    private static int[] rank(List<Sprint> sprints, List<Item> items) {
+        int[] positions = new int[items.size()];
+        int next = 0;
+        int planned = sprints.size() - 1;
+        Sprint plannedSprint = sprints.get(planned);
+        for (int i = plannedSprint.firstItem(); i < plannedSprint.firstItem() + plannedSprint.items(); i++) {
+            positions[i] = ++next * RANK_GAP;
+        }
+        for (int i = plannedSprint.firstItem() + plannedSprint.items(); i < items.size(); i++) {
+            positions[i] = ++next * RANK_GAP;
+        }
+        for (int s = planned - 1; s >= 0; s--) {
+            Sprint sprint = sprints.get(s);
+            for (int i = sprint.firstItem(); i < sprint.firstItem() + sprint.items(); i++) {
+                positions[i] = ++next * RANK_GAP;
+            }
+        }
+        return positions;
+    }
+
+    int index() {
+        return index;
+    }
+
+    int developers() {
+        return developers;
+    }
+
+    int sprintLengthWeeks() {
+        return sprintLengthWeeks;
+    }
+
+    List<Sprint> sprints() {
+        return sprints;
+    }
+
+    List<Item> items() {
+        return items;
+    }
+
+    int position(int item) {
+        return positions[item];
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.loadtest;
+
+import com.example.loadtest.ApiClient.Response;
+import com.example.loadtest.TeamFixture.ActiveSprint;
+import com.example.loadtest.TeamFixture.Role;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.loadtest.ApiClient.Service.SCRUM_CORE;
+
+/**
+ * One user interaction, as the frontend performs it. Endpoint labels are the mapped paths, so
+ * latencies aggregate per endpoint rather than per id.
+ */
+enum Scenario {
+
+    /**
+     * Login followed by the profile lookup the frontend does right after it.
+     */
+    LOGIN(EnumSet.allOf(Role.class)) {
+        @Override
+        void run(VirtualUser user) {
+            TeamActions.login(user.api(), user.team(), user.member());
+        }
+    },
+
+    /**
+     * The board view polling with the ETag of its last response.
+     */
+    BOARD_POLL(EnumSet.allOf(Role.class)) {
+        @Override
+        void run(VirtualUser user) {
+            ActiveSprint sprint = user.team().activeSprint();
+            if (sprint == null) {
+                return;
+            }
+            Response response = user.api().get(SCRUM_CORE, "GET /api/sprints/{id}/board",
+                    "/sprints/" + sprint.id() + "/board", user.token(), user.boardETag());
+            if (response.status() == 200) {
+                user.boardETag(response.header("ETag"));
+            }
+        }
+    },
+
+    /**
+     * A card dragged to another column, then the board refresh.
+     */
+    DRAG_AND_DROP(EnumSet.allOf(Role.class)) {
+        @Override
+        void run(VirtualUser user) {
+            ActiveSprint sprint = user.team().activeSprint();
+            if (sprint == null || sprint.itemIds().isEmpty()) {
+                return;
+            }
+            long itemId = sprint.itemIds().get(user.random().nextInt(sprint.itemIds().size()));
+            String column = BOARD_COLUMNS[user.random().nextInt(BOARD_COLUMNS.length)];
+            user.api().post(SCRUM_CORE, "POST /api/sprints/{id}/board/move",
+                    "/sprints/" + sprint.id() + "/board/move", user.token(),
+                    Map.of("backlogItemId", itemId, "targetColumn", column));
+            BOARD_POLL.run(user);
+        }
+    },
+
+    /**
+     * The Product Owner drags a backlog item between two others; one in ten times the whole first
+     * page is re-sorted instead.
+     */
+    BACKLOG_REORDER(EnumSet.of(Role.PRODUCT_OWNER)) {
+        @Override
+        void run(VirtualUser user) {
+            long projectId = user.team().projectId();
+            Response page = user.api().get(SCRUM_CORE, "GET /api/projects/{id}/backlog-items",
+                    "/projects/" + projectId + "/backlog-items?limit=50&status=BACKLOG", user.token(), null);
+            if (!page.ok()) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode item : page.json().path("items")) {
+                ids.add(item.path("id").asLong());
+            }
+            if (ids.size() < 3) {
+                return;
+            }
+
+            if (user.random().nextInt(10) == 0) {
+                Collections.shuffle(ids, user.random());
+                user.api().post(SCRUM_CORE, "POST /api/backlog/project/{id}/reorder",
+                        "/backlog/project/" + projectId + "/reorder", user.token(), ids);
+                return;
+            }
+
+            Long movedId = ids.remove(user.random().nextInt(ids.size()));
+            int insertAt = user.random().nextInt(ids.size() + 1);
+            Map<String, Long> placement = new HashMap<>();
+            placement.put("afterId", insertAt > 0 ? ids.get(insertAt - 1) : null);
+            placement.put("beforeId", insertAt < ids.size() ? ids.get(insertAt) : null);
+            user.api().post(SCRUM_CORE, "POST /api/backlog/{id}/move",
+                    "/backlog/" + movedId + "/move", user.token(), placement);
+        }
+    },
+
+    /**
+     * Sprint end, then planning and starting the next sprint with the whole team (see
+     * {@link TeamActions#planAndStartSprint}). Falls back to a board poll while a teammate is
+     * already doing it.
+     */
+    SPRINT_BOUNDARY(EnumSet.of(Role.SCRUM_MASTER)) {
+        @Override
+        void run(VirtualUser user) {
+            TeamFixture team = user.team();
+            if (!team.sprintBoundary().tryLock()) {
+                BOARD_POLL.run(user);
+                return;
+            }
+            try {
+                ActiveSprint sprint = team.activeSprint();
+                if (sprint != null) {
+                    TeamActions.require(user.api().post(SCRUM_CORE, "POST /api/sprints/{id}/end",
+                            "/sprints/" + sprint.id() + "/end", user.token(), null), "end sprint");
+                    team.activeSprint(null);
+                }
+                team.activeSprint(TeamActions.planAndStartSprint(user.api(), team, user.random()));
+            } finally {
+                team.sprintBoundary().unlock();
+            }
+        }
+    };
+
+    private static final String[] BOARD_COLUMNS = {"TO_DO", "IN_PROGRESS", "REVIEW", "DONE"};
+
+    private final Set<Role> roles;
+
+    Scenario(Set<Role> roles) {
+        this.roles = roles;
+    }
+
+    /**
+     * Whether the services let this role perform the scenario.
+     */
+    boolean allowedFor(Role role) {
+        return roles.contains(role);
+    }
+
+    abstract void run(VirtualUser user);
+}
@@ -0,0 +1,36 @@
+package com.example.loadtest;
+
+import org.apache.catalina.webresources.TomcatURLStreamHandlerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Starts a service inside its {@link IsolatedService} class loader. Only JDK types cross the
+ * loader boundary.
+ */
+public final class ServiceBootstrap {
+
+    private ServiceBootstrap() {
+    }
+
+    /**
+     * @param properties passed as command line arguments, so they win over the service's
+     *                   {@code application.yml}
+     */
+    public static AutoCloseable start(String applicationClass, Map<String, Object> properties,
+                                      Map<String, LongAdder> kafkaRecords, LongAdder rabbitMessages)
+            throws ClassNotFoundException {
+        Class<?> application = Class.forName(applicationClass, true, ServiceBootstrap.class.getClassLoader());
+        // The JVM takes one URL stream handler factory, and each loader has its own Tomcat
+        TomcatURLStreamHandlerFactory.disable();
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(application)
+                .initializers(context -> context.getBeanFactory()
+                        .addBeanPostProcessor(new StandInBrokers(kafkaRecords, rabbitMessages)))
+                .run(args);
+    }
+}
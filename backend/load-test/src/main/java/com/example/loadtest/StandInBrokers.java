@@ -0,0 +1,113 @@
+package com.example.loadtest;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process Kafka and RabbitMQ stand-ins. Records and messages are still serialized with the
+ * service's own serializers and message converter, acknowledged at once, counted and dropped.
+ * Kafka listener containers (board stream feed, cache invalidation) are not started.
+ */
+final class StandInBrokers implements BeanPostProcessor {
+
+    private final Map<String, LongAdder> kafkaRecords;
+    private final LongAdder rabbitMessages;
+
+    StandInBrokers(Map<String, LongAdder> kafkaRecords, LongAdder rabbitMessages) {
+        this.kafkaRecords = kafkaRecords;
+        this.rabbitMessages = rabbitMessages;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DefaultKafkaProducerFactory<?, ?> factory) {
+            Map<String, Object> config = factory.getConfigurationProperties();
+            StandInProducer<Object, Object> producer = new StandInProducer<>(
+                    serializer(config, ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, true),
+                    serializer(config, ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, false),
+                    kafkaRecords);
+            return new MockProducerFactory<>(() -> producer);
+        }
+        if (bean instanceof AbstractKafkaListenerContainerFactory<?, ?, ?> factory) {
+            factory.setAutoStartup(false);
+        }
+        if (bean instanceof RabbitTemplate template && !(template instanceof StandInRabbitTemplate)) {
+            return new StandInRabbitTemplate(template.getMessageConverter(), rabbitMessages);
+        }
+        return bean;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Serializer<Object> serializer(Map<String, Object> config, String key, boolean isKey) {
+        Object type = config.get(key);
+        Class<?> serializerClass = type instanceof Class<?> clazz
+                ? clazz
+                : ClassUtils.resolveClassName(String.valueOf(type), StandInBrokers.class.getClassLoader());
+        Serializer<Object> serializer = (Serializer<Object>) BeanUtils.instantiateClass(serializerClass);
+        serializer.configure(config, isKey);
+        return serializer;
+    }
+
+    /**
+     * One producer shared by every send; KafkaTemplate closes it after each one, which is ignored.
+     */
+    static final class StandInProducer<K, V> extends MockProducer<K, V> {
+
+        private final Map<String, LongAdder> records;
+
+        StandInProducer(Serializer<K> keySerializer, Serializer<V> valueSerializer, Map<String, LongAdder> records) {
+            super(true, null, keySerializer, valueSerializer);
+            this.records = records;
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<K, V> record, Callback callback) {
+            Future<RecordMetadata> result = super.send(record, callback);
+            clear();
+            records.computeIfAbsent(record.topic(), topic -> new LongAdder()).increment();
+            return result;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+
+    static final class StandInRabbitTemplate extends RabbitTemplate {
+
+        private final LongAdder messages;
+
+        StandInRabbitTemplate(MessageConverter messageConverter, LongAdder messages) {
+            this.messages = messages;
+            setMessageConverter(messageConverter);
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            messages.increment();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stands in for the Node services scrum-core calls (reporting sync, collaboration
+ * notifications): answers every request with 200 and an empty JSON object, and counts them.
+ */
+final class StubHttpServer implements AutoCloseable {
+
+    private static final byte[] EMPTY_JSON = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+    private StubHttpServer(HttpServer server) {
+        this.server = server;
+    }
+
+    static StubHttpServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        StubHttpServer stub = new StubHttpServer(server);
+        server.createContext("/", stub::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return stub;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody(); OutputStream response = exchange.getResponseBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+            String endpoint = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath().replaceAll("/\\d+", "/{id}");
+            requests.computeIfAbsent(endpoint, ignored -> new LongAdder()).increment();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, EMPTY_JSON.length);
+            response.write(EMPTY_JSON);
+        }
+    }
+
+    URI uri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    Map<String, Long> requests() {
+        Map<String, Long> counts = new TreeMap<>();
+        requests.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.loadtest;
+
+import com.example.loadtest.ApiClient.Response;
+import com.example.loadtest.TeamFixture.ActiveSprint;
+import com.example.loadtest.TeamFixture.Member;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.example.loadtest.ApiClient.Service.IDENTITY;
+import static com.example.loadtest.ApiClient.Service.SCRUM_CORE;
+
+/**
+ * Multi-request flows shared by seeding and the scenarios.
+ */
+final class TeamActions {
+
+    private static final String[] ITEM_TYPES = {"STORY", "STORY", "STORY", "BUG", "TECHNICAL_TASK"};
+    private static final int[] STORY_POINTS = {1, 2, 3, 5, 8, 13};
+
+    private TeamActions() {
+    }
+
+    static void login(ApiClient api, TeamFixture team, Member member) {
+        Response response = require(api.post(IDENTITY, "POST /api/auth/authenticate", "/api/auth/authenticate", null,
+                Map.of("email", member.email(), "password", DatasetSeeder.PASSWORD)), "login " + member.email());
+        String token = response.json().path("token").asText();
+        team.token(member, token);
+        api.get(IDENTITY, "GET /api/auth/me", "/api/auth/me", token, null);
+    }
+
+    static long createBacklogItem(ApiClient api, TeamFixture team, Random random) {
+        int number = team.nextItemNumber();
+        String type = ITEM_TYPES[random.nextInt(ITEM_TYPES.length)];
+        Response response = require(api.post(SCRUM_CORE, "POST /api/backlog", "/backlog",
+                team.token(team.productOwner()), Map.of(
+                        "projectId", team.projectId(),
+                        "title", type.charAt(0) + type.substring(1).toLowerCase().replace('_', ' ') + " " + number,
+                        "description", "As a member of team " + team.index() + " I want item " + number
+                                + " delivered so that the sprint goal is met.",
+                        "type", type,
+                        "storyPoints", STORY_POINTS[random.nextInt(STORY_POINTS.length)],
+                        "priority", random.nextInt(5),
+                        "acceptanceCriteria", "Given item " + number + ", when it is done, then the board shows it in DONE.")),
+                "create backlog item");
+        return response.json().path("id").asLong();
+    }
+
+    /**
+     * Sprint planning the way the team does it: the Product Owner writes the items, the Scrum
+     * Master creates the sprint, a developer asks for each item to be added and the Product
+     * Owner approves it, then the Scrum Master starts the sprint.
+     */
+    static ActiveSprint planAndStartSprint(ApiClient api, TeamFixture team, Random random) {
+        List<Long> itemIds = new ArrayList<>(team.sprintItems());
+        for (int i = 0; i < team.sprintItems(); i++) {
+            itemIds.add(createBacklogItem(api, team, random));
+        }
+
+        int number = team.nextSprintNumber();
+        LocalDate today = LocalDate.now();
+        long sprintId = require(api.post(SCRUM_CORE, "POST /api/sprints", "/sprints",
+                team.token(team.scrumMaster()), Map.of(
+                        "projectId", team.projectId(),
+                        "teamId", team.teamId(),
+                        "name", "Sprint " + number,
+                        "goal", "Deliver the " + team.sprintItems() + " planned items of sprint " + number,
+                        "startDate", today.toString(),
+                        "endDate", today.plusWeeks(2).toString(),
+                        "lengthWeeks", 2,
+                        "teamCapacity", 40)),
+                "create sprint").json().path("id").asLong();
+
+        Member developer = team.developers().get(random.nextInt(team.developers().size()));
+        for (long itemId : itemIds) {
+            require(api.post(SCRUM_CORE, "POST /api/sprints/{id}/items", "/sprints/" + sprintId + "/items",
+                    team.token(developer), Map.of(
+                            "backlogItemId", itemId,
+                            "assignedDeveloperIds", List.of(team.productOwner().id()))),
+                    "request sprint item");
+            require(api.post(SCRUM_CORE, "POST /api/approvals/{id}/sprint/{id}/approve",
+                    "/approvals/" + itemId + "/sprint/" + sprintId + "/approve",
+                    team.token(team.productOwner()), null), "approve sprint item");
+        }
+
+        require(api.post(SCRUM_CORE, "POST /api/sprints/{id}/start", "/sprints/" + sprintId + "/start",
+                team.token(team.scrumMaster()), null), "start sprint");
+        return new ActiveSprint(sprintId, List.copyOf(itemIds));
+    }
+
+    static Response require(Response response, String action) {
+        if (!response.ok()) {
+            throw new IllegalStateException("Could not " + action + ": HTTP " + response.status() + " " + response.body());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One seeded team: its project, members, their current tokens and the sprint the team works in.
+ */
+final class TeamFixture {
+
+    enum Role { DEVELOPER, PRODUCT_OWNER, SCRUM_MASTER }
+
+    record Member(long id, String email, Role role) {
+    }
+
+    record ActiveSprint(long id, List<Long> itemIds) {
+    }
+
+    private final int index;
+    private final long teamId;
+    private final long projectId;
+    private final Member productOwner;
+    private final Member scrumMaster;
+    private final List<Member> developers;
+    private final int sprintItems;
+
+    private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+    private final AtomicInteger sprintNumber = new AtomicInteger();
+    private final AtomicInteger itemNumber = new AtomicInteger();
+    private final ReentrantLock sprintBoundary = new ReentrantLock();
+    private volatile ActiveSprint activeSprint;
+
+    TeamFixture(int index, long teamId, long projectId, Member productOwner, Member scrumMaster,
+                List<Member> developers, int sprintItems) {
+        this.index = index;
+        this.teamId = teamId;
+        this.projectId = projectId;
+        this.productOwner = productOwner;
+        this.scrumMaster = scrumMaster;
+        this.developers = List.copyOf(developers);
+        this.sprintItems = sprintItems;
+    }
+
+    int index() {
+        return index;
+    }
+
+    long teamId() {
+        return teamId;
+    }
+
+    long projectId() {
+        return projectId;
+    }
+
+    Member productOwner() {
+        return productOwner;
+    }
+
+    Member scrumMaster() {
+        return scrumMaster;
+    }
+
+    List<Member> developers() {
+        return developers;
+    }
+
+    List<Member> members() {
+        List<Member> members = new ArrayList<>(developers.size() + 2);
+        members.add(productOwner);
+        members.add(scrumMaster);
+        members.addAll(developers);
+        return members;
+    }
+
+    /**
+     * Items planned into every new sprint.
+     */
+    int sprintItems() {
+        return sprintItems;
+    }
+
+    String token(Member member) {
+        String token = tokens.get(member.id());
+        if (token == null) {
+            throw new IllegalStateException(member.email() + " has not logged in");
+        }
+        return token;
+    }
+
+    void token(Member member, String token) {
+        tokens.put(member.id(), token);
+    }
+
+    ActiveSprint activeSprint() {
+        return activeSprint;
+    }
+
+    void activeSprint(ActiveSprint sprint) {
+        activeSprint = sprint;
+    }
+
+    int nextSprintNumber() {
+        return sprintNumber.incrementAndGet();
+    }
+
+    int nextItemNumber() {
+        return itemNumber.incrementAndGet();
+    }
+
+    /**
+     * Only one member at a time may close the sprint and plan the next one.
+     */
+    ReentrantLock sprintBoundary() {
+        return sprintBoundary;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Weighted column values given on the command line as {@code VALUE:WEIGHT,VALUE:WEIGHT...},
+ * e.g. {@code ACCEPTED:92,DONE:8}. Values are checked against what the column allows.
+ */
+final class ValueMix {
+
+    private final String spec;
+    private final String[] values;
+    private final double[] cumulativeWeights;
+
+    private ValueMix(String spec, String[] values, double[] cumulativeWeights) {
+        this.spec = spec;
+        this.values = values;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static ValueMix parse(String spec, Set<String> allowed) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected VALUE:WEIGHT in mix: " + spec);
+            }
+            String value = parts[0].trim();
+            if (!allowed.contains(value)) {
+                throw new IllegalArgumentException("'" + value + "' is not one of " + allowed + " in mix: " + spec);
+            }
+            double weight = Double.parseDouble(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in mix: " + spec);
+            }
+            weights.merge(value, weight, Double::sum);
+        }
+
+        List<String> values = new ArrayList<>();
+        double[] cumulative = new double[weights.size()];
+        double total = 0;
+        for (Map.Entry<String, Double> weight : weights.entrySet()) {
+            total += weight.getValue();
+            cumulative[values.size()] = total;
+            values.add(weight.getKey());
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Mix needs a positive weight: " + spec);
+        }
+        return new ValueMix(spec, values.toArray(String[]::new), cumulative);
+    }
+
+    String pick(Random random) {
+        double point = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < values.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
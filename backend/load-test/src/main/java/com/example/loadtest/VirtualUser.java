@@ -0,0 +1,123 @@
+package com.example.loadtest;
+
+import com.example.loadtest.TeamFixture.Member;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One team member in a closed loop: log in, then scenario, think time, scenario... until the run
+ * ends. Choices and think times come from a generator seeded with the run seed and the member,
+ * so a given seed replays the same sequence of actions for every member.
+ */
+final class VirtualUser implements Runnable {
+
+    private static final int MAX_REPORTED_FAILURES = 20;
+    private static final AtomicLong reportedFailures = new AtomicLong();
+
+    private final ApiClient api;
+    private final TeamFixture team;
+    private final Member member;
+    private final WorkloadProfile profile;
+    private final long thinkMillis;
+    private final long runStartedMillis;
+    private final AtomicBoolean running;
+    private final Random random;
+    private final Map<String, LongAdder> scenarioFailures;
+
+    private String boardETag;
+    private long loginBurst = -1;
+
+    VirtualUser(ApiClient api, TeamFixture team, Member member, WorkloadProfile profile, long thinkMillis,
+                long seed, long runStartedMillis, AtomicBoolean running, Map<String, LongAdder> scenarioFailures) {
+        this.api = api;
+        this.team = team;
+        this.member = member;
+        this.profile = profile;
+        this.thinkMillis = thinkMillis;
+        this.runStartedMillis = runStartedMillis;
+        this.running = running;
+        this.random = new Random(seed * 31 + member.email().hashCode());
+        this.scenarioFailures = scenarioFailures;
+    }
+
+    @Override
+    public void run() {
+        loginBurstDue(); // the first login belongs to the first burst
+        perform(Scenario.LOGIN);
+        while (running.get()) {
+            think();
+            if (!running.get()) {
+                return;
+            }
+            perform(loginBurstDue() ? Scenario.LOGIN : profile.next(member.role(), random));
+        }
+    }
+
+    private void perform(Scenario scenario) {
+        try {
+            scenario.run(this);
+        } catch (RuntimeException e) {
+            scenarioFailures.computeIfAbsent(scenario.name(), name -> new LongAdder()).increment();
+            if (reportedFailures.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                System.err.println("[" + member.email() + "] " + scenario + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean loginBurstDue() {
+        long every = profile.loginBurstEveryMillis();
+        if (every <= 0) {
+            return false;
+        }
+        long burst = (System.currentTimeMillis() - runStartedMillis) / every;
+        if (burst == loginBurst) {
+            return false;
+        }
+        loginBurst = burst;
+        return true;
+    }
+
+    private void think() {
+        // Exponentially distributed pauses, as between independent user actions
+        long pause = (long) (-Math.log(1 - random.nextDouble()) * thinkMillis);
+        try {
+            TimeUnit.MILLISECONDS.sleep(pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+
+    ApiClient api() {
+        return api;
+    }
+
+    TeamFixture team() {
+        return team;
+    }
+
+    Member member() {
+        return member;
+    }
+
+    Random random() {
+        return random;
+    }
+
+    String token() {
+        return team.token(member);
+    }
+
+    String boardETag() {
+        return boardETag;
+    }
+
+    void boardETag(String eTag) {
+        boardETag = eTag;
+    }
+}
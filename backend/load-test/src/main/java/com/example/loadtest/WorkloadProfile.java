@@ -0,0 +1,134 @@
+package com.example.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.example.loadtest.Scenario.*;
+
+/**
+ * What each team member does between think times. Every member logs in when it starts; the mix
+ * then picks the next scenario by weight, per role.
+ */
+enum WorkloadProfile {
+
+    /**
+     * A normal working day: developers watch the board and drag cards, the Product Owner grooms
+     * the backlog, and now and then a Scrum Master closes a sprint and starts the next one.
+     */
+    SPRINT_DAY("sprint-day", 1000, 0,
+            new Mix(BOARD_POLL, 6, DRAG_AND_DROP, 3, LOGIN, 1),
+            new Mix(BOARD_POLL, 3, BACKLOG_REORDER, 6, LOGIN, 1),
+            new Mix(BOARD_POLL, 8, LOGIN, 1, Scenario.SPRINT_BOUNDARY, 0.2)),
+
+    /**
+     * Shift start: every 20 seconds all members log in within a second or two, then poll the
+     * board. Mostly exercises BCrypt and token issuing in identity-service, and the JWT filter.
+     */
+    LOGIN_BURST("login-burst", 300, 20_000,
+            new Mix(BOARD_POLL, 9, LOGIN, 1),
+            new Mix(BOARD_POLL, 9, LOGIN, 1),
+            new Mix(BOARD_POLL, 9, LOGIN, 1)),
+
+    /**
+     * Sprint review day: Scrum Masters end and plan sprints back to back (item creation, the
+     * approval workflow, start/end with reporting sync and events) while the team keeps working.
+     */
+    SPRINT_BOUNDARY("sprint-boundary", 500, 0,
+            new Mix(BOARD_POLL, 5, DRAG_AND_DROP, 5),
+            new Mix(BOARD_POLL, 5, BACKLOG_REORDER, 5),
+            new Mix(Scenario.SPRINT_BOUNDARY, 1)),
+
+    /**
+     * Refinement: Product Owners move and reorder backlog items almost continuously.
+     */
+    BACKLOG_GROOMING("backlog-grooming", 500, 0,
+            new Mix(BOARD_POLL, 7, DRAG_AND_DROP, 3),
+            new Mix(BACKLOG_REORDER, 9, BOARD_POLL, 1),
+            new Mix(BOARD_POLL, 1));
+
+    private final String profileName;
+    private final long thinkMillis;
+    private final long loginBurstEveryMillis;
+    private final Map<TeamFixture.Role, Mix> mixes = new EnumMap<>(TeamFixture.Role.class);
+
+    WorkloadProfile(String profileName, long thinkMillis, long loginBurstEveryMillis,
+                    Mix developer, Mix productOwner, Mix scrumMaster) {
+        this.profileName = profileName;
+        this.thinkMillis = thinkMillis;
+        this.loginBurstEveryMillis = loginBurstEveryMillis;
+        mixes.put(TeamFixture.Role.DEVELOPER, developer);
+        mixes.put(TeamFixture.Role.PRODUCT_OWNER, productOwner);
+        mixes.put(TeamFixture.Role.SCRUM_MASTER, scrumMaster);
+    }
+
+    static WorkloadProfile fromName(String name) {
+        return Arrays.stream(values())
+                .filter(profile -> profile.profileName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown profile " + name + ", expected one of "
+                        + Arrays.stream(values()).map(WorkloadProfile::profileName).collect(Collectors.joining(", "))));
+    }
+
+    String profileName() {
+        return profileName;
+    }
+
+    /**
+     * Mean think time; actual pauses are exponentially distributed around it.
+     */
+    long thinkMillis() {
+        return thinkMillis;
+    }
+
+    /**
+     * Everyone logs in again at the start of each burst window; 0 when the profile has none.
+     */
+    long loginBurstEveryMillis() {
+        return loginBurstEveryMillis;
+    }
+
+    Scenario next(TeamFixture.Role role, Random random) {
+        return mixes.get(role).pick(random);
+    }
+
+    Mix mix(TeamFixture.Role role) {
+        return mixes.get(role);
+    }
+
+    /**
+     * Scenarios with relative weights, given as alternating {@code scenario, weight} pairs.
+     */
+    static final class Mix {
+
+        private final Scenario[] scenarios;
+        private final double[] cumulativeWeights;
+
+        Mix(Object... scenariosAndWeights) {
+            scenarios = new Scenario[scenariosAndWeights.length / 2];
+            cumulativeWeights = new double[scenarios.length];
+            double total = 0;
+            for (int i = 0; i < scenarios.length; i++) {
+                scenarios[i] = (Scenario) scenariosAndWeights[2 * i];
+                total += ((Number) scenariosAndWeights[2 * i + 1]).doubleValue();
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        Scenario pick(Random random) {
+            double point = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            for (int i = 0; i < scenarios.length; i++) {
+                if (point < cumulativeWeights[i]) {
+                    return scenarios[i];
+                }
+            }
+            return scenarios[scenarios.length - 1];
+        }
+
+        Scenario[] scenarios() {
+            return scenarios.clone();
+        }
+    }
+}
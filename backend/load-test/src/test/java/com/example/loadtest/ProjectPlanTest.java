@@ -0,0 +1,102 @@
+package com.example.loadtest;
+
+import com.example.loadtest.ProjectPlan.Item;
+import com.example.loadtest.ProjectPlan.Sprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectPlanTest {
+
+    private final DatasetOptions options = DatasetOptions.parse("--projects=20", "--as-of=2026-01-05",
+            "--approval-status-mix=PENDING:40,APPROVED:40,REJECTED:20");
+
+    @Test
+    void testCreate_SameSeedAndProject_GivesSamePlan() {
+        // Act
+        ProjectPlan first = ProjectPlan.create(options, 7);
+        ProjectPlan second = ProjectPlan.create(options, 7);
+
+        // Assert
+        assertEquals(first.sprints(), second.sprints());
+        assertEquals(first.items().size(), second.items().size());
+        for (int i = 0; i < first.items().size(); i++) {
+            assertEquals(first.items().get(i).status(), second.items().get(i).status());
+            assertArrayEquals(first.items().get(i).approvers(), second.items().get(i).approvers());
+            assertEquals(first.position(i), second.position(i));
+        }
+    }
+
+    @Test
+    void testCreate_ItemsFollowSprintAndApprovalRules() {
+        for (int project = 0; project < options.projects(); project++) {
+            ProjectPlan plan = ProjectPlan.create(options, project);
+            List<Sprint> sprints = plan.sprints();
+            assertEquals(ProjectPlan.ACTIVE, sprints.get(sprints.size() - 2).status());
+            assertEquals(ProjectPlan.PLANNED, sprints.get(sprints.size() - 1).status());
+
+            for (Item item : plan.items()) {
+                assertTrue(item.approvers().length <= plan.developers());
+                if (item.sprint() < 0) {
+                    assertTrue(Set.of("BACKLOG", "REJECTED").contains(item.status()));
+                    continue;
+                }
+                String sprintStatus = sprints.get(item.sprint()).status();
+                boolean allApproved = Arrays.stream(item.approvalStatuses()).allMatch("APPROVED"::equals);
+                boolean rejected = Arrays.asList(item.approvalStatuses()).contains("REJECTED");
+                switch (sprintStatus) {
+                    case ProjectPlan.COMPLETED -> assertTrue(Set.of("DONE", "ACCEPTED").contains(item.status()));
+                    case ProjectPlan.ACTIVE -> assertEquals(item.boardColumn().equals("DONE") ? "DONE" : "IN_SPRINT",
+                            item.status());
+                    default -> {
+                        assertEquals(allApproved, item.committed());
+                        assertEquals(rejected ? "BACKLOG" : allApproved ? "IN_SPRINT" : "PENDING_APPROVAL",
+                                item.status());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCreate_PositionsAreSparseAndUnique() {
+        // Act
+        ProjectPlan plan = ProjectPlan.create(options, 3);
+
+        // Assert
+        int[] positions = new int[plan.items().size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = plan.position(i);
+        }
+        Arrays.sort(positions);
+        for (int i = 0; i < positions.length; i++) {
+            assertEquals((i + 1) * 1024, positions[i]);
+        }
+    }
+
+    @Test
+    void testParse_DistributionsAndMixes() {
+        // Arrange
+        Random random = new Random(1);
+
+        // Act
+        Distribution clamped = Distribution.parse("normal:10:100", 1, 20);
+        ValueMix onlyDone = ValueMix.parse("DONE:1,ACCEPTED:0", Set.of("DONE", "ACCEPTED"));
+
+        // Assert
+        for (int i = 0; i < 1000; i++) {
+            int sample = clamped.sample(random);
+            assertTrue(sample >= 1 && sample <= 20);
+            assertEquals("DONE", onlyDone.pick(random));
+        }
+        assertEquals(5, Distribution.parse("uniform:5:5").sample(random));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.parse("poisson:3"));
+        assertThrows(IllegalArgumentException.class, () -> ValueMix.parse("CLOSED:1", Set.of("DONE")));
+        assertThrows(IllegalArgumentException.class, () -> DatasetOptions.parse("--projcts=10"));
+    }
+}
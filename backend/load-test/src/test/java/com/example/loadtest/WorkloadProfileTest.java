@@ -0,0 +1,65 @@
+package com.example.loadtest;
+
+import com.example.loadtest.TeamFixture.Role;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadProfileTest {
+
+    @Test
+    void testMixes_OnlyContainScenariosTheRoleMayRun() {
+        for (WorkloadProfile profile : WorkloadProfile.values()) {
+            for (Role role : Role.values()) {
+                for (Scenario scenario : profile.mix(role).scenarios()) {
+                    assertTrue(scenario.allowedFor(role), profile + " gives " + scenario + " to " + role);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNext_SameSeed_ReplaysSameSequence() {
+        // Arrange
+        Random first = new Random(42);
+        Random second = new Random(42);
+
+        // Act
+        List<Scenario> firstRun = new ArrayList<>();
+        List<Scenario> secondRun = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            firstRun.add(WorkloadProfile.SPRINT_DAY.next(Role.SCRUM_MASTER, first));
+            secondRun.add(WorkloadProfile.SPRINT_DAY.next(Role.SCRUM_MASTER, second));
+        }
+
+        // Assert
+        assertEquals(firstRun, secondRun);
+        assertTrue(firstRun.contains(Scenario.SPRINT_BOUNDARY));
+    }
+
+    @Test
+    void testParse_ReadsDurationsProfileAndServiceProperties() {
+        // Act
+        LoadTestOptions options = LoadTestOptions.parse("--profile=login-burst", "--warmup=500ms",
+                "--duration=2m", "--teams=3", "--service.spring.threads.virtual.enabled=true");
+
+        // Assert
+        assertEquals(WorkloadProfile.LOGIN_BURST, options.profile());
+        assertEquals(Duration.ofMillis(500), options.warmup());
+        assertEquals(Duration.ofMinutes(2), options.duration());
+        assertEquals(3 * (5 + 2), options.users());
+        assertEquals(WorkloadProfile.LOGIN_BURST.thinkMillis(), options.effectiveThinkMillis());
+        assertEquals(Map.of("spring.threads.virtual.enabled", "true"), options.serviceProperties());
+    }
+
+    @Test
+    void testParse_UnknownOption_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--tems=3"));
+    }
+}
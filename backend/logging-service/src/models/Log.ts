@@ -20,40 +20,31 @@ export interface LogMessage {
 
 export function parseLogMessage(messageStr: string): Log | null {
   try {
-    const message: LogMessage = JSON.parse(messageStr);
-
-    console.log('Parsed message object:', JSON.stringify(message, null, 2));
-
-    // Parse timestamp - handle various formats
-    let timestamp: Date;
-    if (typeof message.timestamp === 'string') {
-      timestamp = new Date(message.timestamp);
-    } else if (typeof message.timestamp === 'number') {
-      timestamp = new Date(message.timestamp);
-    } else {
-      console.warn('No timestamp in message, using current time');
-      timestamp = new Date();
-    }
+    return toLog(JSON.parse(messageStr), messageStr);
+  } catch (error) {
+    console.error('Error parsing log message:', error);
+    console.error('Message content:', messageStr);
+    return null;
+  }
+}
 
-    // Validate timestamp
-    if (isNaN(timestamp.getTime())) {
-      console.error('Invalid timestamp in log message:', message.timestamp);
-      console.error('Full message:', messageStr);
-      return null;
+/**
+ * Parses a message carrying either a single log object or an array of them
+ * (the Java services ship logs in batches). Returns null if any entry is invalid.
+ */
+export function parseLogMessages(messageStr: string): Log[] | null {
+  try {
+    const parsed = JSON.parse(messageStr);
+    const messages: LogMessage[] = Array.isArray(parsed) ? parsed : [parsed];
+    const logs: Log[] = [];
+    for (const message of messages) {
+      const log = toLog(message, messageStr);
+      if (!log) {
+        return null;
+      }
+      logs.push(log);
     }
-
-    const log: Log = {
-      timestamp,
-      log_type: message.logType as 'INFO' | 'WARN' | 'ERROR' | 'DEBUG',
-      url: message.url,
-      correlation_id: message.correlationId,
-      application_name: message.applicationName,
-      message: message.message,
-    };
-
-    console.log('Created log object:', JSON.stringify(log, null, 2));
-
-    return log;
+    return logs;
   } catch (error) {
     console.error('Error parsing log message:', error);
     console.error('Message content:', messageStr);
@@ -61,6 +52,37 @@ export function parseLogMessage(messageStr: string): Log | null {
   }
 }
 
+function toLog(message: LogMessage, messageStr: string): Log | null {
+  // Parse timestamp - handle various formats
+  let timestamp: Date;
+  if (typeof message.timestamp === 'string') {
+    timestamp = new Date(message.timestamp);
+  } else if (typeof message.timestamp === 'number') {
+    timestamp = new Date(message.timestamp);
+  } else {
+    console.warn('No timestamp in message, using current time');
+    timestamp = new Date();
+  }
+
+  // Validate timestamp
+  if (isNaN(timestamp.getTime())) {
+    console.error('Invalid timestamp in log message:', message.timestamp);
+    console.error('Full message:', messageStr);
+    return null;
+  }
+
+  const log: Log = {
+    timestamp,
+    log_type: message.logType as 'INFO' | 'WARN' | 'ERROR' | 'DEBUG',
+    url: message.url,
+    correlation_id: message.correlationId,
+    application_name: message.applicationName,
+    message: message.message,
+  };
+
+  return log;
+}
+
 export function formatLogForDisplay(log: Log): string {
   const timestamp = log.timestamp.toISOString().replace('T', ' ').substring(0, 23);
   const correlationPart = log.correlation_id ? ` Correlation: ${log.correlation_id}` : '';
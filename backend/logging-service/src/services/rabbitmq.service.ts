@@ -1,6 +1,6 @@
 import { Channel } from 'amqplib';
 import { getRabbitMQChannel } from '../config/rabbitmq';
-import { parseLogMessage, Log } from '../models/Log';
+import { parseLogMessages, Log } from '../models/Log';
 import logService from './log.service';
 
 export class RabbitMQService {
@@ -23,12 +23,12 @@ export class RabbitMQService {
             try {
               const content = msg.content.toString();
               console.log('Received message from RabbitMQ:', content.substring(0, 200));
-              const log = parseLogMessage(content);
+              const logs = parseLogMessages(content);
 
-              if (log) {
-                await logService.saveLogs([log]);
+              if (logs) {
+                await logService.saveLogs(logs);
                 this.channel?.ack(msg);
-                console.log('Successfully processed and saved log');
+                console.log(`Successfully processed and saved ${logs.length} log(s)`);
               } else {
                 console.warn('Failed to parse log message, rejecting');
                 console.warn('Message content:', content);
@@ -71,10 +71,10 @@ export class RabbitMQService {
 
         messageCount++;
         const content = msg.content.toString();
-        const log = parseLogMessage(content);
+        const parsed = parseLogMessages(content);
 
-        if (log) {
-          logs.push(log);
+        if (parsed) {
+          logs.push(...parsed);
           this.channel.ack(msg);
         } else {
           console.warn('Failed to parse log message, rejecting:', content);
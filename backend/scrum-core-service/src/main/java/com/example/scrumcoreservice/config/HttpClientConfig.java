@@ -0,0 +1,24 @@
+package com.example.scrumcoreservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * Shared client for calls to the Node services. The JDK client keeps connections alive and
+     * pools them per host, so it must be reused rather than built per request.
+     */
+    @Bean
+    public HttpClient outboundHttpClient(@Value("${outbound-http.connect-timeout-ms:5000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+}
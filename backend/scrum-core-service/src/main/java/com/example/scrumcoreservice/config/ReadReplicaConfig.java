@@ -0,0 +1,92 @@
+package com.example.scrumcoreservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the single connection pool with a primary and a replica pool when
+ * {@code datasource.replica.enabled} is set: {@code @Transactional(readOnly = true)} work reads
+ * from the replica, everything else (including reads outside a transaction) uses the primary.
+ * Both pools take the {@code spring.datasource.hikari} settings; the replica's can be overridden
+ * under {@code datasource.replica.hikari}. Read-only transactions do not fill the second-level
+ * cache (see {@link ReplicaCacheModeListener}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public ReadReplicaConfig(DataSourceProperties properties,
+                             Environment environment,
+                             MeterRegistry meterRegistry,
+                             @Value("${datasource.replica.url}") String replicaUrl,
+                             @Value("${datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+                             @Value("${datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+                             @Value("${datasource.replica.max-lag-ms:1000}") long maxLagMs) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("scrum-core-primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(replicaUrl).username(replicaUsername).password(replicaPassword).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        binder.bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("scrum-core-replica");
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        this.routingDataSource = new ReplicaRoutingDataSource(primary, replica, maxLagMs);
+
+        Gauge.builder("datasource.replica.available", routingDataSource, ds -> ds.isReplicaAvailable() ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica").register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", routingDataSource, ReplicaRoutingDataSource::getReplicaLagMs)
+                .baseUnit("milliseconds").description("Replica replay lag at the last check, -1 if unreachable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Connections are fetched on first use, by which time the transaction's read-only flag is
+     * known to the router.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaCacheModeListener replicaCacheModeListener(EntityManagerFactory entityManagerFactory) {
+        return new ReplicaCacheModeListener(entityManagerFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval-ms:2000}")
+    public void checkReplica() {
+        routingDataSource.checkReplica();
+    }
+
+    @PreDestroy
+    public void close() {
+        routingDataSource.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.scrumcoreservice.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Keeps read-only transactions from putting what they load into the second-level cache. With a
+ * replica configured they may read from it, and a row behind the primary would otherwise be
+ * cached and served to every later read, on the primary too, until the next write evicts it.
+ * They still read from the cache; it is filled by read-write transactions.
+ */
+public class ReplicaCacheModeListener implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReplicaCacheModeListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isReadOnly()) {
+            return;
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.scrumcoreservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica pool and everything else to the
+ * primary. The replica is only used while {@link #checkReplica()} last found it reachable and
+ * less than {@code maxLagMs} behind; a replica that refuses a connection is taken out until the
+ * next check. Must sit behind a {@code LazyConnectionDataSourceProxy}, so that the connection is
+ * fetched after the transaction's read-only flag has been set.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    enum Target { PRIMARY, REPLICA }
+
+    // Replay lag; zero when fully caught up (an idle primary would otherwise look "behind")
+    // or when the "replica" is a primary itself, as in local setups
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final long maxLagMs;
+
+    private volatile boolean replicaAvailable;
+    private volatile long replicaLagMs = -1;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica, long maxLagMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Target.REPLICA : Target.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markUnavailable("connection failed: " + e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                markUnavailable("connection failed: " + e.getMessage());
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Measures the replica's replay lag and decides whether read-only work may use it.
+     */
+    public void checkReplica() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            replicaLagMs = rs.getLong(1);
+            if (replicaLagMs > maxLagMs) {
+                markUnavailable("lagging " + replicaLagMs + " ms behind the primary");
+            } else if (!replicaAvailable) {
+                replicaAvailable = true;
+                log.info("Read replica available, read-only transactions go to the replica (lag {} ms)", replicaLagMs);
+            }
+        } catch (SQLException e) {
+            replicaLagMs = -1;
+            markUnavailable("check failed: " + e.getMessage());
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * Replay lag seen by the last check, or -1 if the replica could not be reached.
+     */
+    public long getReplicaLagMs() {
+        return replicaLagMs;
+    }
+
+    private void markUnavailable(String reason) {
+        if (replicaAvailable) {
+            replicaAvailable = false;
+            log.warn("Read replica unavailable ({}), read-only transactions go to the primary", reason);
+        }
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.scrumcoreservice.config;
+
+import com.example.scrumcoreservice.service.CacheInvalidationBroadcaster;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reports every write to a second-level cached entity or collection to the
+ * {@link CacheInvalidationBroadcaster}, so other replicas drop their copies after commit.
+ * Hibernate keeps the local cache in step by itself.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    public SecondLevelCacheConfig(EntityManagerFactory entityManagerFactory, CacheInvalidationBroadcaster broadcaster) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.broadcaster = broadcaster;
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        CachedWriteListener listener = new CachedWriteListener(broadcaster);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+    }
+
+    private record CachedWriteListener(CacheInvalidationBroadcaster broadcaster)
+            implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+                       PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+                       PostCollectionRemoveEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            entityChanged(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            entityChanged(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            entityChanged(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+            collectionChanged(event);
+        }
+
+        @Override
+        public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+            collectionChanged(event);
+        }
+
+        @Override
+        public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+            collectionChanged(event);
+        }
+
+        // Publishing happens after commit, never from inside the flush
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+
+        private void entityChanged(EntityPersister persister, Object id) {
+            if (persister.canWriteToCache()) {
+                broadcaster.entityChanged(persister.getEntityName(), id);
+            }
+        }
+
+        private void collectionChanged(AbstractCollectionEvent event) {
+            if (event.getCollection().getOwner() != null && event.getAffectedOwnerIdOrNull() != null
+                    && event.getSession().getFactory().getMappingMetamodel()
+                            .getEntityDescriptor(event.getAffectedOwnerEntityName()).canWriteToCache()) {
+                broadcaster.entityChanged(event.getAffectedOwnerEntityName(), event.getAffectedOwnerIdOrNull());
+            }
+        }
+    }
+}
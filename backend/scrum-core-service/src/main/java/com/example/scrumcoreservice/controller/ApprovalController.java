@@ -1,5 +1,6 @@
 package com.example.scrumcoreservice.controller;
 
+import com.example.scrumcoreservice.dto.ApprovalInboxPageDto;
 import com.example.scrumcoreservice.dto.ApprovalRequestDto;
 import com.example.scrumcoreservice.dto.ApprovalResponseDto;
 import com.example.scrumcoreservice.dto.BacklogItemApprovalDto;
@@ -102,6 +103,20 @@ public class ApprovalController {
         return ResponseEntity.ok(approvals);
     }
 
+    @GetMapping("/inbox")
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Page through my approval inbox",
+               description = "Pending approval requests for the current team member with item title, story points, " +
+                             "sprint name, project and requester, oldest first, plus the total pending. " +
+                             "Pass nextCursor as 'after' for the next page.")
+    public ResponseEntity<ApprovalInboxPageDto> getMyApprovalInbox(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        return ResponseEntity.ok(approvalService.getPendingInbox(principal.getUserId(), after, limit));
+    }
+
     @GetMapping("/item/{backlogItemId}/sprint/{sprintId}")
     @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
     @Operation(summary = "Get approvals for backlog item",
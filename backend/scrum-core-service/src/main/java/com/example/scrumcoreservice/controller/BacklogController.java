@@ -2,9 +2,10 @@ package com.example.scrumcoreservice.controller;
 
 import com.example.scrumcoreservice.dto.BacklogItemDto;
 import com.example.scrumcoreservice.dto.CreateBacklogItemRequest;
+import com.example.scrumcoreservice.dto.MoveBacklogItemRequest;
 import com.example.scrumcoreservice.security.UserPrincipal;
 import com.example.scrumcoreservice.service.BacklogService;
-import com.example.scrumcoreservice.service.RabbitMQLoggerService;
+import com.example.servicesupport.logging.RabbitMQLoggerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -157,16 +158,33 @@ public class BacklogController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/{id}/move")
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Move backlog item",
+               description = "Place one backlog item between two neighbours (PO only); only the moved item is updated")
+    public ResponseEntity<Void> moveBacklogItem(
+            @PathVariable Long id,
+            @RequestBody MoveBacklogItemRequest request,
+            HttpServletRequest httpRequest) {
+
+        String url = httpRequest.getRequestURI();
+        logger.logInfo("Moving backlog item " + id + " between " + request.getAfterId() + " and " + request.getBeforeId(), url);
+        backlogService.moveBacklogItem(id, request.getAfterId(), request.getBeforeId());
+        logger.logInfo("Backlog item moved: " + id, url);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/{id}/accept")
     @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'ORGANIZATION_ADMIN')")
     @Operation(summary = "Accept backlog item", description = "Product Owner accepts completed backlog item against acceptance criteria")
     public ResponseEntity<BacklogItemDto> acceptBacklogItem(
             @PathVariable Long id,
+            @RequestParam(required = false) Long version,
             @AuthenticationPrincipal UserPrincipal principal,
             HttpServletRequest httpRequest) {
         String url = httpRequest.getRequestURI();
         logger.logInfo("Product Owner accepting backlog item: " + id, url);
-        BacklogItemDto item = backlogService.acceptBacklogItem(id, principal.getUserId());
+        BacklogItemDto item = backlogService.acceptBacklogItem(id, principal.getUserId(), version);
         logger.logInfo("Backlog item accepted: " + id, url);
         return ResponseEntity.ok(item);
     }
@@ -177,11 +195,12 @@ public class BacklogController {
     public ResponseEntity<BacklogItemDto> rejectBacklogItem(
             @PathVariable Long id,
             @RequestParam String reason,
+            @RequestParam(required = false) Long version,
             @AuthenticationPrincipal UserPrincipal principal,
             HttpServletRequest httpRequest) {
         String url = httpRequest.getRequestURI();
         logger.logInfo("Product Owner rejecting backlog item: " + id + " with reason: " + reason, url);
-        BacklogItemDto item = backlogService.rejectBacklogItem(id, principal.getUserId(), reason);
+        BacklogItemDto item = backlogService.rejectBacklogItem(id, principal.getUserId(), reason, version);
         logger.logInfo("Backlog item rejected: " + id, url);
         return ResponseEntity.ok(item);
     }
@@ -1,21 +1,34 @@
 package com.example.scrumcoreservice.controller;
 
+import com.example.scrumcoreservice.dto.BacklogImportResultDto;
 import com.example.scrumcoreservice.dto.BacklogItemDto;
+import com.example.scrumcoreservice.dto.BacklogItemFilter;
+import com.example.scrumcoreservice.dto.BacklogPageDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
 import com.example.scrumcoreservice.dto.CreateBacklogItemRequest;
 import com.example.scrumcoreservice.security.UserPrincipal;
+import com.example.scrumcoreservice.service.BacklogImportService;
 import com.example.scrumcoreservice.service.BacklogService;
+import com.example.scrumcoreservice.service.ProjectRevisionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 /**
  * RESTful controller for project-scoped backlog operations.
@@ -29,12 +42,49 @@ import java.util.List;
 public class ProjectBacklogController {
 
     private final BacklogService backlogService;
+    private final BacklogImportService backlogImportService;
+    private final ProjectRevisionService projectRevisionService;
 
     @GetMapping("/backlog")
     @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
-    @Operation(summary = "Get project backlog", description = "Get all backlog items for a project, ordered by priority")
+    @Operation(summary = "Get project backlog",
+               description = "Get all backlog items for a project, ordered by priority. Answers 304 when If-None-Match carries the current ETag.")
     public ResponseEntity<List<BacklogItemDto>> getProjectBacklog(
             @PathVariable Long projectId,
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
+
+        // Validate project access
+        boolean hasAccess = principal.getRoles().contains("ORGANIZATION_ADMIN") ||
+            principal.getProjectIds().stream().anyMatch(id -> id.longValue() == projectId);
+        if (!hasAccess) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return projectRevisionService.readWithProjectETag(projectId, eTag -> {
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(backlogService.getProjectBacklog(projectId));
+        });
+    }
+
+    @GetMapping("/backlog-items")
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Page through project backlog",
+               description = "Backlog items in position order, one page at a time. Pass nextCursor as 'after' for the next page. " +
+                             "Filters: status and type (repeatable), priority range, and items with no assigned task.")
+    public ResponseEntity<BacklogPageDto> getProjectBacklogPage(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Set<ProductBacklogItem.ItemStatus> status,
+            @RequestParam(required = false) Set<ProductBacklogItem.ItemType> type,
+            @RequestParam(required = false) Integer minPriority,
+            @RequestParam(required = false) Integer maxPriority,
+            @RequestParam(defaultValue = "false") boolean unassigned,
             @AuthenticationPrincipal UserPrincipal principal) {
 
         // Validate project access
@@ -44,7 +94,14 @@ public class ProjectBacklogController {
             return ResponseEntity.status(403).build();
         }
 
-        return ResponseEntity.ok(backlogService.getProjectBacklog(projectId));
+        BacklogItemFilter filter = BacklogItemFilter.builder()
+                .statuses(status)
+                .types(type)
+                .minPriority(minPriority)
+                .maxPriority(maxPriority)
+                .unassignedOnly(unassigned)
+                .build();
+        return ResponseEntity.ok(backlogService.getProjectBacklogPage(projectId, filter, after, limit));
     }
 
     @PostMapping("/backlog-items")
@@ -77,4 +134,29 @@ public class ProjectBacklogController {
         BacklogItemDto item = backlogService.createBacklogItem(request, principal.getUserId(), userRole);
         return ResponseEntity.status(HttpStatus.CREATED).body(item);
     }
+
+    @PostMapping(value = "/backlog-items/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Import backlog items",
+               description = "Bulk import from NDJSON (one object per line) or CSV with a header row. Fields: title, type, " +
+                             "description, storyPoints, priority, acceptanceCriteria. Items are appended in file order; " +
+                             "invalid rows are skipped and listed in the response.")
+    public ResponseEntity<BacklogImportResultDto> importBacklogItems(
+            @PathVariable Long projectId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            @AuthenticationPrincipal UserPrincipal principal) throws IOException {
+
+        // Validate project access
+        boolean hasAccess = principal.getRoles().contains("ORGANIZATION_ADMIN") ||
+            principal.getProjectIds().stream().anyMatch(id -> id.longValue() == projectId);
+        if (!hasAccess) {
+            return ResponseEntity.status(403).build();
+        }
+
+        String userRole = principal.getRoles().contains("PRODUCT_OWNER") ? "PRODUCT_OWNER" : "ORGANIZATION_ADMIN";
+        BacklogImportResultDto result = backlogImportService.importBacklogItems(
+                projectId, body, contentType, principal.getUserId(), userRole);
+        return ResponseEntity.ok(result);
+    }
 }
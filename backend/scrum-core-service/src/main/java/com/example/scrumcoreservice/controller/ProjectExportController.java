@@ -0,0 +1,47 @@
+package com.example.scrumcoreservice.controller;
+
+import com.example.scrumcoreservice.security.UserPrincipal;
+import com.example.scrumcoreservice.service.ProjectExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/projects/{projectId}")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Project Export", description = "Bulk export of a whole project")
+public class ProjectExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ProjectExportService projectExportService;
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Export project",
+               description = "Streams backlog items, sprints, sprint membership, tasks, impediments and retrospectives " +
+                             "as NDJSON, one {\"type\", \"data\"} object per line")
+    public ResponseEntity<StreamingResponseBody> exportProject(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        // Validate project access
+        boolean hasAccess = principal.getRoles().contains("ORGANIZATION_ADMIN") ||
+            principal.getProjectIds().stream().anyMatch(id -> id.longValue() == projectId);
+        if (!hasAccess) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(out -> projectExportService.exportProject(projectId, out));
+    }
+}
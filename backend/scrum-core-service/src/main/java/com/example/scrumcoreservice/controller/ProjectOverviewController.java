@@ -0,0 +1,42 @@
+package com.example.scrumcoreservice.controller;
+
+import com.example.scrumcoreservice.dto.ProjectOverviewDto;
+import com.example.scrumcoreservice.security.UserPrincipal;
+import com.example.scrumcoreservice.service.ProjectOverviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/projects/{projectId}")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Project Overview", description = "Everything shown when a project is opened, in one call")
+public class ProjectOverviewController {
+
+    private final ProjectOverviewService projectOverviewService;
+
+    @GetMapping("/overview")
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get project overview",
+               description = "Active sprint, sprint list, board column counts, open impediments and pending " +
+                             "approvals read in parallel. Sections that fail or time out are null and listed in 'degraded'.")
+    public ResponseEntity<ProjectOverviewDto> getOverview(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        // Validate project access
+        boolean hasAccess = principal.getRoles().contains("ORGANIZATION_ADMIN") ||
+            principal.getProjectIds().stream().anyMatch(id -> id.longValue() == projectId);
+        if (!hasAccess) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(projectOverviewService.getOverview(projectId, principal.getUserId()));
+    }
+}
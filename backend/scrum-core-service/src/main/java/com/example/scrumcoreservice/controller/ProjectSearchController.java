@@ -0,0 +1,45 @@
+package com.example.scrumcoreservice.controller;
+
+import com.example.scrumcoreservice.dto.SearchPageDto;
+import com.example.scrumcoreservice.security.UserPrincipal;
+import com.example.scrumcoreservice.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/projects/{projectId}")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Project Search", description = "Full-text search within a project")
+public class ProjectSearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Search project",
+               description = "Ranked full-text search over backlog items, tasks and retrospectives. Supports " +
+                             "\"quoted phrases\", OR and -word. Pass nextCursor as 'after' for the next page.")
+    public ResponseEntity<SearchPageDto> search(
+            @PathVariable Long projectId,
+            @RequestParam String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        // Validate project access
+        boolean hasAccess = principal.getRoles().contains("ORGANIZATION_ADMIN") ||
+            principal.getProjectIds().stream().anyMatch(id -> id.longValue() == projectId);
+        if (!hasAccess) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(searchService.search(projectId, q, after, limit));
+    }
+}
@@ -2,15 +2,18 @@ package com.example.scrumcoreservice.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.scrumcoreservice.dto.CreateSprintRequest;
 import com.example.scrumcoreservice.dto.SprintDto;
 import com.example.scrumcoreservice.security.UserPrincipal;
+import com.example.scrumcoreservice.service.ProjectRevisionService;
 import com.example.scrumcoreservice.service.SprintService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 public class ProjectSprintController {
 
     private final SprintService sprintService;
+    private final ProjectRevisionService projectRevisionService;
 
     /* ---------------------------------------------------
      * Helper: project access check (SAFE)
@@ -64,10 +68,12 @@ public class ProjectSprintController {
      * --------------------------------------------------- */
     @GetMapping("/active")
     @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
-    @Operation(summary = "Get active sprint")
+    @Operation(summary = "Get active sprint",
+               description = "Answers 304 when If-None-Match carries the current ETag")
     public ResponseEntity<SprintDto> getActiveSprint(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal UserPrincipal principal) {
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
 
         System.out.println("=== ACTIVE SPRINT ACCESS CHECK ===");
         System.out.println("Requested Project ID: " + projectId);
@@ -79,10 +85,15 @@ public class ProjectSprintController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        SprintDto activeSprint = sprintService.getActiveSprint(projectId);
-        return activeSprint == null
-                ? ResponseEntity.noContent().build()
-                : ResponseEntity.ok(activeSprint);
+        return projectRevisionService.readWithProjectETag(projectId, eTag -> {
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            SprintDto activeSprint = sprintService.getActiveSprint(projectId);
+            return activeSprint == null
+                    ? ResponseEntity.noContent().cacheControl(CacheControl.noCache().cachePrivate()).build()
+                    : ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(activeSprint);
+        });
     }
 
     /* ---------------------------------------------------
@@ -3,19 +3,25 @@ package com.example.scrumcoreservice.controller;
 import com.example.scrumcoreservice.dto.CreateSprintRequest;
 import com.example.scrumcoreservice.dto.SprintDto;
 import com.example.scrumcoreservice.security.UserPrincipal;
-import com.example.scrumcoreservice.service.RabbitMQLoggerService;
+import com.example.scrumcoreservice.service.BoardStreamService;
+import com.example.scrumcoreservice.service.ProjectRevisionService;
 import com.example.scrumcoreservice.service.SprintService;
+import com.example.servicesupport.logging.RabbitMQLoggerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -28,6 +34,8 @@ public class SprintController {
 
     private final SprintService sprintService;
     private final RabbitMQLoggerService logger;
+    private final ProjectRevisionService projectRevisionService;
+    private final BoardStreamService boardStreamService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('SCRUM_MASTER', 'ORGANIZATION_ADMIN')")
@@ -157,16 +165,37 @@ public class SprintController {
     @GetMapping("/{sprintId}/board")
     @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
     @Operation(summary = "Get sprint board",
-               description = "Get sprint board view with backlog items grouped by board column (TO_DO, IN_PROGRESS, REVIEW, DONE)")
-    public ResponseEntity<com.example.scrumcoreservice.dto.SprintBoardDto> getSprintBoard(@PathVariable Long sprintId) {
-        return ResponseEntity.ok(sprintService.getSprintBoard(sprintId));
+               description = "Get sprint board view with backlog items grouped by board column (TO_DO, IN_PROGRESS, REVIEW, DONE). " +
+                             "Answers 304 when If-None-Match carries the current ETag.")
+    public ResponseEntity<com.example.scrumcoreservice.dto.SprintBoardDto> getSprintBoard(
+            @PathVariable Long sprintId,
+            WebRequest webRequest) {
+        return projectRevisionService.readWithSprintETag(sprintId, eTag -> {
+            // An unknown sprint has no ETag and falls through to the usual not-found handling
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(sprintService.getSprintBoard(sprintId));
+        });
+    }
+
+    @GetMapping(path = "/{sprintId}/board/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('PRODUCT_OWNER', 'SCRUM_MASTER', 'DEVELOPER', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Stream sprint board changes",
+               description = "Server-Sent Events stream of board deltas (item, task and sprint events) published after each change commits. " +
+                             "Load the board first, then apply deltas; reload it after reconnecting.")
+    public SseEmitter streamSprintBoard(@PathVariable Long sprintId) {
+        return boardStreamService.subscribe(sprintId);
     }
 
     @PostMapping("/{sprintId}/board/move")
     @PreAuthorize("hasAnyRole('DEVELOPER', 'SCRUM_MASTER', 'PRODUCT_OWNER', 'ORGANIZATION_ADMIN')")
     @Operation(summary = "Move item on sprint board",
-               description = "Move a backlog item between board columns (TO_DO → IN_PROGRESS → REVIEW → DONE). Can move in any order.")
-    public ResponseEntity<Void> moveBoardItem(
+               description = "Move a backlog item between board columns (TO_DO → IN_PROGRESS → REVIEW → DONE). Can move in any order. " +
+                             "Send the item's version to move only if nobody changed it since; otherwise 409 with the current item.")
+    public ResponseEntity<com.example.scrumcoreservice.dto.BacklogItemDto> moveBoardItem(
             @PathVariable Long sprintId,
             @Valid @RequestBody com.example.scrumcoreservice.dto.MoveBoardItemRequest request) {
 
@@ -177,7 +206,7 @@ public class SprintController {
             return ResponseEntity.badRequest().build();
         }
 
-        sprintService.moveBoardItem(sprintId, request.getBacklogItemId(), targetColumn);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(sprintService.moveBoardItem(sprintId, request.getBacklogItemId(), targetColumn,
+                request.getVersion()));
     }
 }
@@ -59,11 +59,13 @@ public class TaskController {
 
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasAnyRole('DEVELOPER', 'ORGANIZATION_ADMIN')")
-    @Operation(summary = "Update task status", description = "Update task status - developers can only update their assigned tasks")
+    @Operation(summary = "Update task status", description = "Update task status - developers can only update their assigned tasks. " +
+                                                          "Send the task's version to update only if nobody changed it since; otherwise 409 with the current task.")
     public ResponseEntity<TaskDto> updateTaskStatus(
             @PathVariable Long id,
-            @RequestParam Task.TaskStatus status) {
-        return ResponseEntity.ok(taskService.updateTaskStatus(id, status));
+            @RequestParam Task.TaskStatus status,
+            @RequestParam(required = false) Long version) {
+        return ResponseEntity.ok(taskService.updateTaskStatus(id, status, version));
     }
 
     @PatchMapping("/{id}/assign")
@@ -0,0 +1,28 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxItemDto {
+    private Long backlogItemId;
+    private Long sprintId;
+    private Long projectId;
+    private String title;
+    private String type;
+    private Integer storyPoints;
+    private Integer priority;
+    private String sprintName;
+    private LocalDate sprintStartDate;
+    private Long requestedBy; // creator of the backlog item
+    private String requestedByRole;
+    private LocalDateTime requestedAt;
+}
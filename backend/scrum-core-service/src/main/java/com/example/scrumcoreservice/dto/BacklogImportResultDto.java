@@ -0,0 +1,33 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BacklogImportResultDto {
+
+    private int imported;
+    private int failed;
+
+    // Only the first errors are listed; failed counts them all
+    @Builder.Default
+    private List<RowErrorDto> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowErrorDto {
+        private long row; // line (NDJSON) or record (CSV, header excluded), starting at 1
+        private String message;
+    }
+}
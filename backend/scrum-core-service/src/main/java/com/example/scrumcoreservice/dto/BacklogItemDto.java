@@ -30,6 +30,7 @@ public class BacklogItemDto {
     private Long reviewedBy;
     private LocalDateTime reviewedAt;
     private String rejectionReason;
+    private Long version; // send back with updates; a stale one is answered with 409
 
     public static BacklogItemDto fromEntity(ProductBacklogItem item) {
         return BacklogItemDto.builder()
@@ -50,6 +51,7 @@ public class BacklogItemDto {
                 .reviewedBy(item.getReviewedBy())
                 .reviewedAt(item.getReviewedAt())
                 .rejectionReason(item.getRejectionReason())
+                .version(item.getVersion())
                 .build();
     }
 }
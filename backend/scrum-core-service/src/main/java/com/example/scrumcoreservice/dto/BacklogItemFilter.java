@@ -0,0 +1,24 @@
+package com.example.scrumcoreservice.dto;
+
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Server-side filters of the paged backlog. Null or empty fields do not filter.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacklogItemFilter {
+    private Set<ProductBacklogItem.ItemStatus> statuses;
+    private Set<ProductBacklogItem.ItemType> types;
+    private Integer minPriority;
+    private Integer maxPriority;
+    private boolean unassignedOnly; // no task of the item has an assignee
+}
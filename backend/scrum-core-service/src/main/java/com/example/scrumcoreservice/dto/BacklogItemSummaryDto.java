@@ -0,0 +1,32 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Backlog list row. Leaves out the TEXT columns (description, acceptance criteria, rejection
+ * reason); the detail endpoint returns the full item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacklogItemSummaryDto {
+    private Long id;
+    private Long projectId;
+    private String title;
+    private String type;
+    private Integer storyPoints;
+    private Integer priority;
+    private Integer position;
+    private String status;
+    private String boardColumn;
+    private Long createdBy;
+    private String createdByRole;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacklogPageDto {
+    private List<BacklogItemSummaryDto> items;
+    private String nextCursor; // pass as "after" to fetch the next page; null on the last page
+    private boolean hasMore;
+}
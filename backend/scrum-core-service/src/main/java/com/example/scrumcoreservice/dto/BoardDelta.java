@@ -0,0 +1,36 @@
+package com.example.scrumcoreservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One change pushed to open sprint boards. Only the fields relevant to the changed entity are
+ * set; clients patch their board in place and refetch it after reconnecting.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardDelta {
+
+    private String type; // item, task, sprint
+    private String action;
+    private Long sprintId;
+    private Long itemId;
+    private Long taskId;
+    private String title;
+    private String status;
+    private String boardColumn;
+    private Integer storyPoints;
+    private Long assigneeId;
+    private String timestamp;
+
+    // Routing only; the board already knows its project
+    @JsonIgnore
+    private Long projectId;
+}
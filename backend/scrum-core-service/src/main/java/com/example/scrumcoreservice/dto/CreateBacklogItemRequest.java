@@ -35,4 +35,8 @@ public class CreateBacklogItemRequest {
     // List of all team member IDs who need to approve this item
     // (Product Owner + all Developers in the sprint's team)
     private List<Long> assignedDeveloperIds;
+
+    // Optional on update: version of the item the edit is based on.
+    // A stale version is refused with 409 instead of overwriting a concurrent change
+    private Long version;
 }
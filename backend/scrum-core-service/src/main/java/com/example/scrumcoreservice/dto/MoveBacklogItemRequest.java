@@ -0,0 +1,17 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoveBacklogItemRequest {
+
+    private Long afterId;  // item that ends up directly above; null when moving to the top
+
+    private Long beforeId; // item that ends up directly below; null when moving to the bottom
+}
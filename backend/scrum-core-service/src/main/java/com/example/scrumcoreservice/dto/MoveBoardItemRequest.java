@@ -18,4 +18,6 @@ public class MoveBoardItemRequest {
 
     @NotBlank(message = "Target column is required")
     private String targetColumn; // TO_DO, IN_PROGRESS, REVIEW, DONE
+
+    private Long version; // backlog item version the move is based on; omit to skip the check
 }
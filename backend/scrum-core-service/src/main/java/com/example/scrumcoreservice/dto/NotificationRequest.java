@@ -0,0 +1,30 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One notification as accepted by collaboration-service {@code POST /notifications/batch}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationRequest {
+    private Long recipientId;
+    private String type;
+    private Payload payload;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Payload {
+        private String title;
+        private String message;
+        private String entityType;
+        private Long entityId;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * What the team portal shows when a project is opened. A section that failed or did not answer
+ * in time is null and named in {@code degraded}; the rest of the overview is still returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectOverviewDto {
+
+    private Long projectId;
+    private SprintDto activeSprint;
+    private List<SprintDto> sprints;
+
+    // Card counts of the active sprint's board; cards themselves come from the board endpoint
+    private BoardSummaryDto board;
+    private List<ImpedimentDto> openImpediments;
+    private ApprovalSummaryDto approvals;
+
+    private List<String> degraded;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BoardSummaryDto {
+        private ColumnCountDto toDo;
+        private ColumnCountDto inProgress;
+        private ColumnCountDto review;
+        private ColumnCountDto done;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ColumnCountDto {
+        private long items;
+        private long storyPoints;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ApprovalSummaryDto {
+        // Items of the active sprint still waiting for a developer response
+        private Long sprintItemsPending;
+        // Approvals waiting for the caller's own response, across projects
+        private Long awaitingMyResponse;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDto {
+    private String type; // BACKLOG_ITEM, TASK, RETROSPECTIVE
+    private Long id;
+    private Long parentId; // backlog item of a task, sprint of a retrospective
+    private String title;
+    private String snippet; // HTML-escaped, matches wrapped in <mark>
+    private float rank;
+}
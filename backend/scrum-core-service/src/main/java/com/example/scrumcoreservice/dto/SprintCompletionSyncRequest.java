@@ -0,0 +1,25 @@
+package com.example.scrumcoreservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of reporting-service {@code POST /api/sync/sprint-completion}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintCompletionSyncRequest {
+    private Long sprintId;
+    private Long projectId;
+    private Long teamId;
+    private String sprintName;
+    private String endDate; // ISO-8601 date
+    private Integer completedPoints;
+    private Integer velocity;
+    private Integer storiesCompleted;
+    private Integer backlogItemsRemaining;
+}
@@ -27,6 +27,7 @@ public class SprintDto {
     private LocalDateTime createdAt;
     private LocalDateTime startedAt;
     private LocalDateTime endedAt;
+    private Long version;
 
     public static SprintDto fromEntity(Sprint sprint) {
         return SprintDto.builder()
@@ -43,6 +44,7 @@ public class SprintDto {
                 .createdAt(sprint.getCreatedAt())
                 .startedAt(sprint.getStartedAt())
                 .endedAt(sprint.getEndedAt())
+                .version(sprint.getVersion())
                 .build();
     }
 }
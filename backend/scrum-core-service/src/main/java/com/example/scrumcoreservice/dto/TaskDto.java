@@ -25,6 +25,7 @@ public class TaskDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime completedAt;
+    private Long version; // send back with status changes; a stale one is answered with 409
 
     public static TaskDto fromEntity(Task task) {
         return TaskDto.builder()
@@ -39,6 +40,7 @@ public class TaskDto {
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .completedAt(task.getCompletedAt())
+                .version(task.getVersion())
                 .build();
     }
 }
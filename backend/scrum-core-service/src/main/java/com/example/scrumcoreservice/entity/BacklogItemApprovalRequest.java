@@ -0,0 +1,60 @@
+package com.example.scrumcoreservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Response counters of one approval request, i.e. all {@link BacklogItemApproval}s of a backlog
+ * item for a sprint. Moved by the same statement that records each response.
+ */
+@Entity
+@Table(name = "backlog_item_approval_requests")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(BacklogItemApprovalRequest.BacklogItemApprovalRequestId.class)
+public class BacklogItemApprovalRequest {
+
+    @Id
+    @Column(name = "backlog_item_id")
+    private Long backlogItemId;
+
+    @Id
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private int approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private int rejectedCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Every response is in and none of them is a rejection
+     */
+    public boolean isAllApproved() {
+        return pendingCount == 0 && rejectedCount == 0;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BacklogItemApprovalRequestId implements Serializable {
+        private Long backlogItemId;
+        private Long sprintId;
+    }
+}
@@ -2,11 +2,16 @@ package com.example.scrumcoreservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "backlog-item")
 @Table(name = "product_backlog_items")
+@DynamicUpdate // an update writes only changed columns, so it never puts back a position moved by a reorder
 @Getter
 @Setter
 @NoArgsConstructor
@@ -73,6 +78,9 @@ public class ProductBacklogItem {
     @Column(name = "board_column", length = 20)
     private BoardColumn boardColumn;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
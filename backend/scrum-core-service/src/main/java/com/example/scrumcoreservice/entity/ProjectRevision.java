@@ -0,0 +1,26 @@
+package com.example.scrumcoreservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "project_revisions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectRevision {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private Long revision;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
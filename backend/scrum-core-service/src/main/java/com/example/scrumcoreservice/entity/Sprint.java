@@ -2,11 +2,14 @@ package com.example.scrumcoreservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sprint")
 @Table(name = "sprints")
 @Getter
 @Setter
@@ -57,6 +60,9 @@ public class Sprint {
     @Column(name = "ended_at")
     private LocalDateTime endedAt;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
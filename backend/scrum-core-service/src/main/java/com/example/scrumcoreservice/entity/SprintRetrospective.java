@@ -5,12 +5,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "retrospective")
 @Table(name = "sprint_retrospectives")
 @Data
 @Builder
@@ -34,8 +38,13 @@ public class SprintRetrospective {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // The lists of all retrospectives in the persistence context load together, up to 500 at a
+    // time (the project export maps a chunk of that size at once)
+
     // What went well during the sprint
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "retrospective")
+    @BatchSize(size = 500)
     @CollectionTable(name = "retrospective_went_well", joinColumns = @JoinColumn(name = "retrospective_id"))
     @Column(name = "item", columnDefinition = "TEXT")
     @Builder.Default
@@ -43,6 +52,8 @@ public class SprintRetrospective {
 
     // What could be improved
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "retrospective")
+    @BatchSize(size = 500)
     @CollectionTable(name = "retrospective_improvements", joinColumns = @JoinColumn(name = "retrospective_id"))
     @Column(name = "item", columnDefinition = "TEXT")
     @Builder.Default
@@ -50,6 +61,8 @@ public class SprintRetrospective {
 
     // Action items for next sprint
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "retrospective")
+    @BatchSize(size = 500)
     @CollectionTable(name = "retrospective_action_items", joinColumns = @JoinColumn(name = "retrospective_id"))
     @Column(name = "item", columnDefinition = "TEXT")
     @Builder.Default
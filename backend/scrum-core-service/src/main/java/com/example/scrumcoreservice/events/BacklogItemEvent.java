@@ -18,7 +18,9 @@ public class BacklogItemEvent {
     private String type; // STORY, EPIC, BUG, TECHNICAL_TASK
     private String status; // BACKLOG, IN_SPRINT, COMPLETED, ARCHIVED
     private Integer storyPoints;
-    private String action; // CREATED, UPDATED, ESTIMATED, STATUS_CHANGED
+    private Long sprintId; // set for board moves
+    private String boardColumn; // TO_DO, IN_PROGRESS, REVIEW, DONE
+    private String action; // CREATED, UPDATED, ESTIMATED, STATUS_CHANGED, MOVED
     private Instant timestamp;
     private Long performedBy;
 }
@@ -1,8 +1,11 @@
 package com.example.scrumcoreservice.exception;
 
+import com.example.scrumcoreservice.service.ConflictStateService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,9 +21,34 @@ import java.util.Map;
  * Provides consistent error response format and proper HTTP status codes.
  */
 @ControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final ConflictStateService conflictStateService;
+
+    /**
+     * Handle optimistic locking conflicts: the entity changed since the client read it, either
+     * before this request (stale version sent) or while it ran (@Version check at flush).
+     * Returns 409 Conflict with the entity's current state under "current".
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex,
+                                                                 WebRequest request) {
+        log.warn("Version conflict on {} {}", ex.getPersistentClassName(), ex.getIdentifier());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict");
+        body.put("message", "This was changed by someone else. Review the current version and try again.");
+        body.put("path", request.getDescription(false).replace("uri=", ""));
+        conflictStateService.currentState(ex.getPersistentClassName(), ex.getIdentifier())
+                .ifPresent(current -> body.put("current", current));
+
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handle business logic exceptions (validation failures, Scrum rule violations, etc.)
      * Returns 400 Bad Request with the error message.
@@ -0,0 +1,23 @@
+package com.example.scrumcoreservice.exception;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Compare step of a compare-and-set write: the client sends the version it read and the write is
+ * refused when the entity has moved on since. Answered with 409 by {@link GlobalExceptionHandler},
+ * the same as a lost race detected by {@code @Version} at flush.
+ */
+public final class VersionCheck {
+
+    private VersionCheck() {
+    }
+
+    /**
+     * No-op when the client sent no version.
+     */
+    public static void require(Class<?> entityClass, Long id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new ObjectOptimisticLockingFailureException(entityClass, id);
+        }
+    }
+}
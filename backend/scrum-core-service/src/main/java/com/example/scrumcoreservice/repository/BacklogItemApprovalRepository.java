@@ -1,17 +1,48 @@
 package com.example.scrumcoreservice.repository;
 
 import com.example.scrumcoreservice.entity.BacklogItemApproval;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BacklogItemApprovalRepository extends JpaRepository<BacklogItemApproval, BacklogItemApproval.BacklogItemApprovalId> {
 
+    interface InboxEntry {
+        Long getBacklogItemId();
+
+        Long getSprintId();
+
+        Long getProjectId();
+
+        String getTitle();
+
+        ProductBacklogItem.ItemType getType();
+
+        Integer getStoryPoints();
+
+        Integer getPriority();
+
+        String getSprintName();
+
+        LocalDate getSprintStartDate();
+
+        Long getRequestedBy();
+
+        String getRequestedByRole();
+
+        LocalDateTime getRequestedAt();
+    }
+
     /**
      * Find all approvals for a specific backlog item in a sprint
      */
@@ -29,16 +60,6 @@ public interface BacklogItemApprovalRepository extends JpaRepository<BacklogItem
             Long backlogItemId, Long sprintId, Long developerId);
 
 
-    /**
-     * Check if all approvals for a backlog item in a sprint are approved
-     */
-    @Query("SELECT COUNT(a) = 0 FROM BacklogItemApproval a " +
-           "WHERE a.backlogItemId = :backlogItemId " +
-           "AND a.sprintId = :sprintId " +
-           "AND a.status != 'APPROVED'")
-    boolean areAllApprovalsApproved(@Param("backlogItemId") Long backlogItemId,
-                                     @Param("sprintId") Long sprintId);
-
     /**
      * Check if any approval for a backlog item in a sprint is rejected
      */
@@ -52,7 +73,17 @@ public interface BacklogItemApprovalRepository extends JpaRepository<BacklogItem
     /**
      * Delete all approvals for a specific backlog item in a sprint
      */
-    void deleteByBacklogItemIdAndSprintId(Long backlogItemId, Long sprintId);
+    @Modifying
+    @Query("DELETE FROM BacklogItemApproval a WHERE a.backlogItemId = :backlogItemId AND a.sprintId = :sprintId")
+    int deleteByBacklogItemIdAndSprintId(@Param("backlogItemId") Long backlogItemId,
+                                         @Param("sprintId") Long sprintId);
+
+    /**
+     * Delete all approvals for a sprint in one statement
+     */
+    @Modifying
+    @Query("DELETE FROM BacklogItemApproval a WHERE a.sprintId = :sprintId")
+    int deleteBySprintId(@Param("sprintId") Long sprintId);
 
     /**
      * Find all approvals for a sprint
@@ -68,4 +99,38 @@ public interface BacklogItemApprovalRepository extends JpaRepository<BacklogItem
            "AND a.status = 'PENDING'")
     long countPendingApprovals(@Param("backlogItemId") Long backlogItemId,
                                @Param("sprintId") Long sprintId);
+
+    String INBOX_SELECT =
+            "SELECT a.backlogItemId AS backlogItemId, a.sprintId AS sprintId, p.projectId AS projectId, " +
+            "p.title AS title, p.type AS type, p.storyPoints AS storyPoints, p.priority AS priority, " +
+            "s.name AS sprintName, s.startDate AS sprintStartDate, " +
+            "p.createdBy AS requestedBy, p.createdByRole AS requestedByRole, a.requestedAt AS requestedAt " +
+            "FROM BacklogItemApproval a " +
+            "JOIN ProductBacklogItem p ON p.id = a.backlogItemId " +
+            "JOIN Sprint s ON s.id = a.sprintId " +
+            "WHERE a.developerId = :developerId AND a.status = 'PENDING' ";
+    String INBOX_ORDER = "ORDER BY a.requestedAt, a.backlogItemId, a.sprintId";
+
+    /**
+     * First page of a developer's pending approvals with the item and sprint details the inbox
+     * shows, oldest request first
+     */
+    @Query(INBOX_SELECT + INBOX_ORDER)
+    List<InboxEntry> findPendingInbox(@Param("developerId") Long developerId, Limit limit);
+
+    /**
+     * Next page of {@link #findPendingInbox}, resuming after the given (requestedAt, item, sprint)
+     */
+    @Query(INBOX_SELECT +
+           "AND (a.requestedAt > :afterRequestedAt OR (a.requestedAt = :afterRequestedAt " +
+           "AND (a.backlogItemId > :afterItemId OR (a.backlogItemId = :afterItemId AND a.sprintId > :afterSprintId)))) " +
+           INBOX_ORDER)
+    List<InboxEntry> findPendingInboxAfter(@Param("developerId") Long developerId,
+                                           @Param("afterRequestedAt") LocalDateTime afterRequestedAt,
+                                           @Param("afterItemId") Long afterItemId,
+                                           @Param("afterSprintId") Long afterSprintId,
+                                           Limit limit);
+
+    @Query("SELECT COUNT(a) FROM BacklogItemApproval a WHERE a.developerId = :developerId AND a.status = 'PENDING'")
+    long countPendingForDeveloper(@Param("developerId") Long developerId);
 }
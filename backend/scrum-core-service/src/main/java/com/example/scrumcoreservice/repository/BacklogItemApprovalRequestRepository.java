@@ -0,0 +1,90 @@
+package com.example.scrumcoreservice.repository;
+
+import com.example.scrumcoreservice.entity.BacklogItemApprovalRequest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface BacklogItemApprovalRequestRepository
+        extends JpaRepository<BacklogItemApprovalRequest, BacklogItemApprovalRequest.BacklogItemApprovalRequestId> {
+
+    /**
+     * A recorded response together with the request's counters after it
+     */
+    interface ApprovalResponse {
+        LocalDateTime getRequestedAt();
+        LocalDateTime getRespondedAt();
+        int getPendingCount();
+        int getApprovedCount();
+        int getRejectedCount();
+
+        default boolean isAllApproved() {
+            return getPendingCount() == 0 && getRejectedCount() == 0;
+        }
+    }
+
+    /**
+     * Opens a request awaiting the given number of responses
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "backlog_item_approval_requests"))
+    @Query(value = "INSERT INTO backlog_item_approval_requests " +
+                   "(backlog_item_id, sprint_id, pending_count, approved_count, rejected_count, created_at, updated_at) " +
+                   "VALUES (:backlogItemId, :sprintId, :pendingCount, 0, 0, :now, :now)",
+           nativeQuery = true)
+    int open(@Param("backlogItemId") Long backlogItemId,
+             @Param("sprintId") Long sprintId,
+             @Param("pendingCount") int pendingCount,
+             @Param("now") LocalDateTime now);
+
+    /**
+     * Records a developer's response and moves one pending count to the approved or rejected
+     * count in a single statement. Empty when there is no pending approval for the developer,
+     * so two concurrent responses of the same developer cannot both be counted.
+     */
+    @Query(value = "WITH responded AS (" +
+                   "  UPDATE backlog_item_approvals " +
+                   "  SET status = CAST(:status AS VARCHAR), rejection_reason = CAST(:reason AS TEXT), responded_at = :now " +
+                   "  WHERE backlog_item_id = :backlogItemId AND sprint_id = :sprintId " +
+                   "  AND developer_id = :developerId AND status = 'PENDING' " +
+                   "  RETURNING backlog_item_id, sprint_id, requested_at, responded_at) " +
+                   "UPDATE backlog_item_approval_requests r " +
+                   "SET pending_count = r.pending_count - 1, " +
+                   "    approved_count = r.approved_count + CASE WHEN CAST(:status AS VARCHAR) = 'APPROVED' THEN 1 ELSE 0 END, " +
+                   "    rejected_count = r.rejected_count + CASE WHEN CAST(:status AS VARCHAR) = 'REJECTED' THEN 1 ELSE 0 END, " +
+                   "    updated_at = :now " +
+                   "FROM responded " +
+                   "WHERE r.backlog_item_id = responded.backlog_item_id AND r.sprint_id = responded.sprint_id " +
+                   "RETURNING responded.requested_at AS requestedAt, responded.responded_at AS respondedAt, " +
+                   "r.pending_count AS pendingCount, r.approved_count AS approvedCount, r.rejected_count AS rejectedCount",
+           nativeQuery = true)
+    Optional<ApprovalResponse> respond(@Param("backlogItemId") Long backlogItemId,
+                                       @Param("sprintId") Long sprintId,
+                                       @Param("developerId") Long developerId,
+                                       @Param("status") String status,
+                                       @Param("reason") String reason,
+                                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM BacklogItemApprovalRequest r WHERE r.backlogItemId = :backlogItemId AND r.sprintId = :sprintId")
+    int deleteByBacklogItemIdAndSprintId(@Param("backlogItemId") Long backlogItemId,
+                                         @Param("sprintId") Long sprintId);
+
+    @Modifying
+    @Query("DELETE FROM BacklogItemApprovalRequest r WHERE r.sprintId = :sprintId")
+    int deleteBySprintId(@Param("sprintId") Long sprintId);
+
+    /**
+     * Backlog items of a sprint still waiting for at least one approval response
+     */
+    long countBySprintIdAndPendingCountGreaterThan(Long sprintId, int pendingCount);
+}
@@ -1,10 +1,16 @@
 package com.example.scrumcoreservice.repository;
 
 import com.example.scrumcoreservice.entity.Impediment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ImpedimentRepository extends JpaRepository<Impediment, Long> {
@@ -14,4 +20,12 @@ public interface ImpedimentRepository extends JpaRepository<Impediment, Long> {
     List<Impediment> findBySprintIdAndStatus(Long sprintId, Impediment.ImpedimentStatus status);
 
     List<Impediment> findByAssignedTo(Long assignedTo);
+
+    /**
+     * All impediments of a project, read through a cursor (project export)
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT i FROM Impediment i WHERE i.sprint.projectId = :projectId ORDER BY i.id")
+    Stream<Impediment> streamByProjectId(@Param("projectId") Long projectId);
 }
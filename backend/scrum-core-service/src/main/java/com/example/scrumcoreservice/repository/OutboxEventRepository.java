@@ -0,0 +1,42 @@
+package com.example.scrumcoreservice.repository;
+
+import com.example.scrumcoreservice.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Transaction-scoped advisory lock so only one replica relays at a time, which keeps
+     * per-key delivery order intact. Released automatically on commit or rollback.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryRelayLock(@Param("lockKey") long lockKey);
+
+    /**
+     * Oldest pending events in insertion order, including ones still backing off so the relay
+     * can hold back later events that share their key.
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE status = 'PENDING' ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<OutboxEvent> findRelayBatch(@Param("limit") int limit);
+
+    /**
+     * Pending event count and the creation time of the oldest one, for lag metrics.
+     */
+    @Query("SELECT COUNT(o) AS pending, MIN(o.createdAt) AS oldestCreatedAt " +
+           "FROM OutboxEvent o WHERE o.status = com.example.scrumcoreservice.entity.OutboxEvent.OutboxStatus.PENDING")
+    OutboxBacklog summarizePending();
+
+    interface OutboxBacklog {
+        long getPending();
+
+        LocalDateTime getOldestCreatedAt();
+    }
+}
@@ -1,14 +1,33 @@
 package com.example.scrumcoreservice.repository;
 
 import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductBacklogItemRepository extends JpaRepository<ProductBacklogItem, Long> {
+public interface ProductBacklogItemRepository extends JpaRepository<ProductBacklogItem, Long>,
+        ProductBacklogItemRepositoryCustom {
+
+    /**
+     * Rank of a backlog item: its project and sparse position.
+     */
+    interface BacklogRank {
+        Long getId();
+        Long getProjectId();
+        Integer getPosition();
+    }
 
     List<ProductBacklogItem> findByProjectIdOrderByPositionAsc(Long projectId);
 
@@ -19,5 +38,113 @@ public interface ProductBacklogItemRepository extends JpaRepository<ProductBackl
     @Query("SELECT MAX(p.position) FROM ProductBacklogItem p WHERE p.projectId = :projectId")
     Integer findMaxPositionByProjectId(Long projectId);
 
+    @Query("SELECT p.projectId FROM ProductBacklogItem p WHERE p.id = :id")
+    Optional<Long> findProjectIdById(@Param("id") Long id);
+
     List<ProductBacklogItem> findByProjectIdAndType(Long projectId, ProductBacklogItem.ItemType type);
+
+    /**
+     * Items of a sprint whose status is not one of the given statuses (e.g. items not ready to start)
+     */
+    @Query("SELECT p FROM ProductBacklogItem p WHERE p.id IN " +
+           "(SELECT sbi.backlogItemId FROM SprintBacklogItem sbi WHERE sbi.sprintId = :sprintId) " +
+           "AND p.status NOT IN :statuses ORDER BY p.position")
+    List<ProductBacklogItem> findSprintItemsNotInStatus(@Param("sprintId") Long sprintId,
+                                                        @Param("statuses") Collection<ProductBacklogItem.ItemStatus> statuses);
+
+    /**
+     * Move every item of a sprint to the given status and board column in one statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductBacklogItem p SET p.status = :status, p.boardColumn = :boardColumn, p.updatedAt = :now, " +
+           "p.version = p.version + 1 " +
+           "WHERE p.id IN (SELECT sbi.backlogItemId FROM SprintBacklogItem sbi WHERE sbi.sprintId = :sprintId)")
+    int updateStatusAndBoardColumnForSprint(@Param("sprintId") Long sprintId,
+                                            @Param("status") ProductBacklogItem.ItemStatus status,
+                                            @Param("boardColumn") ProductBacklogItem.BoardColumn boardColumn,
+                                            @Param("now") LocalDateTime now);
+
+    /**
+     * Return every item of a sprint that is not in one of the given statuses to the given status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductBacklogItem p SET p.status = :status, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.id IN (SELECT sbi.backlogItemId FROM SprintBacklogItem sbi WHERE sbi.sprintId = :sprintId) " +
+           "AND p.status NOT IN :excludedStatuses")
+    int updateSprintItemsNotInStatus(@Param("sprintId") Long sprintId,
+                                     @Param("excludedStatuses") Collection<ProductBacklogItem.ItemStatus> excludedStatuses,
+                                     @Param("status") ProductBacklogItem.ItemStatus status,
+                                     @Param("now") LocalDateTime now);
+
+    /**
+     * Move every item still awaiting a response to an approval request for the sprint from
+     * one status to another
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductBacklogItem p SET p.status = :status, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.id IN (SELECT r.backlogItemId FROM BacklogItemApprovalRequest r " +
+           "WHERE r.sprintId = :sprintId AND r.pendingCount > 0) " +
+           "AND p.status = :currentStatus")
+    int updatePendingApprovalItemsForSprint(@Param("sprintId") Long sprintId,
+                                            @Param("currentStatus") ProductBacklogItem.ItemStatus currentStatus,
+                                            @Param("status") ProductBacklogItem.ItemStatus status,
+                                            @Param("now") LocalDateTime now);
+
+    /**
+     * Serializes rank changes (appends, moves, rebalances) within one project until the
+     * transaction ends. Other projects are not blocked.
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(:namespace, CAST(:projectId % 2147483647 AS int))) AS l",
+           nativeQuery = true)
+    long lockRanking(@Param("namespace") int namespace, @Param("projectId") Long projectId);
+
+    Optional<BacklogRank> findRankById(Long id);
+
+    @Query("SELECT p.id AS id, p.projectId AS projectId, p.position AS position FROM ProductBacklogItem p " +
+           "WHERE p.projectId = :projectId ORDER BY p.position, p.id")
+    List<BacklogRank> findRanksByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Native with its table declared, like {@link #rebalancePositions}, so only the backlog item
+     * cache region is invalidated. Callers report the id to the other replicas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_backlog_items"))
+    @Query(value = "UPDATE product_backlog_items SET position = :position, updated_at = :now WHERE id = :id",
+           nativeQuery = true)
+    int updatePosition(@Param("id") Long id, @Param("position") int position, @Param("now") LocalDateTime now);
+
+    /**
+     * Re-spaces a project's positions to multiples of {@code gap} in current order, writing only
+     * rows whose position actually changes. Only the backlog item cache region is invalidated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_backlog_items"))
+    @Query(value = "UPDATE product_backlog_items p SET position = r.rn * :gap, updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY position, id) AS rn " +
+                   "      FROM product_backlog_items WHERE project_id = :projectId) r " +
+                   "WHERE p.id = r.id AND p.project_id = :projectId AND p.position <> r.rn * :gap",
+           nativeQuery = true)
+    int rebalancePositions(@Param("projectId") Long projectId, @Param("gap") int gap);
+
+    /**
+     * Projects where two neighbouring items are closer than {@code minGap}, i.e. where further
+     * moves between them are about to run out of room.
+     */
+    @Query(value = "SELECT DISTINCT project_id FROM (" +
+                   "  SELECT project_id, position - LAG(position) OVER (PARTITION BY project_id ORDER BY position, id) AS gap " +
+                   "  FROM product_backlog_items) g " +
+                   "WHERE gap < :minGap LIMIT :maxProjects",
+           nativeQuery = true)
+    List<Long> findCrowdedProjectIds(@Param("minGap") int minGap, @Param("maxProjects") int maxProjects);
+
+    /**
+     * All items of a project in backlog order, read through a cursor (project export);
+     * bypasses the second-level cache so an export does not flush it
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")})
+    @Query("SELECT p FROM ProductBacklogItem p WHERE p.projectId = :projectId ORDER BY p.position, p.id")
+    Stream<ProductBacklogItem> streamByProjectId(@Param("projectId") Long projectId);
 }
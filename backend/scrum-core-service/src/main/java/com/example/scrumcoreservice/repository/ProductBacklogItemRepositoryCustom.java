@@ -0,0 +1,16 @@
+package com.example.scrumcoreservice.repository;
+
+import com.example.scrumcoreservice.dto.BacklogItemFilter;
+import com.example.scrumcoreservice.dto.BacklogItemSummaryDto;
+
+import java.util.List;
+
+public interface ProductBacklogItemRepositoryCustom {
+
+    /**
+     * Up to {@code limit} backlog rows of a project in (position, id) order, starting after the
+     * given keyset position (null for the first page).
+     */
+    List<BacklogItemSummaryDto> findBacklogPage(Long projectId, BacklogItemFilter filter,
+                                                Integer afterPosition, Long afterId, int limit);
+}
@@ -0,0 +1,98 @@
+package com.example.scrumcoreservice.repository;
+
+import com.example.scrumcoreservice.dto.BacklogItemFilter;
+import com.example.scrumcoreservice.dto.BacklogItemSummaryDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The paged backlog query is assembled from the filters actually present, so each combination
+ * gets its own plan and can use the matching composite index instead of a catch-all
+ * {@code (:x IS NULL OR ...)} predicate.
+ */
+class ProductBacklogItemRepositoryCustomImpl implements ProductBacklogItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BacklogItemSummaryDto> findBacklogPage(Long projectId, BacklogItemFilter filter,
+                                                       Integer afterPosition, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT p.id AS id, p.title AS title, p.type AS type, p.storyPoints AS storyPoints, " +
+                "p.priority AS priority, p.position AS position, p.status AS status, " +
+                "p.boardColumn AS boardColumn, p.createdBy AS createdBy, p.createdByRole AS createdByRole, " +
+                "p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+                "FROM ProductBacklogItem p WHERE p.projectId = :projectId");
+        boolean byStatus = filter.getStatuses() != null && !filter.getStatuses().isEmpty();
+        boolean byType = filter.getTypes() != null && !filter.getTypes().isEmpty();
+        if (byStatus) {
+            jpql.append(" AND p.status IN :statuses");
+        }
+        if (byType) {
+            jpql.append(" AND p.type IN :types");
+        }
+        if (filter.getMinPriority() != null) {
+            jpql.append(" AND p.priority >= :minPriority");
+        }
+        if (filter.getMaxPriority() != null) {
+            jpql.append(" AND p.priority <= :maxPriority");
+        }
+        if (filter.isUnassignedOnly()) {
+            jpql.append(" AND NOT EXISTS (SELECT 1 FROM Task t WHERE t.backlogItem.id = p.id AND t.assigneeId IS NOT NULL)");
+        }
+        if (afterPosition != null) {
+            jpql.append(" AND (p.position, p.id) > (:afterPosition, :afterId)");
+        }
+        jpql.append(" ORDER BY p.position, p.id");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("projectId", projectId)
+                .setMaxResults(limit);
+        if (byStatus) {
+            query.setParameter("statuses", filter.getStatuses());
+        }
+        if (byType) {
+            query.setParameter("types", filter.getTypes());
+        }
+        if (filter.getMinPriority() != null) {
+            query.setParameter("minPriority", filter.getMinPriority());
+        }
+        if (filter.getMaxPriority() != null) {
+            query.setParameter("maxPriority", filter.getMaxPriority());
+        }
+        if (afterPosition != null) {
+            query.setParameter("afterPosition", afterPosition);
+            query.setParameter("afterId", afterId);
+        }
+
+        return query.getResultList().stream()
+                .map(row -> toSummary(projectId, row))
+                .toList();
+    }
+
+    private static BacklogItemSummaryDto toSummary(Long projectId, Tuple row) {
+        ProductBacklogItem.BoardColumn boardColumn = row.get("boardColumn", ProductBacklogItem.BoardColumn.class);
+        return BacklogItemSummaryDto.builder()
+                .id(row.get("id", Long.class))
+                .projectId(projectId)
+                .title(row.get("title", String.class))
+                .type(row.get("type", ProductBacklogItem.ItemType.class).name())
+                .storyPoints(row.get("storyPoints", Integer.class))
+                .priority(row.get("priority", Integer.class))
+                .position(row.get("position", Integer.class))
+                .status(row.get("status", ProductBacklogItem.ItemStatus.class).name())
+                .boardColumn(boardColumn != null ? boardColumn.name() : null)
+                .createdBy(row.get("createdBy", Long.class))
+                .createdByRole(row.get("createdByRole", String.class))
+                .createdAt(row.get("createdAt", LocalDateTime.class))
+                .updatedAt(row.get("updatedAt", LocalDateTime.class))
+                .build();
+    }
+}
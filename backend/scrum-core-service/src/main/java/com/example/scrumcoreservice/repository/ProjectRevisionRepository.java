@@ -0,0 +1,50 @@
+package com.example.scrumcoreservice.repository;
+
+import com.example.scrumcoreservice.entity.ProjectRevision;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectRevisionRepository extends JpaRepository<ProjectRevision, Long> {
+
+    /**
+     * Project and revision behind a sprint, resolved in one indexed lookup. Revision is 0 for a
+     * project that has never been written to.
+     */
+    interface SprintRevision {
+        Long getProjectId();
+        long getRevision();
+    }
+
+    /**
+     * Moves the project to a fresh revision, creating its row on first write. The declared
+     * table keeps Hibernate from invalidating every second-level cache region on each bump.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_revisions"))
+    @Query(value = "INSERT INTO project_revisions (project_id, revision, updated_at) " +
+                   "VALUES (:projectId, nextval('project_revision_seq'), CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (project_id) DO UPDATE " +
+                   "SET revision = EXCLUDED.revision, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int bump(@Param("projectId") Long projectId);
+
+    @Query("SELECT r.revision FROM ProjectRevision r WHERE r.projectId = :projectId")
+    Optional<Long> findRevision(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT s.project_id AS projectId, COALESCE(r.revision, 0) AS revision " +
+                   "FROM sprints s LEFT JOIN project_revisions r ON r.project_id = s.project_id " +
+                   "WHERE s.id = :sprintId",
+           nativeQuery = true)
+    Optional<SprintRevision> findSprintRevision(@Param("sprintId") Long sprintId);
+}
@@ -0,0 +1,39 @@
+package com.example.scrumcoreservice.repository;
+
+import com.example.scrumcoreservice.entity.ReportingSyncTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReportingSyncTaskRepository extends JpaRepository<ReportingSyncTask, Long> {
+
+    /**
+     * Ids of pending syncs whose backoff has elapsed, oldest first.
+     */
+    @Query("SELECT t.id FROM ReportingSyncTask t " +
+           "WHERE t.status = com.example.scrumcoreservice.entity.ReportingSyncTask.SyncStatus.PENDING " +
+           "AND t.availableAt <= :now ORDER BY t.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Leases a due sync to the caller by pushing its availability past the lease. Returns 0 when
+     * another worker or replica already holds it, so each attempt is made by exactly one sender.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportingSyncTask t SET t.availableAt = :leaseUntil " +
+           "WHERE t.id = :id " +
+           "AND t.status = com.example.scrumcoreservice.entity.ReportingSyncTask.SyncStatus.PENDING " +
+           "AND t.availableAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    long countByStatus(ReportingSyncTask.SyncStatus status);
+}
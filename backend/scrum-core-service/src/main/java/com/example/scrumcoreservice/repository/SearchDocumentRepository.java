@@ -0,0 +1,72 @@
+package com.example.scrumcoreservice.repository;
+
+import com.example.scrumcoreservice.dto.SearchHitDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Ranked full-text search over {@code search_documents}, which triggers keep in sync with backlog
+ * items, tasks and retrospectives (V8 migration).
+ */
+@Repository
+public class SearchDocumentRepository {
+
+    public static final String MARK_START = "<mark>";
+    public static final String MARK_END = "</mark>";
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=" + MARK_START + ", StopSel=" + MARK_END + ", MaxFragments=2, MaxWords=20, MinWords=5";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * One page of matches, best first, resuming after the given (rank, type, id) when
+     * {@code afterType} is set. Snippets are built only for the rows of the page; they are raw
+     * document text with matches wrapped in {@code <mark>}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<SearchHitDto> search(Long projectId, String text, Float afterRank, String afterType, Long afterId, int limit) {
+        String keyset = afterType == null ? "" :
+                "  AND (h.rank < :afterRank OR (h.rank = :afterRank AND (h.doc_type, h.doc_id) > (:afterType, :afterId))) ";
+        String sql =
+                "WITH q AS (SELECT websearch_to_tsquery('english', :text) AS query) " +
+                "SELECT p.doc_type, p.doc_id, p.parent_id, p.title, p.rank, " +
+                "       ts_headline('english', coalesce(p.body, p.title), q.query, '" + HEADLINE_OPTIONS + "') " +
+                "FROM (" +
+                "  SELECT h.doc_type, h.doc_id, h.parent_id, h.title, h.body, h.rank FROM (" +
+                "    SELECT d.doc_type, d.doc_id, d.parent_id, d.title, d.body, " +
+                "           ts_rank_cd(d.search_vector, q.query) AS rank " +
+                "    FROM search_documents d, q " +
+                "    WHERE d.project_id = :projectId AND d.search_vector @@ q.query) h " +
+                "  WHERE TRUE " + keyset +
+                "  ORDER BY h.rank DESC, h.doc_type, h.doc_id " +
+                "  LIMIT :limit) p, q " +
+                "ORDER BY p.rank DESC, p.doc_type, p.doc_id";
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("text", text)
+                .setParameter("projectId", projectId)
+                .setParameter("limit", limit);
+        if (afterType != null) {
+            query.setParameter("afterRank", afterRank)
+                    .setParameter("afterType", afterType)
+                    .setParameter("afterId", afterId);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> SearchHitDto.builder()
+                        .type((String) row[0])
+                        .id(((Number) row[1]).longValue())
+                        .parentId(row[2] != null ? ((Number) row[2]).longValue() : null)
+                        .title((String) row[3])
+                        .rank(((Number) row[4]).floatValue())
+                        .snippet((String) row[5])
+                        .build())
+                .toList();
+    }
+}
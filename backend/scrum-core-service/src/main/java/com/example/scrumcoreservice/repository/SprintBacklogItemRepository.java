@@ -1,12 +1,21 @@
 package com.example.scrumcoreservice.repository;
 
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
 import com.example.scrumcoreservice.entity.SprintBacklogItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SprintBacklogItemRepository extends JpaRepository<SprintBacklogItem, SprintBacklogItem.SprintBacklogItemId> {
@@ -17,4 +26,141 @@ public interface SprintBacklogItemRepository extends JpaRepository<SprintBacklog
 
     @Query("SELECT sbi.sprintId FROM SprintBacklogItem sbi WHERE sbi.backlogItemId = :backlogItemId")
     Optional<Long> findSprintIdByBacklogItemId(Long backlogItemId);
+
+    /**
+     * Backlog items of a sprint in one join, in backlog order
+     */
+    @Query("SELECT p FROM SprintBacklogItem sbi JOIN ProductBacklogItem p ON p.id = sbi.backlogItemId " +
+           "WHERE sbi.sprintId = :sprintId ORDER BY p.position, p.id")
+    List<ProductBacklogItem> findSprintBacklogItems(@Param("sprintId") Long sprintId);
+
+    /**
+     * Board cards of a sprint in one join, projected to the columns the board renders.
+     * Acceptance criteria and rejection reason are not shown on the board and are not read.
+     */
+    @Query("SELECT p.id AS id, p.projectId AS projectId, p.title AS title, p.description AS description, " +
+           "p.type AS type, p.storyPoints AS storyPoints, p.priority AS priority, p.position AS position, " +
+           "p.status AS status, p.boardColumn AS boardColumn, p.createdBy AS createdBy, " +
+           "p.createdByRole AS createdByRole, p.createdAt AS createdAt, p.updatedAt AS updatedAt, " +
+           "p.reviewedBy AS reviewedBy, p.reviewedAt AS reviewedAt, p.version AS version " +
+           "FROM SprintBacklogItem sbi JOIN ProductBacklogItem p ON p.id = sbi.backlogItemId " +
+           "WHERE sbi.sprintId = :sprintId ORDER BY p.position, p.id")
+    List<BoardCard> findBoardCards(@Param("sprintId") Long sprintId);
+
+    /**
+     * Item count and story points per board column of a sprint in a single aggregate
+     */
+    @Query("SELECT p.boardColumn AS boardColumn, COUNT(p) AS itemCount, COALESCE(SUM(p.storyPoints), 0) AS storyPoints " +
+           "FROM SprintBacklogItem sbi JOIN ProductBacklogItem p ON p.id = sbi.backlogItemId " +
+           "WHERE sbi.sprintId = :sprintId GROUP BY p.boardColumn")
+    List<BoardColumnCount> countBoardColumns(@Param("sprintId") Long sprintId);
+
+    /**
+     * Item count and committed points of a sprint in a single aggregate
+     */
+    @Query("SELECT COUNT(sbi) AS itemCount, COALESCE(SUM(sbi.committedPoints), 0) AS committedPoints " +
+           "FROM SprintBacklogItem sbi WHERE sbi.sprintId = :sprintId")
+    SprintCommitment summarizeCommitment(@Param("sprintId") Long sprintId);
+
+    /**
+     * Committed points, completed points and completed story count of a sprint in a single aggregate.
+     * A completed item counts its actual points, falling back to committed points, then story points.
+     */
+    @Query("SELECT COALESCE(SUM(sbi.committedPoints), 0) AS committedPoints, " +
+           "COALESCE(SUM(CASE WHEN p.status IN :completedStatuses " +
+           "THEN COALESCE(sbi.actualPoints, sbi.committedPoints, p.storyPoints, 0) ELSE 0 END), 0) AS completedPoints, " +
+           "COALESCE(SUM(CASE WHEN p.status IN :completedStatuses THEN 1 ELSE 0 END), 0) AS storiesCompleted " +
+           "FROM SprintBacklogItem sbi JOIN ProductBacklogItem p ON p.id = sbi.backlogItemId " +
+           "WHERE sbi.sprintId = :sprintId")
+    SprintCloseOut summarizeCloseOut(@Param("sprintId") Long sprintId,
+                                     @Param("completedStatuses") Collection<ProductBacklogItem.ItemStatus> completedStatuses);
+
+    /**
+     * Record actual points and completion time for every completed item of a sprint in one statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SprintBacklogItem sbi SET sbi.actualPoints = COALESCE(sbi.actualPoints, sbi.committedPoints, " +
+           "(SELECT p.storyPoints FROM ProductBacklogItem p WHERE p.id = sbi.backlogItemId), 0), " +
+           "sbi.completedAt = :now " +
+           "WHERE sbi.sprintId = :sprintId AND sbi.backlogItemId IN " +
+           "(SELECT p.id FROM ProductBacklogItem p WHERE p.status IN :completedStatuses)")
+    int markCompletedItems(@Param("sprintId") Long sprintId,
+                           @Param("completedStatuses") Collection<ProductBacklogItem.ItemStatus> completedStatuses,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Remove every sprint entry whose backlog item is not in one of the given statuses
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SprintBacklogItem sbi WHERE sbi.sprintId = :sprintId AND sbi.backlogItemId IN " +
+           "(SELECT p.id FROM ProductBacklogItem p WHERE p.status NOT IN :completedStatuses)")
+    int deleteUnfinishedItems(@Param("sprintId") Long sprintId,
+                              @Param("completedStatuses") Collection<ProductBacklogItem.ItemStatus> completedStatuses);
+
+    interface BoardCard {
+        Long getId();
+
+        Long getProjectId();
+
+        String getTitle();
+
+        String getDescription();
+
+        ProductBacklogItem.ItemType getType();
+
+        Integer getStoryPoints();
+
+        Integer getPriority();
+
+        Integer getPosition();
+
+        ProductBacklogItem.ItemStatus getStatus();
+
+        ProductBacklogItem.BoardColumn getBoardColumn();
+
+        Long getCreatedBy();
+
+        String getCreatedByRole();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        Long getReviewedBy();
+
+        LocalDateTime getReviewedAt();
+
+        Long getVersion();
+    }
+
+    interface BoardColumnCount {
+        ProductBacklogItem.BoardColumn getBoardColumn();
+
+        long getItemCount();
+
+        long getStoryPoints();
+    }
+
+    interface SprintCommitment {
+        long getItemCount();
+
+        long getCommittedPoints();
+    }
+
+    interface SprintCloseOut {
+        long getCommittedPoints();
+
+        long getCompletedPoints();
+
+        long getStoriesCompleted();
+    }
+
+    /**
+     * Sprint membership of every item of a project, read through a cursor (project export)
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT sbi FROM SprintBacklogItem sbi JOIN Sprint s ON s.id = sbi.sprintId " +
+           "WHERE s.projectId = :projectId ORDER BY sbi.sprintId, sbi.backlogItemId")
+    Stream<SprintBacklogItem> streamByProjectId(@Param("projectId") Long projectId);
 }
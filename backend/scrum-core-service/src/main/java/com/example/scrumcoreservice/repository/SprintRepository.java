@@ -1,18 +1,44 @@
 package com.example.scrumcoreservice.repository;
 
 import com.example.scrumcoreservice.entity.Sprint;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
 
+    /**
+     * Query cache region of the active sprint lookup; evicted whenever a sprint changes
+     */
+    String ACTIVE_SPRINT_REGION = "sprint-active";
+
     List<Sprint> findByProjectIdOrderByCreatedAtDesc(Long projectId);
 
     List<Sprint> findByProjectIdAndStatus(Long projectId, Sprint.SprintStatus status);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ACTIVE_SPRINT_REGION)})
     Optional<Sprint> findFirstByProjectIdAndStatusOrderByStartedAtDesc(Long projectId, Sprint.SprintStatus status);
+
+    @Query("SELECT s.projectId FROM Sprint s WHERE s.id = :id")
+    Optional<Long> findProjectIdById(@Param("id") Long id);
+
+    /**
+     * All sprints of a project, read through a cursor (project export);
+     * bypasses the second-level cache so an export does not flush it
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")})
+    @Query("SELECT s FROM Sprint s WHERE s.projectId = :projectId ORDER BY s.id")
+    Stream<Sprint> streamByProjectId(@Param("projectId") Long projectId);
 }
@@ -1,13 +1,30 @@
 package com.example.scrumcoreservice.repository;
 
 import com.example.scrumcoreservice.entity.SprintRetrospective;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SprintRetrospectiveRepository extends JpaRepository<SprintRetrospective, Long> {
 
     Optional<SprintRetrospective> findBySprintId(Long sprintId);
+
+    /**
+     * All retrospectives of a project, read through a cursor (project export);
+     * bypasses the second-level cache so an export does not flush it
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")})
+    @Query("SELECT r FROM SprintRetrospective r JOIN Sprint s ON s.id = r.sprintId " +
+           "WHERE s.projectId = :projectId ORDER BY r.id")
+    Stream<SprintRetrospective> streamByProjectId(@Param("projectId") Long projectId);
 }
@@ -1,11 +1,16 @@
 package com.example.scrumcoreservice.repository;
 
 import com.example.scrumcoreservice.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -19,4 +24,12 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t WHERE t.backlogItem.id IN " +
            "(SELECT sbi.backlogItemId FROM SprintBacklogItem sbi WHERE sbi.sprintId = :sprintId)")
     List<Task> findBySprintId(Long sprintId);
+
+    /**
+     * All tasks of a project, read through a cursor (project export)
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT t FROM Task t WHERE t.backlogItem.projectId = :projectId ORDER BY t.id")
+    Stream<Task> streamByProjectId(@Param("projectId") Long projectId);
 }
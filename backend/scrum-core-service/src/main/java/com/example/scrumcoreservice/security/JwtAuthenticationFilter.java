@@ -1,10 +1,13 @@
 package com.example.scrumcoreservice.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,13 +17,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedPrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -28,71 +32,75 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String email = null;
-        String jwt = null;
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                email = jwtUtil.extractEmail(jwt);
-            } catch (Exception e) {
-                // Token is invalid - return 401
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json");
-                response.getWriter().write("{\"error\":\"Invalid token\",\"message\":\"Your session is invalid. Please log in again.\"}");
-                return;
-            }
-        }
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String jwt = authorizationHeader.substring(7);
+            String tokenDigest = VerifiedPrincipalCache.digest(jwt);
+
+            UserPrincipal userPrincipal = principalCache.get(tokenDigest);
+            if (userPrincipal == null) {
+                // Cache miss: verify the signature and read every claim from a single parse
+                Claims claims;
+                try {
+                    claims = jwtUtil.extractAllClaims(jwt);
+                } catch (ExpiredJwtException e) {
+                    writeUnauthorized(response, "Token expired", "Your session has expired. Please log in again.");
+                    return;
+                } catch (Exception e) {
+                    writeUnauthorized(response, "Invalid token", "Your session is invalid. Please log in again.");
+                    return;
+                }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            try {
-                if (jwtUtil.isTokenExpired(jwt)) {
-                    // Token is expired - return 401
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    response.setContentType("application/json");
-                    response.getWriter().write("{\"error\":\"Token expired\",\"message\":\"Your session has expired. Please log in again.\"}");
+                if (claims.getSubject() == null) {
+                    chain.doFilter(request, response);
                     return;
                 }
-                if (true) {  // Continue with normal flow
-                    List<String> roles = jwtUtil.extractRoles(jwt);
-                    List<Long> teamIds = jwtUtil.extractTeamIds(jwt);
-                    List<Long> projectIds = jwtUtil.extractProjectIds(jwt);
-
-                    List<SimpleGrantedAuthority> authorities = roles.stream()
-                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                            .collect(Collectors.toList());
-
-                    System.out.println("=== JWT AUTHENTICATION ===");
-                    System.out.println("Email: " + email);
-                    System.out.println("Roles: " + roles);
-                    System.out.println("Team IDs: " + teamIds);
-                    System.out.println("Project IDs: " + projectIds);
-                    System.out.println("Authorities: " + authorities);
-                    System.out.println("==========================");
-
-                    // Create UserPrincipal with all user information from JWT
-                    UserPrincipal userPrincipal = new UserPrincipal(
-                            jwtUtil.extractUserId(jwt),
-                            email,
-                            roles,
-                            teamIds,
-                            projectIds,
-                            authorities
-                    );
-
-                    UsernamePasswordAuthenticationToken authenticationToken =
-                            new UsernamePasswordAuthenticationToken(userPrincipal, null, authorities);
-                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+
+                try {
+                    userPrincipal = buildPrincipal(claims);
+                    principalCache.put(tokenDigest, userPrincipal, claims.getExpiration().toInstant());
+                } catch (Exception e) {
+                    log.warn("JWT validation failed: {}", e.getMessage(), e);
                 }
-            } catch (Exception e) {
-                System.out.println("=== JWT VALIDATION FAILED ===");
-                System.out.println("Error: " + e.getMessage());
-                e.printStackTrace();
-                System.out.println("=============================");
+            }
+
+            if (userPrincipal != null) {
+                UsernamePasswordAuthenticationToken authenticationToken =
+                        new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
+                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
         }
 
         chain.doFilter(request, response);
     }
+
+    private UserPrincipal buildPrincipal(Claims claims) {
+        List<String> roles = List.copyOf(jwtUtil.extractRoles(claims));
+        List<Long> teamIds = jwtUtil.extractTeamIds(claims);
+        List<Long> projectIds = jwtUtil.extractProjectIds(claims);
+
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+
+        log.debug("JWT authentication - email: {}, roles: {}, teams: {}, projects: {}",
+                claims.getSubject(), roles, teamIds, projectIds);
+
+        // Create UserPrincipal with all user information from JWT
+        return new UserPrincipal(
+                jwtUtil.extractUserId(claims),
+                claims.getSubject(),
+                roles,
+                teamIds,
+                projectIds,
+                authorities
+        );
+    }
+
+    private void writeUnauthorized(HttpServletResponse response, String error, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"" + error + "\",\"message\":\"" + message + "\"}");
+    }
 }
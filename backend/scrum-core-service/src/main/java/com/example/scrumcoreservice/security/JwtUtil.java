@@ -1,8 +1,10 @@
 package com.example.scrumcoreservice.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -17,6 +19,16 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secret;
 
+    // The key and parser are immutable and thread-safe, so build them once instead of per parse
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parser()
+                .verifyWith(getSigningKey())
+                .build();
+    }
+
     private SecretKey getSigningKey() {
         // Explicitly use HS256 - ensure key is at least 32 bytes (256 bits)
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
@@ -27,11 +39,7 @@ public class JwtUtil {
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public String extractEmail(String token) {
@@ -39,27 +47,39 @@ public class JwtUtil {
     }
 
     public Long extractUserId(String token) {
-        return extractAllClaims(token).get("userId", Long.class);
+        return extractUserId(extractAllClaims(token));
+    }
+
+    public Long extractUserId(Claims claims) {
+        return claims.get("userId", Long.class);
     }
 
-    @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
-        return (List<String>) extractAllClaims(token).get("roles");
+        return extractRoles(extractAllClaims(token));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> extractRoles(Claims claims) {
+        return (List<String>) claims.get("roles");
     }
 
     public List<Long> extractTeamIds(String token) {
-        Object raw = extractAllClaims(token).get("teamIds");
-        if (raw == null) {
-            return List.of();
-        }
+        return extractTeamIds(extractAllClaims(token));
+    }
 
-        return ((List<?>) raw).stream()
-                .map(id -> ((Number) id).longValue())
-                .toList();
+    public List<Long> extractTeamIds(Claims claims) {
+        return toLongList(claims.get("teamIds"));
     }
 
     public List<Long> extractProjectIds(String token) {
-        Object raw = extractAllClaims(token).get("projectIds");
+        return extractProjectIds(extractAllClaims(token));
+    }
+
+    public List<Long> extractProjectIds(Claims claims) {
+        return toLongList(claims.get("projectIds"));
+    }
+
+    private List<Long> toLongList(Object raw) {
         if (raw == null) {
             return List.of();
         }
@@ -0,0 +1,120 @@
+package com.example.scrumcoreservice.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already verified {@link UserPrincipal}s, keyed by a SHA-256 digest of the raw JWT.
+ * Entries are evicted when the token's {@code exp} passes, so a cached principal is never served
+ * for a token that signature verification would reject as expired.
+ */
+@Component
+public class VerifiedPrincipalCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Clock clock = Clock.systemUTC();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expiredEvictions;
+    private final Counter sizeEvictions;
+
+    public VerifiedPrincipalCache(@Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                                  MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("jwt.principal.cache.requests").tag("result", "hit")
+                .description("Verified principal cache lookups").register(meterRegistry);
+        this.misses = Counter.builder("jwt.principal.cache.requests").tag("result", "miss")
+                .description("Verified principal cache lookups").register(meterRegistry);
+        this.expiredEvictions = Counter.builder("jwt.principal.cache.evictions").tag("cause", "expired")
+                .description("Verified principal cache evictions").register(meterRegistry);
+        this.sizeEvictions = Counter.builder("jwt.principal.cache.evictions").tag("cause", "size")
+                .description("Verified principal cache evictions").register(meterRegistry);
+        Gauge.builder("jwt.principal.cache.size", entries, Map::size)
+                .description("Verified principals currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached principal for the token digest, or null when absent or expired.
+     */
+    public UserPrincipal get(String tokenDigest) {
+        Entry entry = entries.get(tokenDigest);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            if (entries.remove(tokenDigest, entry)) {
+                expiredEvictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.principal();
+    }
+
+    public void put(String tokenDigest, UserPrincipal principal, Instant expiresAt) {
+        if (maxSize <= 0 || expiresAt == null || !expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            makeRoom();
+        }
+        entries.put(tokenDigest, new Entry(principal, expiresAt));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops expired entries first; if the cache is still full, sheds a tenth of it so the
+     * scan is amortised over many inserts rather than repeated on every miss.
+     */
+    private void makeRoom() {
+        Instant now = clock.instant();
+        entries.forEach((key, entry) -> {
+            if (!entry.expiresAt().isAfter(now) && entries.remove(key, entry)) {
+                expiredEvictions.increment();
+            }
+        });
+
+        int excess = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            sizeEvictions.increment();
+            excess--;
+        }
+    }
+
+    public static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(UserPrincipal principal, Instant expiresAt) {
+    }
+}
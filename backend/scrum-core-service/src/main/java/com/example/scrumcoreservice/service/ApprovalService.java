@@ -1,20 +1,28 @@
 package com.example.scrumcoreservice.service;
 
+import com.example.scrumcoreservice.dto.ApprovalInboxItemDto;
+import com.example.scrumcoreservice.dto.ApprovalInboxPageDto;
 import com.example.scrumcoreservice.dto.BacklogItemApprovalDto;
+import com.example.scrumcoreservice.dto.NotificationRequest;
 import com.example.scrumcoreservice.entity.BacklogItemApproval;
+import com.example.scrumcoreservice.entity.BacklogItemApprovalRequest;
 import com.example.scrumcoreservice.entity.ProductBacklogItem;
 import com.example.scrumcoreservice.entity.Sprint;
 import com.example.scrumcoreservice.entity.SprintBacklogItem;
 import com.example.scrumcoreservice.repository.BacklogItemApprovalRepository;
+import com.example.scrumcoreservice.repository.BacklogItemApprovalRequestRepository;
 import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
 import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
 import com.example.scrumcoreservice.repository.SprintRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,14 +31,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ApprovalService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final BacklogItemApprovalRepository approvalRepository;
+    private final BacklogItemApprovalRequestRepository approvalRequestRepository;
     private final ProductBacklogItemRepository backlogItemRepository;
     private final SprintRepository sprintRepository;
     private final SprintBacklogItemRepository sprintBacklogItemRepository;
     private final EventPublisher eventPublisher;
-
-    // Collaboration service URL for notifications (using 127.0.0.1 to force IPv4)
-    private static final String COLLABORATION_SERVICE_URL = "http://127.0.0.1:3000";
+    private final NotificationDispatcher notificationDispatcher;
+    private final ProjectRevisionService projectRevisionService;
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
 
     /**
      * Add item to sprint directly without approval (Product Owner only)
@@ -61,6 +73,7 @@ public class ApprovalService {
         // Update item status to IN_SPRINT
         item.setStatus(ProductBacklogItem.ItemStatus.IN_SPRINT);
         backlogItemRepository.save(item);
+        projectRevisionService.bump(item.getProjectId());
 
         log.info("Product Owner added backlog item {} to sprint {} directly without approval.",
                 backlogItemId, sprintId);
@@ -85,16 +98,17 @@ public class ApprovalService {
         }
 
         // Check if approvals already exist for this item/sprint combination
-        List<BacklogItemApproval> existingApprovals =
-                approvalRepository.findByBacklogItemIdAndSprintId(backlogItemId, sprintId);
-
-        if (!existingApprovals.isEmpty()) {
+        if (approvalRequestRepository.existsById(
+                new BacklogItemApprovalRequest.BacklogItemApprovalRequestId(backlogItemId, sprintId))) {
             throw new RuntimeException("Approval requests already exist for this backlog item in this sprint");
         }
 
         log.info("🔔 Starting approval workflow for backlog item {} ('{}')", backlogItemId, item.getTitle());
         log.info("   Requester ID: {}, Team members to notify: {}", requesterId, teamMemberIds);
 
+        LocalDateTime now = LocalDateTime.now();
+        int requested = 0;
+
         // When Developer requests, only Product Owner needs to approve
         // Find Product Owner from team members list
         for (Long memberId : teamMemberIds) {
@@ -119,10 +133,11 @@ public class ApprovalService {
                     .sprintId(sprintId)
                     .developerId(memberId) // Using developerId field for Product Owner
                     .status(BacklogItemApproval.ApprovalStatus.PENDING)
-                    .requestedAt(LocalDateTime.now())
+                    .requestedAt(now)
                     .build();
 
             approvalRepository.save(approval);
+            requested++;
 
             log.info("✅ Created approval request for Product Owner {} for backlog item {} in sprint {}",
                     memberId, backlogItemId, sprintId);
@@ -138,12 +153,16 @@ public class ApprovalService {
                 backlogItemId
             );
 
-            log.info("🔔 Notification sent to Product Owner {}", memberId);
+            log.info("🔔 Notification queued for Product Owner {}", memberId);
         }
 
+        // Counters that responses move instead of re-counting the approvals
+        approvalRequestRepository.open(backlogItemId, sprintId, requested, now);
+
         // Update backlog item status to PENDING_APPROVAL
         item.setStatus(ProductBacklogItem.ItemStatus.PENDING_APPROVAL);
         backlogItemRepository.save(item);
+        projectRevisionService.bump(item.getProjectId());
 
         log.info("Approval workflow initiated for backlog item {} in sprint {}. Product Owner approval required.",
                 backlogItemId, sprintId);
@@ -154,18 +173,8 @@ public class ApprovalService {
      */
     @Transactional
     public BacklogItemApprovalDto approveSprintItem(Long backlogItemId, Long sprintId, Long developerId) {
-        BacklogItemApproval approval = approvalRepository
-                .findByBacklogItemIdAndSprintIdAndDeveloperId(backlogItemId, sprintId, developerId)
-                .orElseThrow(() -> new RuntimeException("Approval request not found"));
-
-        if (approval.getStatus() != BacklogItemApproval.ApprovalStatus.PENDING) {
-            throw new RuntimeException("Approval has already been responded to");
-        }
-
-        approval.setStatus(BacklogItemApproval.ApprovalStatus.APPROVED);
-        approval.setRespondedAt(LocalDateTime.now());
-        approval.setRejectionReason(null);
-        approvalRepository.save(approval);
+        BacklogItemApprovalRequestRepository.ApprovalResponse response = recordResponse(
+                backlogItemId, sprintId, developerId, BacklogItemApproval.ApprovalStatus.APPROVED, null);
 
         log.info("Developer {} approved backlog item {} for sprint {}",
                 developerId, backlogItemId, sprintId);
@@ -174,6 +183,7 @@ public class ApprovalService {
                 .orElseThrow(() -> new RuntimeException("Backlog item not found"));
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found"));
+        projectRevisionService.bump(item.getProjectId());
 
         // Publish approval given event
         com.example.scrumcoreservice.events.ApprovalEvent event =
@@ -206,9 +216,9 @@ public class ApprovalService {
         }
 
         // Check if all approvals are now complete
-        checkAndProcessAllApprovals(backlogItemId, sprintId);
+        checkAndProcessAllApprovals(item, sprint, response);
 
-        return BacklogItemApprovalDto.fromEntity(approval);
+        return toDto(backlogItemId, sprintId, developerId, BacklogItemApproval.ApprovalStatus.APPROVED, null, response);
     }
 
     /**
@@ -216,22 +226,12 @@ public class ApprovalService {
      */
     @Transactional
     public BacklogItemApprovalDto rejectSprintItem(Long backlogItemId, Long sprintId, Long developerId, String reason) {
-        BacklogItemApproval approval = approvalRepository
-                .findByBacklogItemIdAndSprintIdAndDeveloperId(backlogItemId, sprintId, developerId)
-                .orElseThrow(() -> new RuntimeException("Approval request not found"));
-
-        if (approval.getStatus() != BacklogItemApproval.ApprovalStatus.PENDING) {
-            throw new RuntimeException("Approval has already been responded to");
-        }
-
         if (reason == null || reason.trim().isEmpty()) {
             throw new RuntimeException("Rejection reason is required");
         }
 
-        approval.setStatus(BacklogItemApproval.ApprovalStatus.REJECTED);
-        approval.setRespondedAt(LocalDateTime.now());
-        approval.setRejectionReason(reason);
-        approvalRepository.save(approval);
+        BacklogItemApprovalRequestRepository.ApprovalResponse response = recordResponse(
+                backlogItemId, sprintId, developerId, BacklogItemApproval.ApprovalStatus.REJECTED, reason);
 
         log.info("Developer {} rejected backlog item {} for sprint {} with reason: {}",
                 developerId, backlogItemId, sprintId, reason);
@@ -240,6 +240,7 @@ public class ApprovalService {
                 .orElseThrow(() -> new RuntimeException("Backlog item not found"));
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found"));
+        projectRevisionService.bump(item.getProjectId());
 
         // Publish rejection event
         com.example.scrumcoreservice.events.ApprovalEvent event =
@@ -274,22 +275,51 @@ public class ApprovalService {
         }
 
         // Process rejection - item cannot be added to sprint
-        processRejection(backlogItemId, sprintId);
+        processRejection(item, sprintId);
+
+        return toDto(backlogItemId, sprintId, developerId, BacklogItemApproval.ApprovalStatus.REJECTED, reason, response);
+    }
+
+    /**
+     * Record a developer's response together with the request counters; fails when the developer
+     * has no approval for the item or has already responded
+     */
+    private BacklogItemApprovalRequestRepository.ApprovalResponse recordResponse(
+            Long backlogItemId, Long sprintId, Long developerId,
+            BacklogItemApproval.ApprovalStatus status, String reason) {
+        return approvalRequestRepository
+                .respond(backlogItemId, sprintId, developerId, status.name(), reason, LocalDateTime.now())
+                .orElseThrow(() -> {
+                    approvalRepository.findByBacklogItemIdAndSprintIdAndDeveloperId(backlogItemId, sprintId, developerId)
+                            .orElseThrow(() -> new RuntimeException("Approval request not found"));
+                    return new RuntimeException("Approval has already been responded to");
+                });
+    }
 
-        return BacklogItemApprovalDto.fromEntity(approval);
+    private static BacklogItemApprovalDto toDto(Long backlogItemId, Long sprintId, Long developerId,
+                                                BacklogItemApproval.ApprovalStatus status, String reason,
+                                                BacklogItemApprovalRequestRepository.ApprovalResponse response) {
+        return BacklogItemApprovalDto.builder()
+                .backlogItemId(backlogItemId)
+                .sprintId(sprintId)
+                .developerId(developerId)
+                .status(status.name())
+                .rejectionReason(reason)
+                .requestedAt(response.getRequestedAt())
+                .respondedAt(response.getRespondedAt())
+                .build();
     }
 
     /**
-     * Check if all developers have approved and move item to sprint if so
+     * Move item to sprint once the response counters show every developer has approved
      */
-    private void checkAndProcessAllApprovals(Long backlogItemId, Long sprintId) {
-        boolean allApproved = approvalRepository.areAllApprovalsApproved(backlogItemId, sprintId);
+    private void checkAndProcessAllApprovals(ProductBacklogItem item, Sprint sprint,
+                                             BacklogItemApprovalRequestRepository.ApprovalResponse response) {
+        if (response.isAllApproved()) {
+            Long backlogItemId = item.getId();
+            Long sprintId = sprint.getId();
 
-        if (allApproved) {
             // All developers approved - add item to sprint
-            ProductBacklogItem item = backlogItemRepository.findById(backlogItemId)
-                    .orElseThrow(() -> new RuntimeException("Backlog item not found"));
-
             // Create sprint backlog item entry
             SprintBacklogItem sprintBacklogItem = SprintBacklogItem.builder()
                     .sprintId(sprintId)
@@ -302,13 +332,11 @@ public class ApprovalService {
             // Update item status to IN_SPRINT
             item.setStatus(ProductBacklogItem.ItemStatus.IN_SPRINT);
             backlogItemRepository.save(item);
+            projectRevisionService.bump(item.getProjectId());
 
             log.info("All approvals received for backlog item {} in sprint {}. Item added to sprint.",
                     backlogItemId, sprintId);
 
-            Sprint sprint = sprintRepository.findById(sprintId)
-                    .orElseThrow(() -> new RuntimeException("Sprint not found"));
-
             // Publish ALL_APPROVED event - notify PO that item is ready for sprint
             com.example.scrumcoreservice.events.ApprovalEvent event =
                     com.example.scrumcoreservice.events.ApprovalEvent.builder()
@@ -327,19 +355,20 @@ public class ApprovalService {
     /**
      * Process rejection - return item to backlog and remove from sprint
      */
-    private void processRejection(Long backlogItemId, Long sprintId) {
-        ProductBacklogItem item = backlogItemRepository.findById(backlogItemId)
-                .orElseThrow(() -> new RuntimeException("Backlog item not found"));
+    private void processRejection(ProductBacklogItem item, Long sprintId) {
+        Long backlogItemId = item.getId();
 
         // Return item to BACKLOG status
         item.setStatus(ProductBacklogItem.ItemStatus.BACKLOG);
         backlogItemRepository.save(item);
+        projectRevisionService.bump(item.getProjectId());
 
         // Remove item from sprint if it was added
         sprintBacklogItemRepository.deleteBySprintIdAndBacklogItemId(sprintId, backlogItemId);
 
         // Delete all approval requests for this item/sprint (they're no longer relevant)
         approvalRepository.deleteByBacklogItemIdAndSprintId(backlogItemId, sprintId);
+        approvalRequestRepository.deleteByBacklogItemIdAndSprintId(backlogItemId, sprintId);
 
         log.info("Backlog item {} rejected for sprint {}. Removed from sprint and returned to backlog.",
                 backlogItemId, sprintId);
@@ -348,6 +377,7 @@ public class ApprovalService {
     /**
      * Get all pending approvals for a developer
      */
+    @Transactional(readOnly = true)
     public List<BacklogItemApprovalDto> getPendingApprovalsForDeveloper(Long developerId) {
         return approvalRepository.findByDeveloperIdAndStatus(
                 developerId, BacklogItemApproval.ApprovalStatus.PENDING)
@@ -356,9 +386,81 @@ public class ApprovalService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of a developer's pending approvals with item, sprint and requester details, oldest
+     * request first, plus the total number pending. The cursor encodes the (requestedAt, item,
+     * sprint) of the last row returned.
+     */
+    @Transactional(readOnly = true)
+    public ApprovalInboxPageDto getPendingInbox(Long developerId, String after, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        // One extra row tells us whether another page follows
+        List<BacklogItemApprovalRepository.InboxEntry> rows;
+        if (after != null && !after.isBlank()) {
+            String[] keyset = decodeInboxCursor(after);
+            rows = approvalRepository.findPendingInboxAfter(developerId, LocalDateTime.parse(keyset[0]),
+                    Long.parseLong(keyset[1]), Long.parseLong(keyset[2]), Limit.of(pageSize + 1));
+        } else {
+            rows = approvalRepository.findPendingInbox(developerId, Limit.of(pageSize + 1));
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<ApprovalInboxItemDto> items = (hasMore ? rows.subList(0, pageSize) : rows).stream()
+                .map(ApprovalService::toInboxItem)
+                .toList();
+        ApprovalInboxItemDto last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        return ApprovalInboxPageDto.builder()
+                .items(items)
+                .total(approvalRepository.countPendingForDeveloper(developerId))
+                .hasMore(hasMore)
+                .nextCursor(hasMore
+                        ? encodeInboxCursor(last.getRequestedAt(), last.getBacklogItemId(), last.getSprintId())
+                        : null)
+                .build();
+    }
+
+    private static ApprovalInboxItemDto toInboxItem(BacklogItemApprovalRepository.InboxEntry entry) {
+        return ApprovalInboxItemDto.builder()
+                .backlogItemId(entry.getBacklogItemId())
+                .sprintId(entry.getSprintId())
+                .projectId(entry.getProjectId())
+                .title(entry.getTitle())
+                .type(entry.getType() != null ? entry.getType().name() : null)
+                .storyPoints(entry.getStoryPoints())
+                .priority(entry.getPriority())
+                .sprintName(entry.getSprintName())
+                .sprintStartDate(entry.getSprintStartDate())
+                .requestedBy(entry.getRequestedBy())
+                .requestedByRole(entry.getRequestedByRole())
+                .requestedAt(entry.getRequestedAt())
+                .build();
+    }
+
+    static String encodeInboxCursor(LocalDateTime requestedAt, long backlogItemId, long sprintId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((requestedAt + "|" + backlogItemId + "|" + sprintId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeInboxCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            Long.parseLong(parts[2]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid approval inbox cursor");
+        }
+    }
+
     /**
      * Get all approvals for a specific backlog item in a sprint
      */
+    @Transactional(readOnly = true)
     public List<BacklogItemApprovalDto> getApprovalsForItem(Long backlogItemId, Long sprintId) {
         return approvalRepository.findByBacklogItemIdAndSprintId(backlogItemId, sprintId)
                 .stream()
@@ -369,8 +471,12 @@ public class ApprovalService {
     /**
      * Check if all approvals for an item are approved (used before sprint start)
      */
+    @Transactional(readOnly = true)
     public boolean areAllApprovalsComplete(Long backlogItemId, Long sprintId) {
-        return approvalRepository.areAllApprovalsApproved(backlogItemId, sprintId);
+        return approvalRequestRepository
+                .findById(new BacklogItemApprovalRequest.BacklogItemApprovalRequestId(backlogItemId, sprintId))
+                .map(BacklogItemApprovalRequest::isAllApproved)
+                .orElse(true);
     }
 
     /**
@@ -379,83 +485,36 @@ public class ApprovalService {
      */
     @Transactional
     public void cancelApprovalsForSprint(Long sprintId) {
-        List<BacklogItemApproval> approvals = approvalRepository.findBySprintId(sprintId);
-
-        for (BacklogItemApproval approval : approvals) {
-            if (approval.getStatus() == BacklogItemApproval.ApprovalStatus.PENDING) {
-                // Return items to backlog
-                ProductBacklogItem item = backlogItemRepository.findById(approval.getBacklogItemId())
-                        .orElse(null);
-                if (item != null && item.getStatus() == ProductBacklogItem.ItemStatus.PENDING_APPROVAL) {
-                    item.setStatus(ProductBacklogItem.ItemStatus.BACKLOG);
-                    backlogItemRepository.save(item);
-                }
-            }
+        // Return items still awaiting a response to the backlog
+        int returned = backlogItemRepository.updatePendingApprovalItemsForSprint(sprintId,
+                ProductBacklogItem.ItemStatus.PENDING_APPROVAL, ProductBacklogItem.ItemStatus.BACKLOG,
+                LocalDateTime.now());
+        if (returned > 0) {
+            cacheInvalidationBroadcaster.entitiesChanged(ProductBacklogItem.class);
+            sprintRepository.findProjectIdById(sprintId).ifPresent(projectRevisionService::bump);
         }
 
         // Delete all approvals for this sprint
-        for (BacklogItemApproval approval : approvals) {
-            approvalRepository.delete(approval);
-        }
+        int deleted = approvalRepository.deleteBySprintId(sprintId);
+        approvalRequestRepository.deleteBySprintId(sprintId);
 
-        log.info("Cancelled all approvals for sprint {}", sprintId);
+        log.info("Cancelled {} approvals for sprint {}, {} items returned to backlog", deleted, sprintId, returned);
     }
 
     /**
-     * Send notification to collaboration service
+     * Queue a notification for collaboration service; it is sent after the transaction commits
      */
     private void sendNotification(Long recipientId, String notificationType, String title, String message,
                                    String entityType, Long entityId) {
-        try {
-            // Build payload as Map for proper JSON serialization
-            java.util.Map<String, Object> payload = new java.util.HashMap<>();
-            payload.put("recipientId", recipientId);
-            payload.put("type", notificationType);
-
-            java.util.Map<String, Object> payloadData = new java.util.HashMap<>();
-            payloadData.put("title", title);
-            payloadData.put("message", message);
-            payloadData.put("entityType", entityType);
-            payloadData.put("entityId", entityId);
-
-            payload.put("payload", payloadData);
-
-            // Use Jackson ObjectMapper for JSON serialization
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            String jsonPayload = mapper.writeValueAsString(payload);
-
-            log.debug("Sending notification: {}", jsonPayload);
-
-            // Use simple URLConnection for more reliable HTTP communication
-            java.net.URL url = new java.net.URL(COLLABORATION_SERVICE_URL + "/notifications");
-            java.net.HttpURLConnection conn = (java.net.HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
-            conn.setDoOutput(true);
-            conn.setConnectTimeout(5000);
-            conn.setReadTimeout(10000);
-
-            try (java.io.OutputStream os = conn.getOutputStream()) {
-                byte[] input = jsonPayload.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            int responseCode = conn.getResponseCode();
-            if (responseCode >= 200 && responseCode < 300) {
-                log.info("✅ Notification sent to user {} (type: {})", recipientId, notificationType);
-            } else {
-                java.io.BufferedReader br = new java.io.BufferedReader(
-                    new java.io.InputStreamReader(conn.getErrorStream(), java.nio.charset.StandardCharsets.UTF_8));
-                String responseLine;
-                StringBuilder responseBody = new StringBuilder();
-                while ((responseLine = br.readLine()) != null) {
-                    responseBody.append(responseLine.trim());
-                }
-                log.warn("⚠️ Failed to send notification: HTTP {} - {}", responseCode, responseBody.toString());
-            }
-        } catch (Exception e) {
-            log.error("⚠️ Failed to send notification to user {}: {}", recipientId, e.getMessage());
-            e.printStackTrace();
-        }
+        notificationDispatcher.enqueue(NotificationRequest.builder()
+                .recipientId(recipientId)
+                .type(notificationType)
+                .payload(NotificationRequest.Payload.builder()
+                        .title(title)
+                        .message(message)
+                        .entityType(entityType)
+                        .entityId(entityId)
+                        .build())
+                .build());
     }
 }
@@ -0,0 +1,205 @@
+package com.example.scrumcoreservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads backlog import rows one at a time from an NDJSON or CSV stream, so the request body is
+ * never held in memory. Field names are normalized ({@code story_points}, {@code storyPoints} and
+ * {@code Story Points} are the same field). A row that cannot be parsed is returned with an error
+ * instead of ending the stream.
+ */
+abstract class BacklogImportReader implements Closeable {
+
+    enum Format { NDJSON, CSV }
+
+    static final class Row {
+        final long number;
+        final Map<String, String> fields;
+        final String error;
+
+        Row(long number, Map<String, String> fields, String error) {
+            this.number = number;
+            this.fields = fields;
+            this.error = error;
+        }
+    }
+
+    protected final BufferedReader reader;
+
+    private BacklogImportReader(InputStream body) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    static BacklogImportReader open(Format format, InputStream body) {
+        return format == Format.CSV ? new Csv(body) : new Ndjson(body);
+    }
+
+    /**
+     * The next row, or null at the end of the stream.
+     */
+    abstract Row next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    static String normalize(String fieldName) {
+        return fieldName.replaceAll("[\\s_\\-\\uFEFF]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Ndjson extends BacklogImportReader {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private long lineNumber;
+
+        Ndjson(InputStream body) {
+            super(body);
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (IOException e) {
+                return new Row(lineNumber, null, "Malformed JSON");
+            }
+            if (!node.isObject()) {
+                return new Row(lineNumber, null, "Expected a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                if (!entry.getValue().isNull()) {
+                    fields.put(normalize(entry.getKey()), entry.getValue().asText());
+                }
+            }
+            return new Row(lineNumber, fields, null);
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; quoted fields may contain commas, quotes and line breaks.
+     */
+    private static final class Csv extends BacklogImportReader {
+
+        private List<String> header;
+        private long recordNumber;
+        private boolean failed;
+
+        Csv(InputStream body) {
+            super(body);
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (failed) {
+                return null;
+            }
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                header = names.stream().map(BacklogImportReader::normalize).toList();
+            }
+
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+                recordNumber++;
+            } while (values.size() == 1 && values.get(0).isEmpty());
+
+            if (failed) {
+                return new Row(recordNumber, null, "Unterminated quoted field; the rest of the file was not read");
+            }
+            if (values.size() > header.size()) {
+                return new Row(recordNumber, null, "Expected " + header.size() + " columns but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                if (!values.get(i).isEmpty()) {
+                    fields.put(header.get(i), values.get(i));
+                }
+            }
+            return new Row(recordNumber, fields, null);
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        // Everything after an unterminated quote is one field; nothing more can be read
+                        failed = true;
+                        break;
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            value.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        value.append((char) c);
+                    }
+                } else if (c == '"' && value.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                    break;
+                } else {
+                    value.append((char) c);
+                }
+                c = reader.read();
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BacklogImportResultDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk import of backlog items for migrations from other trackers.
+ * <p>
+ * Rows are parsed as they arrive and inserted with plain JDBC batches, one transaction per batch.
+ * The entity's IDENTITY key stops Hibernate from batching inserts, but a JDBC insert that does not
+ * ask for the generated keys back batches normally. Invalid rows are reported and skipped; if the
+ * database rejects a batch, its rows are retried one by one so only the offending rows fail.
+ * Imported items are appended to the end of the backlog in file order. No per-item events are
+ * published; the project revision is bumped so open backlogs and boards reload.
+ */
+@Service
+@Slf4j
+public class BacklogImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product_backlog_items (project_id, title, description, type, story_points, priority, " +
+            "position, status, acceptance_criteria, created_by, created_by_role, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_TITLE_LENGTH = 500;
+
+    private final ProductBacklogItemRepository backlogItemRepository;
+    private final ProjectRevisionService projectRevisionService;
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public BacklogImportService(ProductBacklogItemRepository backlogItemRepository,
+                                ProjectRevisionService projectRevisionService,
+                                CacheInvalidationBroadcaster cacheInvalidationBroadcaster,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${backlog-import.batch-size:500}") int batchSize,
+                                @Value("${backlog-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.backlogItemRepository = backlogItemRepository;
+        this.projectRevisionService = projectRevisionService;
+        this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    private static final class ImportRow {
+        final long number;
+        final ProductBacklogItem item;
+
+        ImportRow(long number, ProductBacklogItem item) {
+            this.number = number;
+            this.item = item;
+        }
+    }
+
+    /**
+     * Imports a {@code text/csv} or NDJSON body; any content type other than CSV is read as NDJSON.
+     */
+    public BacklogImportResultDto importBacklogItems(Long projectId, InputStream body, MediaType contentType,
+                                                     Long userId, String userRole) throws IOException {
+        BacklogImportReader.Format format = "csv".equalsIgnoreCase(contentType.getSubtype())
+                ? BacklogImportReader.Format.CSV
+                : BacklogImportReader.Format.NDJSON;
+        BacklogImportResultDto result = new BacklogImportResultDto();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        try (BacklogImportReader reader = BacklogImportReader.open(format, body)) {
+            BacklogImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (row.error != null) {
+                    reject(result, row.number, row.error);
+                    continue;
+                }
+                try {
+                    batch.add(new ImportRow(row.number, toItem(row.fields, projectId, userId, userRole)));
+                } catch (IllegalArgumentException e) {
+                    reject(result, row.number, e.getMessage());
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    flush(projectId, batch, result);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(projectId, batch, result);
+        }
+        log.info("Imported {} backlog items into project {} ({} rejected)", result.getImported(), projectId, result.getFailed());
+        return result;
+    }
+
+    static ProductBacklogItem toItem(Map<String, String> fields, Long projectId, Long userId, String userRole) {
+        String title = fields.get("title");
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Title is longer than " + MAX_TITLE_LENGTH + " characters");
+        }
+        String type = fields.get("type");
+        if (type == null || type.isBlank()) {
+            throw new IllegalArgumentException("Type is required");
+        }
+        ProductBacklogItem.ItemType itemType;
+        try {
+            itemType = ProductBacklogItem.ItemType.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown type: " + type);
+        }
+        Integer priority = parseInteger(fields, "priority", "priority");
+
+        return ProductBacklogItem.builder()
+                .projectId(projectId)
+                .title(title.trim())
+                .description(fields.get("description"))
+                .type(itemType)
+                .storyPoints(parseInteger(fields, "storypoints", "storyPoints"))
+                .priority(priority != null ? priority : 0)
+                .status(ProductBacklogItem.ItemStatus.BACKLOG)
+                .acceptanceCriteria(fields.get("acceptancecriteria"))
+                .createdBy(userId)
+                .createdByRole(userRole)
+                .build();
+    }
+
+    private static Integer parseInteger(Map<String, String> fields, String key, String name) {
+        String value = fields.get(key);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a whole number for " + name + ": " + value);
+        }
+    }
+
+    private void flush(Long projectId, List<ImportRow> batch, BacklogImportResultDto result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(projectId, batch));
+            result.setImported(result.getImported() + batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Import batch for project {} rejected ({}), retrying its rows one by one",
+                    projectId, e.getMostSpecificCause().getMessage());
+            for (ImportRow row : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(projectId, List.of(row)));
+                    result.setImported(result.getImported() + 1);
+                } catch (DataAccessException | IllegalStateException rowError) {
+                    reject(result, row.number, rootMessage(rowError));
+                }
+            }
+        } catch (IllegalStateException e) {
+            batch.forEach(row -> reject(result, row.number, e.getMessage()));
+        }
+    }
+
+    /**
+     * Appends the rows after the project's last item. Must run inside a transaction.
+     */
+    private void insert(Long projectId, List<ImportRow> rows) {
+        backlogItemRepository.lockRanking(BacklogService.RANK_LOCK_NAMESPACE, projectId);
+        long last = lastPosition(projectId);
+        if (last + (long) rows.size() * BacklogService.RANK_GAP > Integer.MAX_VALUE) {
+            backlogItemRepository.rebalancePositions(projectId, BacklogService.RANK_GAP);
+            cacheInvalidationBroadcaster.entitiesChanged(ProductBacklogItem.class);
+            last = lastPosition(projectId);
+            if (last + (long) rows.size() * BacklogService.RANK_GAP > Integer.MAX_VALUE) {
+                throw new IllegalStateException("The project backlog has no room for more items");
+            }
+        }
+
+        int firstPosition = (int) last + BacklogService.RANK_GAP;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                bind(statement, rows.get(index).item, firstPosition + index * BacklogService.RANK_GAP, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        projectRevisionService.bump(projectId);
+    }
+
+    private long lastPosition(Long projectId) {
+        Integer maxPosition = backlogItemRepository.findMaxPositionByProjectId(projectId);
+        return maxPosition != null ? maxPosition : 0;
+    }
+
+    private static void bind(PreparedStatement statement, ProductBacklogItem item, int position, Timestamp now)
+            throws SQLException {
+        statement.setLong(1, item.getProjectId());
+        statement.setString(2, item.getTitle());
+        statement.setString(3, item.getDescription());
+        statement.setString(4, item.getType().name());
+        statement.setObject(5, item.getStoryPoints(), Types.INTEGER);
+        statement.setInt(6, item.getPriority());
+        statement.setInt(7, position);
+        statement.setString(8, item.getStatus().name());
+        statement.setString(9, item.getAcceptanceCriteria());
+        statement.setLong(10, item.getCreatedBy());
+        statement.setString(11, item.getCreatedByRole());
+        statement.setTimestamp(12, now);
+        statement.setTimestamp(13, now);
+    }
+
+    private void reject(BacklogImportResultDto result, long row, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new BacklogImportResultDto.RowErrorDto(row, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    private static String rootMessage(Exception e) {
+        return e instanceof DataAccessException dataAccessException
+                ? dataAccessException.getMostSpecificCause().getMessage()
+                : e.getMessage();
+    }
+}
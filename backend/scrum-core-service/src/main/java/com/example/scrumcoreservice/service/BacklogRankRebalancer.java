@@ -0,0 +1,55 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Re-spaces backlog positions of projects whose gaps have been worn down by repeated moves into
+ * the same spot, so that later moves can keep writing a single row.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "backlog-rank.rebalance.enabled", havingValue = "true", matchIfMissing = true)
+public class BacklogRankRebalancer {
+
+    private final ProductBacklogItemRepository backlogItemRepository;
+    private final BacklogService backlogService;
+    private final int minGap;
+    private final int maxProjects;
+
+    public BacklogRankRebalancer(ProductBacklogItemRepository backlogItemRepository,
+                                 BacklogService backlogService,
+                                 @Value("${backlog-rank.rebalance.min-gap:8}") int minGap,
+                                 @Value("${backlog-rank.rebalance.max-projects:20}") int maxProjects) {
+        this.backlogItemRepository = backlogItemRepository;
+        this.backlogService = backlogService;
+        this.minGap = minGap;
+        this.maxProjects = maxProjects;
+    }
+
+    @Scheduled(fixedDelayString = "${backlog-rank.rebalance.interval-ms:600000}",
+               initialDelayString = "${backlog-rank.rebalance.interval-ms:600000}")
+    public void rebalance() {
+        List<Long> projectIds;
+        try {
+            projectIds = backlogItemRepository.findCrowdedProjectIds(minGap, maxProjects);
+        } catch (Exception e) {
+            log.warn("Backlog rank rebalance pass failed: {}", e.getMessage());
+            return;
+        }
+        for (Long projectId : projectIds) {
+            try {
+                int updated = backlogService.rebalanceProject(projectId);
+                log.info("Re-spaced {} backlog positions in project {}", updated, projectId);
+            } catch (Exception e) {
+                log.warn("Backlog rank rebalance failed for project {}: {}", projectId, e.getMessage());
+            }
+        }
+    }
+}
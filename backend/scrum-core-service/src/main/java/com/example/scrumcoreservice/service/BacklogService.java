@@ -1,10 +1,14 @@
 package com.example.scrumcoreservice.service;
 
 import com.example.scrumcoreservice.dto.BacklogItemDto;
+import com.example.scrumcoreservice.dto.BacklogItemFilter;
+import com.example.scrumcoreservice.dto.BacklogItemSummaryDto;
+import com.example.scrumcoreservice.dto.BacklogPageDto;
 import com.example.scrumcoreservice.dto.CreateBacklogItemRequest;
 import com.example.scrumcoreservice.entity.ProductBacklogItem;
 import com.example.scrumcoreservice.entity.Sprint;
 import com.example.scrumcoreservice.events.BacklogItemEvent;
+import com.example.scrumcoreservice.exception.VersionCheck;
 import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
 import com.example.scrumcoreservice.repository.SprintRepository;
 import com.example.scrumcoreservice.security.JwtUtil;
@@ -12,20 +16,33 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BacklogService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    // Positions are sparse: a move lands halfway between its neighbours and writes one row
+    static final int RANK_GAP = 1024;
+    static final int RANK_LOCK_NAMESPACE = 4_711_012;
+
     private final ProductBacklogItemRepository backlogItemRepository;
     private final SprintRepository sprintRepository;
     private final JwtUtil jwtUtil;
     private final EventPublisher eventPublisher;
     private final ApprovalService approvalService;
+    private final ProjectRevisionService projectRevisionService;
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
 
     @Transactional
     public BacklogItemDto createBacklogItem(CreateBacklogItemRequest request, Long userId, String userRole) {
@@ -60,8 +77,10 @@ public class BacklogService {
             }
         }
 
+        // Appends are serialized per project, so concurrent creates never share a position
+        backlogItemRepository.lockRanking(RANK_LOCK_NAMESPACE, request.getProjectId());
         Integer maxPosition = backlogItemRepository.findMaxPositionByProjectId(request.getProjectId());
-        int newPosition = (maxPosition != null) ? maxPosition + 1 : 0;
+        int newPosition = (maxPosition != null) ? maxPosition + RANK_GAP : RANK_GAP;
 
         ProductBacklogItem item = ProductBacklogItem.builder()
                 .projectId(request.getProjectId())
@@ -78,6 +97,7 @@ public class BacklogService {
                 .build();
 
         item = backlogItemRepository.save(item);
+        projectRevisionService.bump(item.getProjectId());
 
         // Handle SPRINT_READY status based on user role
         if (initialStatus == ProductBacklogItem.ItemStatus.SPRINT_READY) {
@@ -125,6 +145,7 @@ public class BacklogService {
         return BacklogItemDto.fromEntity(item);
     }
 
+    @Transactional(readOnly = true)
     public List<BacklogItemDto> getProjectBacklog(Long projectId) {
         return backlogItemRepository.findByProjectIdOrderByPositionAsc(projectId)
                 .stream()
@@ -132,6 +153,51 @@ public class BacklogService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of the project backlog in position order. The cursor is opaque to clients and
+     * encodes the (position, id) of the last row returned, so pages stay stable while items are
+     * added or removed elsewhere in the backlog.
+     */
+    @Transactional(readOnly = true)
+    public BacklogPageDto getProjectBacklogPage(Long projectId, BacklogItemFilter filter, String after, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        Integer afterPosition = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            long[] keyset = decodeCursor(after);
+            afterPosition = (int) keyset[0];
+            afterId = keyset[1];
+        }
+
+        // One extra row tells us whether another page follows
+        List<BacklogItemSummaryDto> rows = backlogItemRepository.findBacklogPage(
+                projectId, filter, afterPosition, afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<BacklogItemSummaryDto> items = hasMore ? rows.subList(0, pageSize) : rows;
+        BacklogItemSummaryDto last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        return BacklogPageDto.builder()
+                .items(items)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? encodeCursor(last.getPosition(), last.getId()) : null)
+                .build();
+    }
+
+    static String encodeCursor(int position, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((position + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return new long[] {Integer.parseInt(parts[0]), Long.parseLong(parts[1])};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid backlog cursor");
+        }
+    }
+
+    @Transactional(readOnly = true)
     public BacklogItemDto getBacklogItem(Long id) {
         ProductBacklogItem item = backlogItemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Backlog item not found"));
@@ -142,6 +208,7 @@ public class BacklogService {
     public BacklogItemDto updateBacklogItem(Long id, CreateBacklogItemRequest request, String userRole) {
         ProductBacklogItem item = backlogItemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Backlog item not found"));
+        VersionCheck.require(ProductBacklogItem.class, id, request.getVersion(), item.getVersion());
 
         boolean storyPointsChanged = item.getStoryPoints() != null &&
                                      !item.getStoryPoints().equals(request.getStoryPoints());
@@ -217,7 +284,9 @@ public class BacklogService {
             }
         }
 
-        item = backlogItemRepository.save(item);
+        // Flushed so the returned version is the one just written
+        item = backlogItemRepository.saveAndFlush(item);
+        projectRevisionService.bump(item.getProjectId());
 
         // Publish backlog item updated or estimated event
         String action = storyPointsChanged ? "ESTIMATED" : "UPDATED";
@@ -238,25 +307,192 @@ public class BacklogService {
 
     @Transactional
     public void deleteBacklogItem(Long id) {
+        backlogItemRepository.findProjectIdById(id).ifPresent(projectRevisionService::bump);
         backlogItemRepository.deleteById(id);
     }
 
+    /**
+     * Applies a full backlog order from the client, rewriting only the items that actually moved:
+     * the longest run of items already in ascending position order keeps its positions and every
+     * other item is placed into the gap between its new neighbours.
+     */
     @Transactional
     public void reorderBacklog(Long projectId, List<Long> orderedIds) {
-        for (int i = 0; i < orderedIds.size(); i++) {
-            Long itemId = orderedIds.get(i);
-            final int position = i;
-            backlogItemRepository.findById(itemId).ifPresent(item -> {
-                item.setPosition(position);
-                backlogItemRepository.save(item);
-            });
+        backlogItemRepository.lockRanking(RANK_LOCK_NAMESPACE, projectId);
+        Map<Long, Integer> current = backlogItemRepository.findRanksByProjectId(projectId).stream()
+                .collect(Collectors.toMap(ProductBacklogItemRepository.BacklogRank::getId,
+                        ProductBacklogItemRepository.BacklogRank::getPosition));
+        List<Long> ids = orderedIds.stream().distinct().filter(current::containsKey).toList();
+        int[] positions = ids.stream().mapToInt(current::get).toArray();
+
+        Map<Long, Integer> moved = placeMovedItems(ids, positions);
+        if (moved == null) {
+            // Not enough room between fixed neighbours: lay the whole order out afresh
+            moved = new LinkedHashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                int position = (i + 1) * RANK_GAP;
+                if (positions[i] != position) {
+                    moved.put(ids.get(i), position);
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        moved.forEach((id, position) -> {
+            backlogItemRepository.updatePosition(id, position, now);
+            cacheInvalidationBroadcaster.entityChanged(ProductBacklogItem.class, id);
+        });
+        if (!moved.isEmpty()) {
+            projectRevisionService.bump(projectId);
+        }
+    }
+
+    /**
+     * New positions for the items outside the longest increasing run of {@code positions}, or null
+     * when some gap is too small to hold the items that must go into it.
+     */
+    static Map<Long, Integer> placeMovedItems(List<Long> ids, int[] positions) {
+        boolean[] fixed = longestIncreasingRun(positions);
+        Map<Long, Integer> moved = new LinkedHashMap<>();
+        Long previous = null;
+        int i = 0;
+        while (i < ids.size()) {
+            if (fixed[i]) {
+                previous = (long) positions[i];
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < ids.size() && !fixed[end]) {
+                end++;
+            }
+            int count = end - i;
+            Long next = end < ids.size() ? (long) positions[end] : null;
+            long low = previous != null ? previous : (next != null ? next : 0) - (long) (count + 1) * RANK_GAP;
+            long high = next != null ? next : low + (long) (count + 1) * RANK_GAP;
+            long step = (high - low) / (count + 1);
+            if (step < 1 || low + step * count > Integer.MAX_VALUE || low + step < Integer.MIN_VALUE) {
+                return null;
+            }
+            for (int k = 1; k <= count; k++) {
+                moved.put(ids.get(i + k - 1), (int) (low + step * k));
+            }
+            previous = low + step * count;
+            i = end;
         }
+        return moved;
     }
 
+    /**
+     * Marks one longest strictly increasing subsequence (patience sorting, O(n log n)).
+     */
+    private static boolean[] longestIncreasingRun(int[] values) {
+        int[] tails = new int[values.length];
+        int[] predecessor = new int[values.length];
+        int length = 0;
+        for (int i = 0; i < values.length; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            predecessor[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] inRun = new boolean[values.length];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessor[i]) {
+            inRun[i] = true;
+        }
+        return inRun;
+    }
+
+    /**
+     * Moves one item between two neighbours (either may be null at the ends of the backlog) by
+     * giving it the midpoint of their positions. Only when the neighbours are already adjacent is
+     * the project re-spaced first.
+     */
+    @Transactional
+    public void moveBacklogItem(Long id, Long afterId, Long beforeId) {
+        if (afterId == null && beforeId == null) {
+            throw new IllegalArgumentException("afterId or beforeId is required");
+        }
+        if (id.equals(afterId) || id.equals(beforeId)) {
+            throw new IllegalArgumentException("An item cannot be moved next to itself");
+        }
+        Long projectId = backlogItemRepository.findRankById(id)
+                .orElseThrow(() -> new RuntimeException("Backlog item not found"))
+                .getProjectId();
+        backlogItemRepository.lockRanking(RANK_LOCK_NAMESPACE, projectId);
+
+        Integer after = afterId != null ? neighbourPosition(afterId, projectId) : null;
+        Integer before = beforeId != null ? neighbourPosition(beforeId, projectId) : null;
+        if (after != null && before != null && after > before) {
+            throw new IllegalArgumentException("afterId must come before beforeId in the backlog");
+        }
+
+        Integer position = midpoint(after, before);
+        if (position == null) {
+            backlogItemRepository.rebalancePositions(projectId, RANK_GAP);
+            cacheInvalidationBroadcaster.entitiesChanged(ProductBacklogItem.class);
+            after = afterId != null ? neighbourPosition(afterId, projectId) : null;
+            before = beforeId != null ? neighbourPosition(beforeId, projectId) : null;
+            position = midpoint(after, before);
+            if (position == null) {
+                throw new IllegalArgumentException("afterId must come before beforeId in the backlog");
+            }
+        }
+
+        backlogItemRepository.updatePosition(id, position, LocalDateTime.now());
+        cacheInvalidationBroadcaster.entityChanged(ProductBacklogItem.class, id);
+        projectRevisionService.bump(projectId);
+    }
+
+    /**
+     * Re-spaces a project's positions to {@link #RANK_GAP}; used by the background rebalancer.
+     */
     @Transactional
-    public BacklogItemDto acceptBacklogItem(Long id, Long productOwnerId) {
+    public int rebalanceProject(Long projectId) {
+        backlogItemRepository.lockRanking(RANK_LOCK_NAMESPACE, projectId);
+        int updated = backlogItemRepository.rebalancePositions(projectId, RANK_GAP);
+        if (updated > 0) {
+            cacheInvalidationBroadcaster.entitiesChanged(ProductBacklogItem.class);
+            projectRevisionService.bump(projectId);
+        }
+        return updated;
+    }
+
+    private Integer neighbourPosition(Long neighbourId, Long projectId) {
+        ProductBacklogItemRepository.BacklogRank rank = backlogItemRepository.findRankById(neighbourId)
+                .orElseThrow(() -> new RuntimeException("Backlog item not found"));
+        if (!rank.getProjectId().equals(projectId)) {
+            throw new IllegalArgumentException("Backlog items must belong to the same project");
+        }
+        return rank.getPosition();
+    }
+
+    static Integer midpoint(Integer after, Integer before) {
+        long low = after != null ? after : (long) before - 2L * RANK_GAP;
+        long high = before != null ? before : (long) after + 2L * RANK_GAP;
+        long mid = low + (high - low) / 2;
+        if (high - low < 2 || mid > Integer.MAX_VALUE || mid < Integer.MIN_VALUE) {
+            return null;
+        }
+        return (int) mid;
+    }
+
+    @Transactional
+    public BacklogItemDto acceptBacklogItem(Long id, Long productOwnerId, Long expectedVersion) {
         ProductBacklogItem item = backlogItemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Backlog item not found"));
+        VersionCheck.require(ProductBacklogItem.class, id, expectedVersion, item.getVersion());
 
         // Item should be in DONE or PENDING_ACCEPTANCE status
         if (item.getStatus() != ProductBacklogItem.ItemStatus.DONE &&
@@ -269,7 +505,8 @@ public class BacklogService {
         item.setReviewedAt(LocalDateTime.now());
         item.setRejectionReason(null); // Clear any previous rejection reason
 
-        item = backlogItemRepository.save(item);
+        item = backlogItemRepository.saveAndFlush(item);
+        projectRevisionService.bump(item.getProjectId());
 
         // Publish backlog item accepted event
         BacklogItemEvent event = BacklogItemEvent.builder()
@@ -289,9 +526,10 @@ public class BacklogService {
     }
 
     @Transactional
-    public BacklogItemDto rejectBacklogItem(Long id, Long productOwnerId, String reason) {
+    public BacklogItemDto rejectBacklogItem(Long id, Long productOwnerId, String reason, Long expectedVersion) {
         ProductBacklogItem item = backlogItemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Backlog item not found"));
+        VersionCheck.require(ProductBacklogItem.class, id, expectedVersion, item.getVersion());
 
         // Item should be in DONE or PENDING_ACCEPTANCE status
         if (item.getStatus() != ProductBacklogItem.ItemStatus.DONE &&
@@ -304,7 +542,8 @@ public class BacklogService {
         item.setReviewedAt(LocalDateTime.now());
         item.setRejectionReason(reason);
 
-        item = backlogItemRepository.save(item);
+        item = backlogItemRepository.saveAndFlush(item);
+        projectRevisionService.bump(item.getProjectId());
 
         // Publish backlog item rejected event
         BacklogItemEvent event = BacklogItemEvent.builder()
@@ -0,0 +1,76 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BoardDelta;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns committed domain events from the {@code scrum.*} topics into board deltas for the
+ * connections held by this instance. Every instance consumes every event (see
+ * {@code broadcastListenerContainerFactory}), which is what fans a change out across nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "board-stream.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class BoardEventConsumer {
+
+    private final BoardStreamService boardStreamService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @KafkaListener(topics = {EventPublisher.BACKLOG_TOPIC, EventPublisher.TASK_TOPIC, EventPublisher.SPRINT_TOPIC},
+                   containerFactory = "broadcastListenerContainerFactory")
+    public void onEvent(ConsumerRecord<String, String> record) {
+        try {
+            BoardDelta delta = toDelta(record.topic(), objectMapper.readTree(record.value()));
+            if (delta != null) {
+                boardStreamService.publish(delta);
+            }
+        } catch (Exception e) {
+            log.warn("Skipping unreadable {} event at offset {}: {}", record.topic(), record.offset(), e.getMessage());
+        }
+    }
+
+    static BoardDelta toDelta(String topic, JsonNode event) {
+        BoardDelta.BoardDeltaBuilder delta = BoardDelta.builder()
+                .projectId(longValue(event, "projectId"))
+                .sprintId(longValue(event, "sprintId"))
+                .action(textValue(event, "action"))
+                .status(textValue(event, "status"))
+                .timestamp(textValue(event, "timestamp"));
+
+        switch (topic) {
+            case EventPublisher.BACKLOG_TOPIC -> delta.type("item")
+                    .itemId(longValue(event, "itemId"))
+                    .title(textValue(event, "title"))
+                    .boardColumn(textValue(event, "boardColumn"))
+                    .storyPoints(event.hasNonNull("storyPoints") ? event.get("storyPoints").asInt() : null);
+            case EventPublisher.TASK_TOPIC -> delta.type("task")
+                    .taskId(longValue(event, "taskId"))
+                    .itemId(longValue(event, "backlogItemId"))
+                    .title(textValue(event, "title"))
+                    .assigneeId(longValue(event, "assigneeId"));
+            case EventPublisher.SPRINT_TOPIC -> delta.type("sprint");
+            default -> {
+                return null;
+            }
+        }
+
+        BoardDelta result = delta.build();
+        return result.getProjectId() != null ? result : null;
+    }
+
+    private static Long longValue(JsonNode event, String field) {
+        return event.hasNonNull(field) ? event.get(field).asLong() : null;
+    }
+
+    private static String textValue(JsonNode event, String field) {
+        return event.hasNonNull(field) ? event.get(field).asText() : null;
+    }
+}
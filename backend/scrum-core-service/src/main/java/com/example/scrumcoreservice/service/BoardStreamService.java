@@ -0,0 +1,184 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BoardDelta;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes board deltas to open sprint boards over Server-Sent Events.
+ * <p>
+ * Every connection has its own bounded buffer and a virtual thread that writes it to the client,
+ * so {@link #publish} never blocks on a socket. A client whose buffer fills up is disconnected
+ * rather than slowing anyone else down; it reconnects and reloads the board. Deltas arrive from
+ * {@link BoardEventConsumer}, which every instance runs, so each node serves its own connections.
+ */
+@Service
+@Slf4j
+public class BoardStreamService {
+
+    private static final long RECONNECT_DELAY_MS = 3000;
+
+    private final SprintRepository sprintRepository;
+    private final Map<Long, Set<Subscriber>> subscribersByProject = new ConcurrentHashMap<>();
+    private final int bufferCapacity;
+    private final long timeoutMs;
+    private final long heartbeatNanos;
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter delivered;
+    private final Counter evicted;
+
+    public BoardStreamService(SprintRepository sprintRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${board-stream.buffer-capacity:256}") int bufferCapacity,
+                              @Value("${board-stream.timeout-ms:1800000}") long timeoutMs,
+                              @Value("${board-stream.heartbeat-ms:25000}") long heartbeatMs) {
+        this.sprintRepository = sprintRepository;
+        this.bufferCapacity = bufferCapacity;
+        this.timeoutMs = timeoutMs;
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMs);
+
+        this.delivered = Counter.builder("board.stream.deltas")
+                .description("Board deltas written to clients").register(meterRegistry);
+        this.evicted = Counter.builder("board.stream.evicted")
+                .description("Board streams closed because the client fell behind").register(meterRegistry);
+        Gauge.builder("board.stream.connections", connections, AtomicInteger::get)
+                .description("Open board streams").register(meterRegistry);
+    }
+
+    private static final class Subscriber {
+        final Long sprintId;
+        final Long projectId;
+        final SseEmitter emitter;
+        final BlockingQueue<BoardDelta> buffer;
+        final AtomicBoolean closed = new AtomicBoolean();
+        Thread writer;
+
+        Subscriber(Long sprintId, Long projectId, SseEmitter emitter, int bufferCapacity) {
+            this.sprintId = sprintId;
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        }
+    }
+
+    public SseEmitter subscribe(Long sprintId) {
+        Long projectId = sprintRepository.findProjectIdById(sprintId)
+                .orElseThrow(() -> new RuntimeException("Sprint not found"));
+
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(sprintId, projectId, emitter, bufferCapacity);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(subscriber));
+
+        subscribersByProject.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        connections.incrementAndGet();
+        subscriber.writer = Thread.ofVirtual().name("board-stream-" + sprintId).unstarted(() -> write(subscriber));
+        subscriber.writer.start();
+        return emitter;
+    }
+
+    /**
+     * Buffers the delta for every open board it concerns. Deltas without a sprint (plain backlog
+     * item updates) go to every board of the project.
+     */
+    public void publish(BoardDelta delta) {
+        Set<Subscriber> subscribers = subscribersByProject.get(delta.getProjectId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (delta.getSprintId() != null && !delta.getSprintId().equals(subscriber.sprintId)) {
+                continue;
+            }
+            if (!subscriber.buffer.offer(delta)) {
+                evicted.increment();
+                log.warn("Board stream for sprint {} fell behind, disconnecting it", subscriber.sprintId);
+                // The writer thread completes the emitter; it may be blocked on this client's socket
+                remove(subscriber);
+            }
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void write(Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter;
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_DELAY_MS).comment("connected"));
+            while (!subscriber.closed.get()) {
+                BoardDelta delta = subscriber.buffer.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+                if (delta == null) {
+                    // Keeps proxies from idling the connection out and detects vanished clients
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                emitter.send(SseEmitter.event().name(delta.getType()).data(delta, MediaType.APPLICATION_JSON));
+                delivered.increment();
+            }
+            complete(emitter);
+        } catch (InterruptedException e) {
+            complete(emitter);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container reports it through onError/onCompletion
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribersByProject.computeIfPresent(subscriber.projectId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        connections.decrementAndGet();
+        if (subscriber.writer != null && subscriber.writer != Thread.currentThread()) {
+            subscriber.writer.interrupt();
+        }
+    }
+
+    private static void complete(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            // Already completed by the container
+        }
+    }
+
+    int connectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        List<Subscriber> open = subscribersByProject.values().stream().flatMap(Set::stream).toList();
+        open.forEach(this::remove);
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.entity.Sprint;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the second-level caches of all scrum-core replicas consistent.
+ * <p>
+ * Each replica has its own in-memory cache, so a write on one node leaves stale copies on the
+ * others. Changes to cached entities are collected per transaction and, once it has committed,
+ * published on {@value #TOPIC}; every other replica evicts those entries (and the query regions
+ * that depend on them). Entity writes are reported by Hibernate listeners (see
+ * {@code SecondLevelCacheConfig}); bulk JPQL/native updates must be reported with
+ * {@link #entitiesChanged}. A lost message is bounded by the region TTLs in application.conf.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationBroadcaster {
+
+    static final String TOPIC = "scrum-core.cache-invalidation";
+
+    // Query cache regions whose results are built from the given entity
+    private static final Map<String, List<String>> DEPENDENT_QUERY_REGIONS =
+            Map.of(Sprint.class.getName(), List.of(SprintRepository.ACTIVE_SPRINT_REGION));
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String origin = UUID.randomUUID().toString();
+    private final boolean enabled;
+
+    private final Counter published;
+    private final Counter applied;
+
+    public CacheInvalidationBroadcaster(KafkaTemplate<String, String> kafkaTemplate,
+                                        EntityManagerFactory entityManagerFactory,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${l2-cache.invalidation.enabled:true}") boolean enabled) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.enabled = enabled;
+
+        this.published = Counter.builder("l2.cache.invalidations").tag("direction", "published")
+                .description("Second-level cache invalidations exchanged between replicas").register(meterRegistry);
+        this.applied = Counter.builder("l2.cache.invalidations").tag("direction", "applied")
+                .description("Second-level cache invalidations exchanged between replicas").register(meterRegistry);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Invalidation {
+        private String origin;
+        private Map<String, Set<Long>> entities = new HashMap<>(); // entity name -> ids
+        private Set<String> regions = new HashSet<>(); // entity names evicted entirely
+    }
+
+    /**
+     * A cached entity was inserted, updated or deleted by the current transaction.
+     */
+    public void entityChanged(String entityName, Object id) {
+        if (enabled && id instanceof Long entityId) {
+            collect(changes -> changes.getEntities().computeIfAbsent(entityName, name -> new TreeSet<>()).add(entityId));
+        }
+    }
+
+    public void entityChanged(Class<?> entityClass, Long id) {
+        entityChanged(entityClass.getName(), id);
+    }
+
+    /**
+     * Entities of a cached type were written by a bulk JPQL or native statement.
+     */
+    public void entitiesChanged(Class<?> entityClass) {
+        if (enabled) {
+            collect(changes -> changes.getRegions().add(entityClass.getName()));
+        }
+    }
+
+    private void collect(Consumer<Invalidation> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Invalidation invalidation = new Invalidation(origin, new HashMap<>(), new HashSet<>());
+            change.accept(invalidation);
+            publish(invalidation);
+            return;
+        }
+
+        Invalidation pending = (Invalidation) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Invalidation invalidation = new Invalidation(origin, new HashMap<>(), new HashSet<>());
+            TransactionSynchronizationManager.bindResource(this, invalidation);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(invalidation);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBroadcaster.this);
+                }
+            });
+            pending = invalidation;
+        }
+        change.accept(pending);
+    }
+
+    private void publish(Invalidation invalidation) {
+        try {
+            kafkaTemplate.send(TOPIC, objectMapper.writeValueAsString(invalidation))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("Could not publish cache invalidation, other replicas catch up on TTL: {}", e.getMessage());
+                        }
+                    });
+            published.increment();
+        } catch (Exception e) {
+            log.warn("Could not publish cache invalidation, other replicas catch up on TTL: {}", e.getMessage());
+        }
+    }
+
+    @KafkaListener(topics = TOPIC, containerFactory = "broadcastListenerContainerFactory",
+                   autoStartup = "${l2-cache.invalidation.enabled:true}")
+    public void onInvalidation(String payload) {
+        try {
+            Invalidation invalidation = objectMapper.readValue(payload, Invalidation.class);
+            if (!origin.equals(invalidation.getOrigin())) {
+                evict(invalidation);
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    void evict(Invalidation invalidation) {
+        Cache cache = sessionFactory.getCache();
+        Set<String> changedEntities = new HashSet<>(invalidation.getRegions());
+        invalidation.getEntities().forEach((entityName, ids) -> {
+            changedEntities.add(entityName);
+            if (invalidation.getRegions().contains(entityName)) {
+                return;
+            }
+            ids.forEach(id -> {
+                cache.evictEntityData(entityName, id);
+                evictCollections(cache, entityName, id);
+            });
+        });
+        invalidation.getRegions().forEach(entityName -> {
+            cache.evictEntityData(entityName);
+            evictCollections(cache, entityName, null);
+        });
+        changedEntities.stream()
+                .flatMap(entityName -> DEPENDENT_QUERY_REGIONS.getOrDefault(entityName, List.of()).stream())
+                .distinct()
+                .forEach(cache::evictQueryRegion);
+        applied.increment();
+    }
+
+    private void evictCollections(Cache cache, String ownerEntityName, Long ownerId) {
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+            if (!collection.hasCache() || !collection.getOwnerEntityPersister().getEntityName().equals(ownerEntityName)) {
+                return;
+            }
+            if (ownerId == null) {
+                cache.evictCollectionData(collection.getRole());
+            } else {
+                cache.evictCollectionData(collection.getRole(), ownerId);
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BacklogItemDto;
+import com.example.scrumcoreservice.dto.SprintDto;
+import com.example.scrumcoreservice.dto.TaskDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.entity.Sprint;
+import com.example.scrumcoreservice.entity.Task;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Current state of an entity a write lost an optimistic-lock race on, sent back with the 409 so
+ * the client can retry against it without another round trip.
+ */
+@Service
+public class ConflictStateService {
+
+    private static final Map<String, Object> BYPASS_CACHE =
+            Map.of("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Read on the primary and past the second-level cache: the replica or another instance's
+     * cache may not have the write that won yet.
+     */
+    @Transactional
+    public Optional<Object> currentState(String entityName, Object id) {
+        if (!(id instanceof Long entityId)) {
+            return Optional.empty();
+        }
+        if (ProductBacklogItem.class.getName().equals(entityName)) {
+            return Optional.ofNullable(entityManager.find(ProductBacklogItem.class, entityId, BYPASS_CACHE))
+                    .map(BacklogItemDto::fromEntity);
+        }
+        if (Sprint.class.getName().equals(entityName)) {
+            return Optional.ofNullable(entityManager.find(Sprint.class, entityId, BYPASS_CACHE))
+                    .map(SprintDto::fromEntity);
+        }
+        if (Task.class.getName().equals(entityName)) {
+            return Optional.ofNullable(entityManager.find(Task.class, entityId))
+                    .map(TaskDto::fromEntity);
+        }
+        return Optional.empty();
+    }
+}
@@ -1,93 +1,72 @@
 package com.example.scrumcoreservice.service;
 
+import com.example.scrumcoreservice.entity.OutboxEvent;
 import com.example.scrumcoreservice.events.BacklogItemEvent;
 import com.example.scrumcoreservice.events.SprintEvent;
 import com.example.scrumcoreservice.events.TaskEvent;
 import com.example.scrumcoreservice.events.ApprovalEvent;
 import com.example.scrumcoreservice.events.ImpedimentEvent;
+import com.example.scrumcoreservice.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
 
-import java.util.concurrent.CompletableFuture;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Records domain events in the outbox table as part of the caller's transaction.
+ * {@link OutboxRelay} delivers them to Kafka once the transaction has committed.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Transactional
 public class EventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventRepository outboxEventRepository;
 
-    private static final String BACKLOG_TOPIC = "scrum.backlog-item";
-    private static final String SPRINT_TOPIC = "scrum.sprint";
-    private static final String TASK_TOPIC = "scrum.task";
-    private static final String APPROVAL_TOPIC = "scrum.approval";
-    private static final String IMPEDIMENT_TOPIC = "scrum.impediment";
+    // Consumers still read the values the producer's former JsonSerializer wrote: dates as
+    // timestamps ([2026,1,5], seconds.nanos), not the ISO strings Jackson 3 writes by default
+    private final JacksonJsonSerializer<Object> payloadSerializer = new JacksonJsonSerializer<>(
+            JsonMapper.builder().enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS).build());
 
-    public void publishBacklogItemEvent(BacklogItemEvent event) {
-        CompletableFuture<SendResult<String, Object>> future =
-            kafkaTemplate.send(BACKLOG_TOPIC, event.getItemId().toString(), event);
+    static final String BACKLOG_TOPIC = "scrum.backlog-item";
+    static final String SPRINT_TOPIC = "scrum.sprint";
+    static final String TASK_TOPIC = "scrum.task";
+    static final String APPROVAL_TOPIC = "scrum.approval";
+    static final String IMPEDIMENT_TOPIC = "scrum.impediment";
 
-        future.whenComplete((result, ex) -> {
-            if (ex != null) {
-                log.error("Failed to publish backlog item event: {}", event, ex);
-            } else {
-                log.info("Published backlog item event: {} to topic: {}", event.getAction(), BACKLOG_TOPIC);
-            }
-        });
+    public void publishBacklogItemEvent(BacklogItemEvent event) {
+        enqueue(BACKLOG_TOPIC, event.getItemId().toString(), event, event.getAction());
     }
 
     public void publishSprintEvent(SprintEvent event) {
-        CompletableFuture<SendResult<String, Object>> future =
-            kafkaTemplate.send(SPRINT_TOPIC, event.getSprintId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex != null) {
-                log.error("Failed to publish sprint event: {}", event, ex);
-            } else {
-                log.info("Published sprint event: {} to topic: {}", event.getAction(), SPRINT_TOPIC);
-            }
-        });
+        enqueue(SPRINT_TOPIC, event.getSprintId().toString(), event, event.getAction());
     }
 
     public void publishTaskEvent(TaskEvent event) {
-        CompletableFuture<SendResult<String, Object>> future =
-            kafkaTemplate.send(TASK_TOPIC, event.getTaskId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex != null) {
-                log.error("Failed to publish task event: {}", event, ex);
-            } else {
-                log.info("Published task event: {} to topic: {}", event.getAction(), TASK_TOPIC);
-            }
-        });
+        enqueue(TASK_TOPIC, event.getTaskId().toString(), event, event.getAction());
     }
 
     public void publishApprovalEvent(ApprovalEvent event) {
-        CompletableFuture<SendResult<String, Object>> future =
-            kafkaTemplate.send(APPROVAL_TOPIC, event.getBacklogItemId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex != null) {
-                log.error("Failed to publish approval event: {}", event, ex);
-            } else {
-                log.info("Published approval event: {} to topic: {}", event.getAction(), APPROVAL_TOPIC);
-            }
-        });
+        enqueue(APPROVAL_TOPIC, event.getBacklogItemId().toString(), event, event.getAction());
     }
 
     public void publishImpedimentEvent(ImpedimentEvent event) {
-        CompletableFuture<SendResult<String, Object>> future =
-            kafkaTemplate.send(IMPEDIMENT_TOPIC, event.getImpedimentId().toString(), event);
+        enqueue(IMPEDIMENT_TOPIC, event.getImpedimentId().toString(), event, event.getAction());
+    }
 
-        future.whenComplete((result, ex) -> {
-            if (ex != null) {
-                log.error("Failed to publish impediment event: {}", event, ex);
-            } else {
-                log.info("Published impediment event: {} to topic: {}", event.getAction(), IMPEDIMENT_TOPIC);
-            }
-        });
+    private void enqueue(String topic, String key, Object event, String action) {
+        byte[] payload = payloadSerializer.serialize(topic, event);
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(key)
+                .payload(new String(payload, StandardCharsets.UTF_8))
+                .build());
+        log.debug("Queued {} event: {} for topic: {}", event.getClass().getSimpleName(), action, topic);
     }
 }
@@ -55,6 +55,7 @@ public class ImpedimentService {
         return ImpedimentDto.fromEntity(impediment);
     }
 
+    @Transactional(readOnly = true)
     public List<ImpedimentDto> getSprintImpediments(Long sprintId) {
         return impedimentRepository.findBySprintId(sprintId)
                 .stream()
@@ -62,6 +63,7 @@ public class ImpedimentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ImpedimentDto> getOpenImpediments(Long sprintId) {
         return impedimentRepository.findBySprintIdAndStatus(sprintId, Impediment.ImpedimentStatus.OPEN)
                 .stream()
@@ -69,6 +71,7 @@ public class ImpedimentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ImpedimentDto getImpediment(Long id) {
         Impediment impediment = impedimentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Impediment not found"));
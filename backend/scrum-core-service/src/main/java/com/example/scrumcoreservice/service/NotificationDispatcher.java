@@ -0,0 +1,287 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.NotificationRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends user notifications to collaboration-service in the background.
+ * <p>
+ * Notifications are queued only after the caller's transaction commits, so a rolled-back
+ * approval never notifies anyone. A single sender thread drains the bounded queue in batches,
+ * collapses duplicates for the same recipient and posts each batch over the shared keep-alive
+ * client, retrying with backoff. When the queue is full the configured overflow policy decides
+ * which notification is dropped; callers are never blocked.
+ */
+@Service
+@Slf4j
+public class NotificationDispatcher {
+
+    public enum OverflowPolicy {
+        /** Evict the oldest queued notification to make room for the new one. */
+        DROP_OLDEST,
+        /** Discard the new notification and keep what is already queued. */
+        DROP_NEWEST
+    }
+
+    private enum Outcome {
+        DELIVERED, RETRY, REJECTED
+    }
+
+    private static final String BATCH_PATH = "/notifications/batch";
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI batchUri;
+    private final LinkedBlockingDeque<NotificationRequest> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Duration requestTimeout;
+
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final Counter droppedOverflow;
+    private final Counter droppedFailed;
+    private final Counter coalesced;
+
+    private volatile boolean running = true;
+    private Thread sender;
+
+    public NotificationDispatcher(HttpClient outboundHttpClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${collaboration-service.url:http://127.0.0.1:3000}") String collaborationServiceUrl,
+                                  @Value("${notifications.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${notifications.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                                  @Value("${notifications.batch-size:100}") int batchSize,
+                                  @Value("${notifications.linger-ms:50}") long lingerMs,
+                                  @Value("${notifications.max-attempts:5}") int maxAttempts,
+                                  @Value("${notifications.retry-backoff-ms:500}") long retryBackoffMs,
+                                  @Value("${notifications.request-timeout-ms:5000}") long requestTimeoutMs) {
+        this.httpClient = outboundHttpClient;
+        String baseUrl = collaborationServiceUrl.endsWith("/")
+                ? collaborationServiceUrl.substring(0, collaborationServiceUrl.length() - 1)
+                : collaborationServiceUrl;
+        this.batchUri = URI.create(baseUrl + BATCH_PATH);
+        this.queue = new LinkedBlockingDeque<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+
+        this.sendSuccess = Timer.builder("notification.send").tag("outcome", "success")
+                .description("collaboration-service notification batch call duration").register(meterRegistry);
+        this.sendFailure = Timer.builder("notification.send").tag("outcome", "failure")
+                .description("collaboration-service notification batch call duration").register(meterRegistry);
+        this.droppedOverflow = Counter.builder("notification.dropped").tag("reason", "overflow")
+                .description("Notifications discarded without being delivered").register(meterRegistry);
+        this.droppedFailed = Counter.builder("notification.dropped").tag("reason", "failed")
+                .description("Notifications discarded without being delivered").register(meterRegistry);
+        this.coalesced = Counter.builder("notification.coalesced")
+                .description("Duplicate notifications collapsed before sending").register(meterRegistry);
+        Gauge.builder("notification.queue.depth", queue, LinkedBlockingDeque::size)
+                .description("Notifications waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        sender = Thread.ofPlatform().name("notification-dispatcher").daemon(true).start(this::run);
+    }
+
+    /**
+     * Queues a notification for delivery once the current transaction commits.
+     */
+    public void enqueue(NotificationRequest notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(notification);
+                }
+            });
+        } else {
+            offer(notification);
+        }
+    }
+
+    void offer(NotificationRequest notification) {
+        while (!queue.offerLast(notification)) {
+            if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                droppedOverflow.increment();
+                log.warn("Notification queue full, dropping notification for user {}", notification.getRecipientId());
+                return;
+            }
+            NotificationRequest evicted = queue.pollFirst();
+            if (evicted != null) {
+                droppedOverflow.increment();
+                log.warn("Notification queue full, dropping oldest notification for user {}", evicted.getRecipientId());
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<NotificationRequest> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    sendWithRetry(batch);
+                }
+            } catch (InterruptedException e) {
+                break;
+            } catch (Exception e) {
+                log.warn("Notification dispatcher error: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Waits for the first notification, then lingers briefly to collect more into the same batch.
+     */
+    List<NotificationRequest> nextBatch() throws InterruptedException {
+        NotificationRequest first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<NotificationRequest> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            NotificationRequest next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return coalesce(batch);
+    }
+
+    /**
+     * Groups the batch by recipient and drops exact duplicates, keeping first-seen order.
+     */
+    List<NotificationRequest> coalesce(List<NotificationRequest> batch) {
+        Map<Long, Set<NotificationRequest>> byRecipient = new LinkedHashMap<>();
+        for (NotificationRequest notification : batch) {
+            byRecipient.computeIfAbsent(notification.getRecipientId(), id -> new LinkedHashSet<>()).add(notification);
+        }
+        List<NotificationRequest> result = new ArrayList<>(batch.size());
+        byRecipient.values().forEach(result::addAll);
+        if (result.size() < batch.size()) {
+            coalesced.increment(batch.size() - result.size());
+        }
+        return result;
+    }
+
+    void sendWithRetry(List<NotificationRequest> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            Outcome outcome = send(batch);
+            if (outcome == Outcome.DELIVERED) {
+                return;
+            }
+            if (outcome == Outcome.REJECTED || attempt >= maxAttempts || !running) {
+                droppedFailed.increment(batch.size());
+                log.error("Dropping {} notifications after {} attempts", batch.size(), attempt);
+                return;
+            }
+            // New notifications keep queueing meanwhile; the overflow policy bounds them
+            Thread.sleep(backoff(attempt).toMillis());
+        }
+    }
+
+    private Outcome send(List<NotificationRequest> batch) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(batchUri)
+                .header("Content-Type", "application/json; charset=UTF-8")
+                .timeout(requestTimeout)
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(batch)))
+                .build();
+
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                sendSuccess.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                log.debug("Sent {} notifications", batch.size());
+                return Outcome.DELIVERED;
+            }
+            sendFailure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            log.warn("Failed to send notifications: HTTP {} - {}", status, response.body());
+            return status >= 500 || status == 408 || status == 429 ? Outcome.RETRY : Outcome.REJECTED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendFailure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return Outcome.REJECTED;
+        } catch (Exception e) {
+            sendFailure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            log.warn("Failed to send notifications: {}", e.getMessage());
+            return Outcome.RETRY;
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = Duration.ofMillis(retryBackoffMs << Math.min(attempt - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private String toJson(List<NotificationRequest> batch) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("notifications", batch));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notifications", e);
+        }
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (sender != null) {
+            sender.interrupt();
+            sender.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // Best-effort flush of whatever is still queued
+        List<NotificationRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            List<NotificationRequest> batch = coalesce(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            if (send(batch) != Outcome.DELIVERED) {
+                droppedFailed.increment(batch.size());
+            }
+        }
+    }
+}
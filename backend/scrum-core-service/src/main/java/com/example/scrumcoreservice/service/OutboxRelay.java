@@ -0,0 +1,218 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.entity.OutboxEvent;
+import com.example.scrumcoreservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code outbox_events} to Kafka in batches.
+ * <p>
+ * Only one replica relays at a time (transaction-scoped advisory lock) and rows are read in
+ * insertion order, so events sharing a topic and key reach the broker in the order they were
+ * committed. Each key has at most one send in flight, so when an event fails, later events with
+ * the same key have not been sent; they stay pending until it has been delivered or parked as
+ * FAILED after {@code outbox.relay.max-attempts}. Delivery is at-least-once.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    static final long RELAY_LOCK_KEY = 4_711_004L;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long sendTimeoutMs;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter parked;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.sendTimeoutMs = sendTimeoutMs;
+
+        this.sent = Counter.builder("outbox.relay.sent")
+                .description("Outbox events delivered to Kafka").register(meterRegistry);
+        this.retried = Counter.builder("outbox.relay.failures").tag("outcome", "retry")
+                .description("Outbox delivery failures").register(meterRegistry);
+        this.parked = Counter.builder("outbox.relay.failures").tag("outcome", "parked")
+                .description("Outbox delivery failures").register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting to be relayed")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest pending outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}",
+               initialDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            Integer delivered;
+            do {
+                delivered = transactionTemplate.execute(status -> relayBatch());
+            } while (delivered != null && delivered >= batchSize);
+            refreshLag();
+        } catch (Exception e) {
+            log.warn("Outbox relay pass failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sends one batch and returns how many events were delivered. Must run inside a transaction.
+     */
+    int relayBatch() {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+
+        List<OutboxEvent> batch = outboxEventRepository.findRelayBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> heldKeys = new HashSet<>();
+        Map<String, Deque<OutboxEvent>> queued = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            String orderingKey = orderingKey(event);
+            if (heldKeys.contains(orderingKey)) {
+                continue;
+            }
+            if (event.getAvailableAt().isAfter(now)) {
+                // Still backing off: nothing behind it with the same key may overtake it
+                heldKeys.add(orderingKey);
+                continue;
+            }
+            queued.computeIfAbsent(orderingKey, key -> new ArrayDeque<>()).add(event);
+        }
+
+        // Keys are sent in parallel, but each key has at most one event in flight: the next event
+        // of a key is only sent once the broker acknowledged the one before it, so after a failure
+        // nothing behind it has reached the broker
+        List<InFlight> inFlight = new ArrayList<>();
+        queued.forEach((orderingKey, events) -> inFlight.add(send(orderingKey, events.poll())));
+
+        List<OutboxEvent> delivered = new ArrayList<>();
+        while (!inFlight.isEmpty()) {
+            List<InFlight> awaited = new ArrayList<>(inFlight);
+            inFlight.clear();
+            for (InFlight head : awaited) {
+                OutboxEvent event = head.event();
+                try {
+                    head.result().get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    recordFailure(event, e, now);
+                    continue;
+                } catch (Exception e) {
+                    // Later events of the key stay pending and are sent after this one
+                    recordFailure(event, e, now);
+                    continue;
+                }
+                delivered.add(event);
+                OutboxEvent next = queued.get(head.orderingKey()).poll();
+                if (next != null) {
+                    inFlight.add(send(head.orderingKey(), next));
+                }
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(delivered);
+            sent.increment(delivered.size());
+        }
+        return delivered.size();
+    }
+
+    private InFlight send(String orderingKey, OutboxEvent event) {
+        return new InFlight(orderingKey, event,
+                kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(String.valueOf(e.getCause() != null ? e.getCause() : e)));
+
+        if (attempts >= maxAttempts) {
+            event.setStatus(OutboxEvent.OutboxStatus.FAILED);
+            parked.increment();
+            log.error("Giving up on outbox event {} for topic {} after {} attempts: {}",
+                    event.getId(), event.getTopic(), attempts, event.getLastError());
+        } else {
+            event.setAvailableAt(now.plus(backoff(attempts)));
+            retried.increment();
+            log.warn("Failed to relay outbox event {} for topic {} (attempt {}): {}",
+                    event.getId(), event.getTopic(), attempts, event.getLastError());
+        }
+    }
+
+    private void refreshLag() {
+        OutboxEventRepository.OutboxBacklog backlog = outboxEventRepository.summarizePending();
+        pending.set(backlog.getPending());
+        lagMillis.set(backlog.getOldestCreatedAt() == null ? 0
+                : Math.max(0, Duration.between(backlog.getOldestCreatedAt(), LocalDateTime.now()).toMillis()));
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String orderingKey(OutboxEvent event) {
+        return event.getTopic() + "/" + event.getMessageKey();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record InFlight(String orderingKey, OutboxEvent event, CompletableFuture<SendResult<String, String>> result) {
+    }
+}
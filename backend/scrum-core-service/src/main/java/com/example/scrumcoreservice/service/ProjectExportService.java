@@ -0,0 +1,143 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BacklogItemDto;
+import com.example.scrumcoreservice.dto.ImpedimentDto;
+import com.example.scrumcoreservice.dto.RetrospectiveDto;
+import com.example.scrumcoreservice.dto.SprintDto;
+import com.example.scrumcoreservice.dto.TaskDto;
+import com.example.scrumcoreservice.repository.ImpedimentRepository;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import com.example.scrumcoreservice.repository.SprintRetrospectiveRepository;
+import com.example.scrumcoreservice.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams a whole project as NDJSON: one {@code {"type": ..., "data": ...}} object per line, in the
+ * order project, backlogItem, sprint, sprintItem, task, impediment, retrospective.
+ * <p>
+ * Every section is read through a server-side cursor inside one read-only transaction, so the
+ * export is a consistent snapshot. The persistence context is cleared as rows are written, so
+ * memory use does not grow with the size of the project. Records are serialized with the
+ * application's JSON mapper and look exactly like the REST responses.
+ */
+@Service
+@Slf4j
+public class ProjectExportService {
+
+    private static final int CLEAR_EVERY = 500;
+
+    private final ProductBacklogItemRepository backlogItemRepository;
+    private final SprintRepository sprintRepository;
+    private final SprintBacklogItemRepository sprintBacklogItemRepository;
+    private final TaskRepository taskRepository;
+    private final ImpedimentRepository impedimentRepository;
+    private final SprintRetrospectiveRepository retrospectiveRepository;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProjectExportService(ProductBacklogItemRepository backlogItemRepository,
+                                SprintRepository sprintRepository,
+                                SprintBacklogItemRepository sprintBacklogItemRepository,
+                                TaskRepository taskRepository,
+                                ImpedimentRepository impedimentRepository,
+                                SprintRetrospectiveRepository retrospectiveRepository,
+                                EntityManager entityManager,
+                                JsonMapper jsonMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.backlogItemRepository = backlogItemRepository;
+        this.sprintRepository = sprintRepository;
+        this.sprintBacklogItemRepository = sprintBacklogItemRepository;
+        this.taskRepository = taskRepository;
+        this.impedimentRepository = impedimentRepository;
+        this.retrospectiveRepository = retrospectiveRepository;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    private record Line(String type, Object data) {
+    }
+
+    private record ProjectHeader(Long projectId, Instant exportedAt) {
+    }
+
+    public void exportProject(Long projectId, OutputStream out) {
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        long started = System.nanoTime();
+        long lines = transactionTemplate.execute(status -> {
+            long written = write(buffered, "project", new ProjectHeader(projectId, Instant.now()));
+            written += writeAll(buffered, "backlogItem", backlogItemRepository.streamByProjectId(projectId), BacklogItemDto::fromEntity);
+            written += writeAll(buffered, "sprint", sprintRepository.streamByProjectId(projectId), SprintDto::fromEntity);
+            written += writeAll(buffered, "sprintItem", sprintBacklogItemRepository.streamByProjectId(projectId), Function.identity());
+            written += writeAll(buffered, "task", taskRepository.streamByProjectId(projectId), TaskDto::fromEntity);
+            written += writeAll(buffered, "impediment", impedimentRepository.streamByProjectId(projectId), ImpedimentDto::fromEntity);
+            written += writeAll(buffered, "retrospective", retrospectiveRepository.streamByProjectId(projectId), RetrospectiveDto::fromEntity);
+            return written;
+        });
+        try {
+            buffered.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported project {} ({} lines) in {} ms", projectId, lines, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private <T> long writeAll(OutputStream out, String type, Stream<T> rows, Function<T, ?> toRecord) {
+        long written = 0;
+        List<T> chunk = new ArrayList<>(CLEAR_EVERY);
+        try (rows) {
+            for (T row : (Iterable<T>) rows::iterator) {
+                chunk.add(row);
+                if (chunk.size() == CLEAR_EVERY) {
+                    written += writeChunk(out, type, chunk, toRecord);
+                }
+            }
+        }
+        written += writeChunk(out, type, chunk, toRecord);
+        return written;
+    }
+
+    /**
+     * Rows are mapped a chunk at a time, so lazy collections with a matching {@code @BatchSize}
+     * (retrospective lists) load in one query per chunk instead of one per row.
+     */
+    private <T> long writeChunk(OutputStream out, String type, List<T> chunk, Function<T, ?> toRecord) {
+        for (T row : chunk) {
+            write(out, type, toRecord.apply(row));
+        }
+        long written = chunk.size();
+        chunk.clear();
+        // Rows already written need not stay managed
+        entityManager.clear();
+        return written;
+    }
+
+    private long write(OutputStream out, String type, Object data) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(new Line(type, data)));
+            out.write('\n');
+            return 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.ImpedimentDto;
+import com.example.scrumcoreservice.dto.ProjectOverviewDto;
+import com.example.scrumcoreservice.dto.SprintDto;
+import com.example.scrumcoreservice.repository.BacklogItemApprovalRepository;
+import com.example.scrumcoreservice.repository.BacklogItemApprovalRequestRepository;
+import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reads everything the team portal shows when a project is opened in one request. Each section
+ * runs on its own virtual thread; sections of the active sprint start as soon as it is known.
+ * A section that fails or is not done within the section timeout (counted from the start of the
+ * request) is left out and reported as degraded instead of failing the whole overview. Its thread
+ * is not interrupted, which would close the pooled connection under it; its queries run in a
+ * read-only transaction that times out at the same deadline instead.
+ */
+@Service
+@Slf4j
+public class ProjectOverviewService {
+
+    static final String ACTIVE_SPRINT = "activeSprint";
+    static final String SPRINTS = "sprints";
+    static final String BOARD = "board";
+    static final String OPEN_IMPEDIMENTS = "openImpediments";
+    static final String SPRINT_APPROVALS = "sprintApprovals";
+    static final String MY_APPROVALS = "myApprovals";
+
+    private final SprintService sprintService;
+    private final ImpedimentService impedimentService;
+    private final SprintBacklogItemRepository sprintBacklogItemRepository;
+    private final BacklogItemApprovalRepository approvalRepository;
+    private final BacklogItemApprovalRequestRepository approvalRequestRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Duration sectionTimeout;
+    // Caps section queries in flight across all overviews so they cannot drain the connection pool
+    private final Semaphore queryPermits;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("project-overview-", 0).factory());
+
+    public ProjectOverviewService(SprintService sprintService,
+                                  ImpedimentService impedimentService,
+                                  SprintBacklogItemRepository sprintBacklogItemRepository,
+                                  BacklogItemApprovalRepository approvalRepository,
+                                  BacklogItemApprovalRequestRepository approvalRequestRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${project-overview.section-timeout-ms:800}") long sectionTimeoutMs,
+                                  @Value("${project-overview.max-parallel-queries:4}") int maxParallelQueries) {
+        this.sprintService = sprintService;
+        this.impedimentService = impedimentService;
+        this.sprintBacklogItemRepository = sprintBacklogItemRepository;
+        this.approvalRepository = approvalRepository;
+        this.approvalRequestRepository = approvalRequestRepository;
+        this.transactionManager = transactionManager;
+        this.sectionTimeout = Duration.ofMillis(sectionTimeoutMs);
+        this.queryPermits = new Semaphore(maxParallelQueries);
+    }
+
+    public ProjectOverviewDto getOverview(Long projectId, Long userId) {
+        long deadline = System.nanoTime() + sectionTimeout.toNanos();
+
+        Future<SprintDto> activeSprint = submit(() -> sprintService.getActiveSprint(projectId), deadline);
+        Future<List<SprintDto>> sprints = submit(() -> sprintService.getProjectSprints(projectId), deadline);
+        Future<Long> myApprovals = submit(() -> approvalRepository.countPendingForDeveloper(userId), deadline);
+        Future<ProjectOverviewDto.BoardSummaryDto> board = submitForActiveSprint(activeSprint,
+                sprintId -> summarizeBoard(sprintBacklogItemRepository.countBoardColumns(sprintId)), deadline);
+        Future<List<ImpedimentDto>> openImpediments = submitForActiveSprint(activeSprint,
+                impedimentService::getOpenImpediments, deadline);
+        Future<Long> sprintApprovals = submitForActiveSprint(activeSprint,
+                sprintId -> approvalRequestRepository.countBySprintIdAndPendingCountGreaterThan(sprintId, 0), deadline);
+
+        List<String> degraded = new ArrayList<>();
+        return ProjectOverviewDto.builder()
+                .projectId(projectId)
+                .activeSprint(await(ACTIVE_SPRINT, activeSprint, deadline, degraded))
+                .sprints(await(SPRINTS, sprints, deadline, degraded))
+                .board(await(BOARD, board, deadline, degraded))
+                .openImpediments(await(OPEN_IMPEDIMENTS, openImpediments, deadline, degraded))
+                .approvals(ProjectOverviewDto.ApprovalSummaryDto.builder()
+                        .sprintItemsPending(await(SPRINT_APPROVALS, sprintApprovals, deadline, degraded))
+                        .awaitingMyResponse(await(MY_APPROVALS, myApprovals, deadline, degraded))
+                        .build())
+                .degraded(degraded)
+                .build();
+    }
+
+    static ProjectOverviewDto.BoardSummaryDto summarizeBoard(List<SprintBacklogItemRepository.BoardColumnCount> counts) {
+        ProjectOverviewDto.BoardSummaryDto board = ProjectOverviewDto.BoardSummaryDto.builder()
+                .toDo(new ProjectOverviewDto.ColumnCountDto())
+                .inProgress(new ProjectOverviewDto.ColumnCountDto())
+                .review(new ProjectOverviewDto.ColumnCountDto())
+                .done(new ProjectOverviewDto.ColumnCountDto())
+                .build();
+        for (SprintBacklogItemRepository.BoardColumnCount count : counts) {
+            // Cards without a column are shown under TO_DO, as on the board
+            ProjectOverviewDto.ColumnCountDto column = count.getBoardColumn() == null ? board.getToDo() :
+                    switch (count.getBoardColumn()) {
+                        case TO_DO -> board.getToDo();
+                        case IN_PROGRESS -> board.getInProgress();
+                        case REVIEW -> board.getReview();
+                        case DONE -> board.getDone();
+                    };
+            column.setItems(column.getItems() + count.getItemCount());
+            column.setStoryPoints(column.getStoryPoints() + count.getStoryPoints());
+        }
+        return board;
+    }
+
+    /**
+     * Runs a section of the active sprint once it is known; null when the project has none.
+     * Waits for the active sprint before taking a query permit.
+     */
+    private <T> Future<T> submitForActiveSprint(Future<SprintDto> activeSprint, Function<Long, T> section,
+                                                long deadline) {
+        return run(() -> {
+            SprintDto sprint = activeSprint.get();
+            return sprint == null ? null : withPermit(() -> section.apply(sprint.getId()), deadline);
+        });
+    }
+
+    private <T> Future<T> submit(Supplier<T> section, long deadline) {
+        return run(() -> withPermit(section, deadline));
+    }
+
+    private <T> Future<T> run(Callable<T> task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return executor.submit(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return task.call();
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+
+    /**
+     * Runs the section in a read-only transaction that times out at the deadline, rounded up to
+     * whole seconds as transaction timeouts are; nothing is read once the deadline has passed.
+     */
+    private <T> T withPermit(Supplier<T> section, long deadline) throws InterruptedException, TimeoutException {
+        queryPermits.acquire();
+        try {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                throw new TimeoutException("Deadline passed before the section started");
+            }
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.setTimeout((int) ((remainingMs + 999) / 1000));
+            return transaction.execute(status -> section.get());
+        } finally {
+            queryPermits.release();
+        }
+    }
+
+    private <T> T await(String section, Future<T> future, long deadline, List<String> degraded) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Not interrupted: the transaction timeout bounds a section still running
+            future.cancel(false);
+            log.warn("Project overview section {} did not finish within {} ms", section, sectionTimeout.toMillis());
+        } catch (ExecutionException e) {
+            log.warn("Project overview section {} failed: {}", section, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+        }
+        degraded.add(section);
+        return null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.repository.ProjectRevisionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Per-project revision used as the ETag of the backlog, active sprint and board endpoints.
+ * <p>
+ * Writes call {@link #bump}; the projects touched by a transaction are collected and each is moved
+ * to a new revision once, just before commit. The revision row is therefore locked only for the
+ * commit itself, and a reader can never see the new revision before the data it stands for.
+ * Pending entity changes are flushed before the bump, so every transaction locks the revision row
+ * after the item and sprint rows it writes and cannot deadlock against a bulk update such as
+ * ending a sprint.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectRevisionService {
+
+    private final ProjectRevisionRepository projectRevisionRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Marks the project as changed by the current transaction.
+     */
+    public void bump(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            projectRevisionRepository.bump(projectId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (changed == null) {
+            // Sorted so concurrent transactions lock revision rows in the same order
+            Set<Long> projectIds = new TreeSet<>();
+            TransactionSynchronizationManager.bindResource(this, projectIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // The bump declares its table, so Hibernate would not flush dirty entities before it
+                    projectRevisionRepository.flush();
+                    projectIds.forEach(projectRevisionRepository::bump);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProjectRevisionService.this);
+                }
+            });
+            changed = projectIds;
+        }
+        changed.add(projectId);
+    }
+
+    /**
+     * Reads a response of the project under its ETag: {@code read} gets the ETag and returns the
+     * response, reading the body only if the client's copy is out of date. The revision is read
+     * first and in the same read-only transaction as the body, so both come from the same database
+     * (primary or replica) and a body is never older than the ETag it is cached under. For the same
+     * reason the body is not read from the second-level cache (see {@link #bypassSecondLevelCache}).
+     */
+    @Transactional(readOnly = true)
+    public <T> T readWithProjectETag(Long projectId, Function<String, T> read) {
+        bypassSecondLevelCache();
+        return read.apply(eTag(projectId, projectRevisionRepository.findRevision(projectId).orElse(0L)));
+    }
+
+    /**
+     * As {@link #readWithProjectETag}, for the sprint's project; the ETag is null when the sprint
+     * does not exist.
+     */
+    @Transactional(readOnly = true)
+    public <T> T readWithSprintETag(Long sprintId, Function<String, T> read) {
+        bypassSecondLevelCache();
+        return read.apply(projectRevisionRepository.findSprintRevision(sprintId)
+                .map(revision -> eTag(revision.getProjectId(), revision.getRevision()))
+                .orElse(null));
+    }
+
+    /**
+     * This instance's cache only drops a changed row once the writer's eviction message arrives, so
+     * a cached body could be older than the revision just read, and clients would keep it under the
+     * new ETag until the next write. REFRESH reads from the database and puts the result, unless
+     * read-only transactions may not fill the cache at all (replica configured).
+     */
+    private void bypassSecondLevelCache() {
+        Session session = entityManager.unwrap(Session.class);
+        session.setCacheMode(session.getCacheMode() == CacheMode.GET ? CacheMode.IGNORE : CacheMode.REFRESH);
+    }
+
+    private static String eTag(Long projectId, long revision) {
+        return "\"" + projectId + "-" + revision + "\"";
+    }
+}
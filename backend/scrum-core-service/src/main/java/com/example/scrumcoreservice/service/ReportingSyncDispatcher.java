@@ -0,0 +1,246 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.SprintCompletionSyncRequest;
+import com.example.scrumcoreservice.entity.ReportingSyncTask;
+import com.example.scrumcoreservice.repository.ReportingSyncTaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers sprint-completion metrics to reporting-service without holding up the caller.
+ * <p>
+ * Each sync is stored in {@code reporting_sync_queue} inside the caller's transaction and handed
+ * to a small bounded worker pool once that transaction commits. Failed or rejected deliveries stay
+ * in the table and are picked up again by a periodic sweep with exponential backoff, so a sync
+ * survives restarts and reporting-service outages.
+ */
+@Service
+@Slf4j
+public class ReportingSyncDispatcher {
+
+    private static final String SPRINT_COMPLETION_PATH = "/api/sync/sprint-completion";
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final ReportingSyncTaskRepository syncTaskRepository;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI sprintCompletionUri;
+    private final Duration requestTimeout;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer requestSuccess;
+    private final Timer requestFailure;
+    private final Timer deliveryLatency;
+    private final Counter retried;
+    private final Counter parked;
+    private final Counter rejected;
+    private final AtomicLong pending = new AtomicLong();
+
+    public ReportingSyncDispatcher(ReportingSyncTaskRepository syncTaskRepository,
+                                   HttpClient outboundHttpClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${reporting-service.url:http://localhost:3001}") String reportingServiceUrl,
+                                   @Value("${reporting-service.sync.request-timeout-ms:10000}") long requestTimeoutMs,
+                                   @Value("${reporting-service.sync.max-attempts:8}") int maxAttempts,
+                                   @Value("${reporting-service.sync.workers:2}") int workers,
+                                   @Value("${reporting-service.sync.queue-capacity:500}") int queueCapacity) {
+        this.syncTaskRepository = syncTaskRepository;
+        this.httpClient = outboundHttpClient;
+        this.sprintCompletionUri = URI.create(stripTrailingSlash(reportingServiceUrl) + SPRINT_COMPLETION_PATH);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.lease = requestTimeout.plusSeconds(30);
+        this.maxAttempts = maxAttempts;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("reporting-sync-", 0).daemon(true).factory());
+
+        this.requestSuccess = Timer.builder("reporting.sync.request").tag("outcome", "success")
+                .description("reporting-service sync call duration").register(meterRegistry);
+        this.requestFailure = Timer.builder("reporting.sync.request").tag("outcome", "failure")
+                .description("reporting-service sync call duration").register(meterRegistry);
+        this.deliveryLatency = Timer.builder("reporting.sync.delivery.latency")
+                .description("Time from sprint completion to reporting-service acknowledgement")
+                .register(meterRegistry);
+        this.retried = Counter.builder("reporting.sync.failures").tag("outcome", "retry")
+                .description("Failed reporting-service syncs").register(meterRegistry);
+        this.parked = Counter.builder("reporting.sync.failures").tag("outcome", "parked")
+                .description("Failed reporting-service syncs").register(meterRegistry);
+        this.rejected = Counter.builder("reporting.sync.rejected")
+                .description("Syncs left for the sweep because the worker queue was full")
+                .register(meterRegistry);
+        Gauge.builder("reporting.sync.pending", pending, AtomicLong::get)
+                .description("Reporting syncs waiting in the durable queue")
+                .register(meterRegistry);
+        Gauge.builder("reporting.sync.executor.queue", executor, e -> e.getQueue().size())
+                .description("Reporting syncs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the sync in the current transaction; delivery starts only after it commits.
+     */
+    public void dispatchSprintCompletion(SprintCompletionSyncRequest request) {
+        ReportingSyncTask task = syncTaskRepository.save(ReportingSyncTask.builder()
+                .sprintId(request.getSprintId())
+                .payload(toJson(request))
+                .build());
+        Long taskId = task.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(taskId);
+                }
+            });
+        } else {
+            submit(taskId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reporting-service.sync.sweep-interval-ms:15000}",
+               initialDelayString = "${reporting-service.sync.sweep-interval-ms:15000}")
+    public void sweep() {
+        try {
+            List<Long> dueIds = syncTaskRepository.findDueIds(LocalDateTime.now(), Limit.of(SWEEP_BATCH_SIZE));
+            dueIds.forEach(this::submit);
+            pending.set(syncTaskRepository.countByStatus(ReportingSyncTask.SyncStatus.PENDING));
+        } catch (Exception e) {
+            log.warn("Reporting sync sweep failed: {}", e.getMessage());
+        }
+    }
+
+    void submit(Long taskId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    deliver(taskId);
+                } catch (Exception e) {
+                    log.warn("Reporting sync {} could not be processed: {}", taskId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Reporting sync worker queue full, sync {} left for the next sweep", taskId);
+        }
+    }
+
+    /**
+     * Makes one delivery attempt if this worker wins the lease on the task.
+     */
+    void deliver(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (syncTaskRepository.claim(taskId, now, now.plus(lease)) == 0) {
+            return;
+        }
+        ReportingSyncTask task = syncTaskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            return;
+        }
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(sprintCompletionUri)
+                .header("Content-Type", "application/json")
+                .timeout(requestTimeout)
+                .POST(HttpRequest.BodyPublishers.ofString(task.getPayload()))
+                .build();
+
+        long started = System.nanoTime();
+        String failure;
+        boolean retryable = true;
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                requestSuccess.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                syncTaskRepository.deleteById(taskId);
+                deliveryLatency.record(Duration.between(task.getCreatedAt(), LocalDateTime.now()));
+                log.info("Reporting-service acknowledged completion of sprint {}", task.getSprintId());
+                return;
+            }
+            failure = "HTTP " + status + ": " + response.body();
+            // Other client errors mean the payload itself is rejected; resending will not help
+            retryable = status >= 500 || status == 408 || status == 429;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e.toString();
+        } catch (Exception e) {
+            failure = e.toString();
+        }
+
+        requestFailure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        recordFailure(task, failure, retryable);
+    }
+
+    private void recordFailure(ReportingSyncTask task, String failure, boolean retryable) {
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        task.setLastError(failure.length() <= MAX_ERROR_LENGTH ? failure : failure.substring(0, MAX_ERROR_LENGTH));
+
+        if (!retryable || attempts >= maxAttempts) {
+            task.setStatus(ReportingSyncTask.SyncStatus.FAILED);
+            parked.increment();
+            log.error("Giving up on reporting sync for sprint {} after {} attempts: {}",
+                    task.getSprintId(), attempts, task.getLastError());
+        } else {
+            task.setAvailableAt(LocalDateTime.now().plus(backoff(attempts)));
+            retried.increment();
+            log.warn("Reporting sync for sprint {} failed (attempt {}), retrying at {}: {}",
+                    task.getSprintId(), attempts, task.getAvailableAt(), task.getLastError());
+        }
+        syncTaskRepository.save(task);
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(5L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private String toJson(SprintCompletionSyncRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize reporting sync payload", e);
+        }
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // Anything still queued remains in reporting_sync_queue and is swept after restart
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
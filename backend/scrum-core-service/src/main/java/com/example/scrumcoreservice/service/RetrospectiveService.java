@@ -64,12 +64,14 @@ public class RetrospectiveService {
         return RetrospectiveDto.fromEntity(retrospective);
     }
 
+    @Transactional(readOnly = true)
     public RetrospectiveDto getRetrospectiveBySprintId(Long sprintId) {
         return retrospectiveRepository.findBySprintId(sprintId)
                 .map(RetrospectiveDto::fromEntity)
                 .orElse(null);
     }
 
+    @Transactional(readOnly = true)
     public RetrospectiveDto getRetrospective(Long id) {
         return retrospectiveRepository.findById(id)
                 .map(RetrospectiveDto::fromEntity)
@@ -0,0 +1,107 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.SearchHitDto;
+import com.example.scrumcoreservice.dto.SearchPageDto;
+import com.example.scrumcoreservice.repository.SearchDocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final Set<String> DOC_TYPES = Set.of("BACKLOG_ITEM", "TASK", "RETROSPECTIVE");
+
+    private final SearchDocumentRepository searchDocumentRepository;
+
+    /**
+     * Backlog items, tasks and retrospectives of a project matching {@code q} (web search syntax:
+     * words, "quoted phrases", -excluded), best match first.
+     */
+    @Transactional(readOnly = true)
+    public SearchPageDto search(Long projectId, String q, String after, Integer limit) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("Search text is required");
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search text is longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        Float afterRank = null;
+        String afterType = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            String[] keyset = decodeCursor(after);
+            afterRank = Float.parseFloat(keyset[0]);
+            afterType = keyset[1];
+            afterId = Long.parseLong(keyset[2]);
+        }
+
+        // One extra row tells us whether another page follows
+        List<SearchHitDto> rows = searchDocumentRepository.search(
+                projectId, q.trim(), afterRank, afterType, afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<SearchHitDto> hits = hasMore ? rows.subList(0, pageSize) : rows;
+        hits.forEach(hit -> hit.setSnippet(highlight(hit.getSnippet())));
+        SearchHitDto last = hits.isEmpty() ? null : hits.get(hits.size() - 1);
+
+        return SearchPageDto.builder()
+                .hits(hits)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? encodeCursor(last.getRank(), last.getType(), last.getId()) : null)
+                .build();
+    }
+
+    /**
+     * Escapes the document text for HTML, keeping only the {@code <mark>} tags added around matches.
+     */
+    static String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        StringBuilder html = new StringBuilder();
+        String[] parts = snippet.split(SearchDocumentRepository.MARK_START + "|" + SearchDocumentRepository.MARK_END, -1);
+        boolean marked = false;
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                html.append(marked ? SearchDocumentRepository.MARK_END : SearchDocumentRepository.MARK_START);
+                marked = !marked;
+            }
+            html.append(HtmlUtils.htmlEscape(parts[i]));
+        }
+        if (marked) {
+            html.append(SearchDocumentRepository.MARK_END);
+        }
+        return html.toString();
+    }
+
+    static String encodeCursor(float rank, String type, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((rank + ":" + type + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3 || !DOC_TYPES.contains(parts[1])) {
+                throw new IllegalArgumentException();
+            }
+            Float.parseFloat(parts[0]);
+            Long.parseLong(parts[2]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.scrumcoreservice.service;
 
+import com.example.scrumcoreservice.dto.BacklogItemDto;
 import com.example.scrumcoreservice.dto.CreateSprintRequest;
+import com.example.scrumcoreservice.dto.SprintBoardDto;
+import com.example.scrumcoreservice.dto.SprintCompletionSyncRequest;
 import com.example.scrumcoreservice.dto.SprintDto;
 import com.example.scrumcoreservice.entity.ProductBacklogItem;
 import com.example.scrumcoreservice.entity.Sprint;
 import com.example.scrumcoreservice.entity.SprintBacklogItem;
+import com.example.scrumcoreservice.events.BacklogItemEvent;
 import com.example.scrumcoreservice.events.SprintEvent;
+import com.example.scrumcoreservice.exception.VersionCheck;
 import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
 import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
 import com.example.scrumcoreservice.repository.SprintRepository;
@@ -15,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +33,12 @@ public class SprintService {
     private final ProductBacklogItemRepository backlogItemRepository;
     private final EventPublisher eventPublisher;
     private final ApprovalService approvalService;
+    private final ReportingSyncDispatcher reportingSyncDispatcher;
+    private final ProjectRevisionService projectRevisionService;
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+    private static final List<ProductBacklogItem.ItemStatus> COMPLETED_ITEM_STATUSES =
+            List.of(ProductBacklogItem.ItemStatus.DONE, ProductBacklogItem.ItemStatus.ACCEPTED);
 
     @Transactional
     public SprintDto createSprint(CreateSprintRequest request, Long userId) {
@@ -43,6 +55,7 @@ public class SprintService {
                 .build();
 
         sprint = sprintRepository.save(sprint);
+        projectRevisionService.bump(sprint.getProjectId());
 
         // Publish sprint created event
         SprintEvent event = SprintEvent.builder()
@@ -63,6 +76,7 @@ public class SprintService {
         return SprintDto.fromEntity(sprint);
     }
 
+    @Transactional(readOnly = true)
     public List<SprintDto> getProjectSprints(Long projectId) {
         return sprintRepository.findByProjectIdOrderByCreatedAtDesc(projectId)
                 .stream()
@@ -70,12 +84,14 @@ public class SprintService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public SprintDto getSprint(Long id) {
         Sprint sprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Sprint not found"));
         return SprintDto.fromEntity(sprint);
     }
 
+    @Transactional(readOnly = true)
     public SprintDto getActiveSprint(Long projectId) {
         return sprintRepository.findFirstByProjectIdAndStatusOrderByStartedAtDesc(projectId, Sprint.SprintStatus.ACTIVE)
                 .map(SprintDto::fromEntity)
@@ -97,44 +113,32 @@ public class SprintService {
         }
 
         // CRITICAL SCRUM VALIDATION: Sprint must have at least one backlog item
-        List<SprintBacklogItem> sprintItems = sprintBacklogItemRepository.findBySprintId(id);
-        if (sprintItems.isEmpty()) {
+        SprintBacklogItemRepository.SprintCommitment commitment = sprintBacklogItemRepository.summarizeCommitment(id);
+        if (commitment.getItemCount() == 0) {
             throw new RuntimeException("Cannot start sprint without at least one backlog item. " +
                     "Please add items to the sprint.");
         }
 
         // CRITICAL SCRUM VALIDATION: All items in sprint must be ready (SPRINT_READY or IN_SPRINT status)
-        for (SprintBacklogItem sbi : sprintItems) {
-            ProductBacklogItem item = backlogItemRepository.findById(sbi.getBacklogItemId())
-                    .orElseThrow(() -> new RuntimeException("Backlog item not found"));
-
-            // Allow both SPRINT_READY and IN_SPRINT statuses
-            if (item.getStatus() != ProductBacklogItem.ItemStatus.SPRINT_READY &&
-                item.getStatus() != ProductBacklogItem.ItemStatus.IN_SPRINT) {
-                throw new RuntimeException("Cannot start sprint: Backlog item '" + item.getTitle() +
-                        "' is not ready for sprint (status: " + item.getStatus() + "). " +
-                        "All items must have SPRINT_READY or IN_SPRINT status before sprint can start.");
-            }
+        List<ProductBacklogItem> notReadyItems = backlogItemRepository.findSprintItemsNotInStatus(id,
+                List.of(ProductBacklogItem.ItemStatus.SPRINT_READY, ProductBacklogItem.ItemStatus.IN_SPRINT));
+        if (!notReadyItems.isEmpty()) {
+            ProductBacklogItem item = notReadyItems.get(0);
+            throw new RuntimeException("Cannot start sprint: Backlog item '" + item.getTitle() +
+                    "' is not ready for sprint (status: " + item.getStatus() + "). " +
+                    "All items must have SPRINT_READY or IN_SPRINT status before sprint can start.");
         }
 
         sprint.setStatus(Sprint.SprintStatus.ACTIVE);
         sprint.setStartedAt(LocalDateTime.now());
-
-        // Update all backlog items in this sprint to IN_SPRINT status and set to TO_DO column
-        int committedPoints = 0;
-        for (SprintBacklogItem sbi : sprintItems) {
-            backlogItemRepository.findById(sbi.getBacklogItemId()).ifPresent(item -> {
-                // Update to IN_SPRINT if not already (some items may already be IN_SPRINT from approval)
-                if (item.getStatus() != ProductBacklogItem.ItemStatus.IN_SPRINT) {
-                    item.setStatus(ProductBacklogItem.ItemStatus.IN_SPRINT);
-                }
-                item.setBoardColumn(ProductBacklogItem.BoardColumn.TO_DO); // All items start in TO_DO
-                backlogItemRepository.save(item);
-            });
-            committedPoints += (sbi.getCommittedPoints() != null ? sbi.getCommittedPoints() : 0);
-        }
-
         sprint = sprintRepository.save(sprint);
+        projectRevisionService.bump(sprint.getProjectId());
+
+        // Move all backlog items in this sprint to IN_SPRINT status and the TO_DO column in one statement
+        backlogItemRepository.updateStatusAndBoardColumnForSprint(id,
+                ProductBacklogItem.ItemStatus.IN_SPRINT, ProductBacklogItem.BoardColumn.TO_DO, LocalDateTime.now());
+        cacheInvalidationBroadcaster.entitiesChanged(ProductBacklogItem.class);
+        int committedPoints = (int) commitment.getCommittedPoints();
 
         // Publish sprint started event
         SprintEvent event = SprintEvent.builder()
@@ -163,50 +167,29 @@ public class SprintService {
             throw new RuntimeException("Sprint must be ACTIVE to end");
         }
 
+        // Totals are read before any status changes, in a single aggregate over the sprint
+        SprintBacklogItemRepository.SprintCloseOut closeOut =
+                sprintBacklogItemRepository.summarizeCloseOut(id, COMPLETED_ITEM_STATUSES);
+        int committedPoints = (int) closeOut.getCommittedPoints();
+        int completedPoints = (int) closeOut.getCompletedPoints();
+        int storiesCompleted = (int) closeOut.getStoriesCompleted();
+
         sprint.setStatus(Sprint.SprintStatus.COMPLETED);
         sprint.setEndedAt(LocalDateTime.now());
+        sprint = sprintRepository.save(sprint);
+        projectRevisionService.bump(sprint.getProjectId());
 
-        // Calculate completed points and stories, and handle unfinished items
-        List<SprintBacklogItem> sprintItems = sprintBacklogItemRepository.findBySprintId(id);
-        int committedPoints = 0;
-        int completedPoints = 0;
-        int storiesCompleted = 0;
-        List<Long> unfinishedItemIds = new java.util.ArrayList<>();
+        // Completed items (DONE or ACCEPTED) keep their sprint entry with actual points recorded
+        LocalDateTime now = LocalDateTime.now();
+        sprintBacklogItemRepository.markCompletedItems(id, COMPLETED_ITEM_STATUSES, now);
 
-        for (SprintBacklogItem sbi : sprintItems) {
-            committedPoints += (sbi.getCommittedPoints() != null ? sbi.getCommittedPoints() : 0);
-
-            ProductBacklogItem item = backlogItemRepository.findById(sbi.getBacklogItemId())
-                    .orElseThrow(() -> new RuntimeException("Backlog item not found"));
-
-            // Check if item is DONE or ACCEPTED
-            if (item.getStatus() == ProductBacklogItem.ItemStatus.DONE ||
-                item.getStatus() == ProductBacklogItem.ItemStatus.ACCEPTED) {
-                // Item completed - update metrics
-                Integer itemPoints = sbi.getActualPoints() != null ? sbi.getActualPoints() : sbi.getCommittedPoints();
-                if (itemPoints == null && item.getStoryPoints() != null) {
-                    itemPoints = item.getStoryPoints();
-                }
-                sbi.setActualPoints(itemPoints != null ? itemPoints : 0);
-                sbi.setCompletedAt(LocalDateTime.now());
-                sprintBacklogItemRepository.save(sbi);
-
-                completedPoints += (sbi.getActualPoints() != null ? sbi.getActualPoints() : 0);
-                storiesCompleted++;
-            } else {
-                // CRITICAL: Item NOT completed - must return to backlog per Scrum rules
-                item.setStatus(ProductBacklogItem.ItemStatus.BACKLOG);
-                backlogItemRepository.save(item);
-                unfinishedItemIds.add(sbi.getBacklogItemId());
-            }
-        }
+        // CRITICAL: Items NOT completed must return to backlog per Scrum rules
+        backlogItemRepository.updateSprintItemsNotInStatus(id, COMPLETED_ITEM_STATUSES,
+                ProductBacklogItem.ItemStatus.BACKLOG, now);
+        cacheInvalidationBroadcaster.entitiesChanged(ProductBacklogItem.class);
 
         // CRITICAL: Remove unfinished items from sprint_backlog_items (Scrum Reset Phase)
-        for (Long backlogItemId : unfinishedItemIds) {
-            sprintBacklogItemRepository.deleteBySprintIdAndBacklogItemId(id, backlogItemId);
-        }
-
-        sprint = sprintRepository.save(sprint);
+        sprintBacklogItemRepository.deleteUnfinishedItems(id, COMPLETED_ITEM_STATUSES);
 
         // Publish sprint completed event to Kafka
         SprintEvent event = SprintEvent.builder()
@@ -226,56 +209,24 @@ public class SprintService {
                 .build();
         eventPublisher.publishSprintEvent(event);
 
-        // DIRECT CALL: Synchronously notify reporting-service about sprint completion
-        // This ensures metrics are saved immediately and we get confirmation
-        try {
-            // Count remaining backlog items for burndown calculation
-            long remainingBacklogCount = backlogItemRepository.countByProjectIdAndStatus(
+        // Reporting-service is updated after commit; ending the sprint never waits on it
+        long remainingBacklogCount = backlogItemRepository.countByProjectIdAndStatus(
                 sprint.getProjectId(), ProductBacklogItem.ItemStatus.BACKLOG);
-
-            notifyReportingService(sprint.getId(), sprint.getProjectId(), committedPoints, completedPoints,
-                storiesCompleted, sprint.getName(), sprint.getEndDate(), (int)remainingBacklogCount);
-            System.out.println("✅ Sprint metrics sent to reporting-service: " + completedPoints + " points, " + remainingBacklogCount + " items remaining");
-        } catch (Exception e) {
-            System.err.println("⚠️ Failed to notify reporting-service, but sprint is completed: " + e.getMessage());
-            // Don't fail the sprint completion if reporting fails - it's logged for admin review
-        }
+        reportingSyncDispatcher.dispatchSprintCompletion(SprintCompletionSyncRequest.builder()
+                .sprintId(sprint.getId())
+                .projectId(sprint.getProjectId())
+                .teamId(1L) // reporting-service still aggregates velocity under the default team
+                .sprintName(sprint.getName())
+                .endDate(sprint.getEndDate() != null ? sprint.getEndDate().toString() : null)
+                .completedPoints(completedPoints)
+                .velocity(completedPoints)
+                .storiesCompleted(storiesCompleted)
+                .backlogItemsRemaining((int) remainingBacklogCount)
+                .build());
 
         return SprintDto.fromEntity(sprint);
     }
 
-    private void notifyReportingService(Long sprintId, Long projectId, int committedPoints, int completedPoints, int storiesCompleted, String sprintName, java.time.LocalDate endDate, int backlogItemsRemaining) {
-        try {
-            // Build request body
-            String requestBody = String.format(
-                "{\"sprintId\":%d,\"projectId\":%d,\"teamId\":1,\"sprintName\":\"%s\",\"endDate\":\"%s\",\"completedPoints\":%d,\"velocity\":%d,\"storiesCompleted\":%d,\"backlogItemsRemaining\":%d}",
-                sprintId, projectId, sprintName, endDate.toString(), completedPoints, completedPoints, storiesCompleted, backlogItemsRemaining
-            );
-
-            // Send HTTP POST to reporting-service
-            java.net.http.HttpClient client = java.net.http.HttpClient.newBuilder()
-                .connectTimeout(java.time.Duration.ofSeconds(5))
-                .build();
-
-            java.net.http.HttpRequest request = java.net.http.HttpRequest.newBuilder()
-                .uri(java.net.URI.create("http://localhost:3001/api/sync/sprint-completion"))
-                .header("Content-Type", "application/json")
-                .POST(java.net.http.HttpRequest.BodyPublishers.ofString(requestBody))
-                .timeout(java.time.Duration.ofSeconds(10))
-                .build();
-
-            java.net.http.HttpResponse<String> response = client.send(request, java.net.http.HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200 || response.statusCode() == 201) {
-                System.out.println("✅ Reporting-service acknowledged sprint completion: " + response.body());
-            } else {
-                System.err.println("⚠️ Reporting-service returned error code " + response.statusCode() + ": " + response.body());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to call reporting-service: " + e.getMessage(), e);
-        }
-    }
-
     @Transactional
     public SprintDto cancelSprint(Long id) {
         Sprint sprint = sprintRepository.findById(id)
@@ -305,6 +256,7 @@ public class SprintService {
         approvalService.cancelApprovalsForSprint(id);
 
         sprint = sprintRepository.save(sprint);
+        projectRevisionService.bump(sprint.getProjectId());
 
         // Publish sprint cancelled event
         SprintEvent event = SprintEvent.builder()
@@ -367,6 +319,7 @@ public class SprintService {
         // Trigger approval workflow
         // Product Owner approval required when Developer creates/moves item
         approvalService.requestApprovals(backlogItemId, sprintId, teamMemberIds, requesterId, "DEVELOPER");
+        projectRevisionService.bump(sprint.getProjectId());
 
         System.out.println("Approval workflow initiated for item " + backlogItemId + " in sprint " + sprintId +
                 ". Waiting for Product Owner approval.");
@@ -392,36 +345,39 @@ public class SprintService {
             item.setStatus(ProductBacklogItem.ItemStatus.BACKLOG);
             backlogItemRepository.save(item);
         });
+        projectRevisionService.bump(sprint.getProjectId());
     }
 
+    @Transactional(readOnly = true)
     public List<ProductBacklogItem> getSprintBacklog(Long sprintId) {
-        List<SprintBacklogItem> sprintItems = sprintBacklogItemRepository.findBySprintId(sprintId);
-        return sprintItems.stream()
-                .map(sbi -> backlogItemRepository.findById(sbi.getBacklogItemId())
-                        .orElseThrow(() -> new RuntimeException("Backlog item not found")))
-                .collect(Collectors.toList());
+        return sprintBacklogItemRepository.findSprintBacklogItems(sprintId);
     }
 
-    public com.example.scrumcoreservice.dto.SprintBoardDto getSprintBoard(Long sprintId) {
+    /**
+     * Board view read in two statements whatever the sprint size: the sprint, then one join of its
+     * items projected to card fields and bucketed by board column.
+     */
+    @Transactional(readOnly = true)
+    public SprintBoardDto getSprintBoard(Long sprintId) {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found"));
 
-        List<ProductBacklogItem> allItems = getSprintBacklog(sprintId);
+        List<SprintBacklogItemRepository.BoardCard> cards = sprintBacklogItemRepository.findBoardCards(sprintId);
 
         // Group items by board column
-        List<com.example.scrumcoreservice.dto.BacklogItemDto> toDo = new java.util.ArrayList<>();
-        List<com.example.scrumcoreservice.dto.BacklogItemDto> inProgress = new java.util.ArrayList<>();
-        List<com.example.scrumcoreservice.dto.BacklogItemDto> review = new java.util.ArrayList<>();
-        List<com.example.scrumcoreservice.dto.BacklogItemDto> done = new java.util.ArrayList<>();
+        List<BacklogItemDto> toDo = new ArrayList<>();
+        List<BacklogItemDto> inProgress = new ArrayList<>();
+        List<BacklogItemDto> review = new ArrayList<>();
+        List<BacklogItemDto> done = new ArrayList<>();
 
-        for (ProductBacklogItem item : allItems) {
-            com.example.scrumcoreservice.dto.BacklogItemDto dto = com.example.scrumcoreservice.dto.BacklogItemDto.fromEntity(item);
+        for (SprintBacklogItemRepository.BoardCard card : cards) {
+            BacklogItemDto dto = toBoardItem(card);
 
-            if (item.getBoardColumn() == null) {
+            if (card.getBoardColumn() == null) {
                 // Default to TO_DO if not set
                 toDo.add(dto);
             } else {
-                switch (item.getBoardColumn()) {
+                switch (card.getBoardColumn()) {
                     case TO_DO -> toDo.add(dto);
                     case IN_PROGRESS -> inProgress.add(dto);
                     case REVIEW -> review.add(dto);
@@ -430,15 +386,14 @@ public class SprintService {
             }
         }
 
-        com.example.scrumcoreservice.dto.SprintBoardDto.BoardColumnsDto columns =
-                com.example.scrumcoreservice.dto.SprintBoardDto.BoardColumnsDto.builder()
-                        .toDo(toDo)
-                        .inProgress(inProgress)
-                        .review(review)
-                        .done(done)
-                        .build();
+        SprintBoardDto.BoardColumnsDto columns = SprintBoardDto.BoardColumnsDto.builder()
+                .toDo(toDo)
+                .inProgress(inProgress)
+                .review(review)
+                .done(done)
+                .build();
 
-        return com.example.scrumcoreservice.dto.SprintBoardDto.builder()
+        return SprintBoardDto.builder()
                 .sprintId(sprint.getId())
                 .sprintName(sprint.getName())
                 .sprintStatus(sprint.getStatus().name())
@@ -446,8 +401,30 @@ public class SprintService {
                 .build();
     }
 
+    private static BacklogItemDto toBoardItem(SprintBacklogItemRepository.BoardCard card) {
+        return BacklogItemDto.builder()
+                .id(card.getId())
+                .projectId(card.getProjectId())
+                .title(card.getTitle())
+                .description(card.getDescription())
+                .type(card.getType().name())
+                .storyPoints(card.getStoryPoints())
+                .priority(card.getPriority())
+                .position(card.getPosition())
+                .status(card.getStatus().name())
+                .createdBy(card.getCreatedBy())
+                .createdByRole(card.getCreatedByRole())
+                .createdAt(card.getCreatedAt())
+                .updatedAt(card.getUpdatedAt())
+                .reviewedBy(card.getReviewedBy())
+                .reviewedAt(card.getReviewedAt())
+                .version(card.getVersion())
+                .build();
+    }
+
     @Transactional
-    public void moveBoardItem(Long sprintId, Long backlogItemId, ProductBacklogItem.BoardColumn targetColumn) {
+    public BacklogItemDto moveBoardItem(Long sprintId, Long backlogItemId, ProductBacklogItem.BoardColumn targetColumn,
+                                        Long expectedVersion) {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found"));
 
@@ -458,6 +435,7 @@ public class SprintService {
 
         ProductBacklogItem item = backlogItemRepository.findById(backlogItemId)
                 .orElseThrow(() -> new RuntimeException("Backlog item not found"));
+        VersionCheck.require(ProductBacklogItem.class, backlogItemId, expectedVersion, item.getVersion());
 
         // Verify item is in this sprint
         boolean itemInSprint = sprintBacklogItemRepository.findBySprintId(sprintId)
@@ -480,6 +458,25 @@ public class SprintService {
 
 
 
-        backlogItemRepository.save(item);
+        // Flushed so a concurrent move fails here and the returned version is the one just written
+        item = backlogItemRepository.saveAndFlush(item);
+        projectRevisionService.bump(sprint.getProjectId());
+
+        // Publish board move event; open boards pick it up from the backlog item topic
+        BacklogItemEvent event = BacklogItemEvent.builder()
+                .itemId(item.getId())
+                .projectId(item.getProjectId())
+                .sprintId(sprintId)
+                .title(item.getTitle())
+                .type(item.getType().name())
+                .status(item.getStatus().name())
+                .storyPoints(item.getStoryPoints())
+                .boardColumn(targetColumn.name())
+                .action("MOVED")
+                .timestamp(Instant.now())
+                .build();
+        eventPublisher.publishBacklogItemEvent(event);
+
+        return BacklogItemDto.fromEntity(item);
     }
 }
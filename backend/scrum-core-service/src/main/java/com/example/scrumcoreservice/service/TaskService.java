@@ -4,6 +4,7 @@ import com.example.scrumcoreservice.dto.TaskDto;
 import com.example.scrumcoreservice.entity.ProductBacklogItem;
 import com.example.scrumcoreservice.entity.Task;
 import com.example.scrumcoreservice.events.TaskEvent;
+import com.example.scrumcoreservice.exception.VersionCheck;
 import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
 import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
 import com.example.scrumcoreservice.repository.TaskRepository;
@@ -27,6 +28,7 @@ public class TaskService {
     private final ProductBacklogItemRepository backlogItemRepository;
     private final SprintBacklogItemRepository sprintBacklogItemRepository;
     private final EventPublisher eventPublisher;
+    private final ProjectRevisionService projectRevisionService;
 
     @Transactional
     public TaskDto createTask(Long backlogItemId, String title, String description) {
@@ -41,6 +43,7 @@ public class TaskService {
                 .build();
 
         task = taskRepository.save(task);
+        projectRevisionService.bump(backlogItem.getProjectId());
 
         // Get sprint ID from sprint_backlog_items table
         Long sprintId = sprintBacklogItemRepository.findSprintIdByBacklogItemId(backlogItemId).orElse(null);
@@ -62,6 +65,7 @@ public class TaskService {
         return TaskDto.fromEntity(task);
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasksByBacklogItem(Long backlogItemId) {
         return taskRepository.findByBacklogItemId(backlogItemId)
                 .stream()
@@ -69,6 +73,7 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasksBySprint(Long sprintId) {
         return taskRepository.findBySprintId(sprintId)
                 .stream()
@@ -76,6 +81,7 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public TaskDto getTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
@@ -83,9 +89,10 @@ public class TaskService {
     }
 
     @Transactional
-    public TaskDto updateTaskStatus(Long id, Task.TaskStatus newStatus) {
+    public TaskDto updateTaskStatus(Long id, Task.TaskStatus newStatus, Long expectedVersion) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
+        VersionCheck.require(Task.class, id, expectedVersion, task.getVersion());
 
         UserPrincipal principal = getCurrentUser();
 
@@ -100,7 +107,8 @@ public class TaskService {
             task.setCompletedAt(LocalDateTime.now());
         }
 
-        task = taskRepository.save(task);
+        task = taskRepository.saveAndFlush(task);
+        projectRevisionService.bump(task.getBacklogItem().getProjectId());
 
         // Get sprint ID from sprint_backlog_items table
         Long sprintId = sprintBacklogItemRepository.findSprintIdByBacklogItemId(task.getBacklogItem().getId()).orElse(null);
@@ -138,7 +146,8 @@ public class TaskService {
         }
 
         task.setAssigneeId(assigneeId);
-        task = taskRepository.save(task);
+        task = taskRepository.saveAndFlush(task);
+        projectRevisionService.bump(task.getBacklogItem().getProjectId());
 
         // Get sprint ID from sprint_backlog_items table
         Long sprintId = sprintBacklogItemRepository.findSprintIdByBacklogItemId(task.getBacklogItem().getId()).orElse(null);
@@ -174,7 +183,8 @@ public class TaskService {
         }
 
         task.setAssigneeId(null);
-        task = taskRepository.save(task);
+        task = taskRepository.saveAndFlush(task);
+        projectRevisionService.bump(task.getBacklogItem().getProjectId());
 
         // Get sprint ID from sprint_backlog_items table
         Long sprintId = sprintBacklogItemRepository.findSprintIdByBacklogItemId(task.getBacklogItem().getId()).orElse(null);
@@ -209,6 +219,7 @@ public class TaskService {
         }
 
         taskRepository.deleteById(id);
+        projectRevisionService.bump(task.getBacklogItem().getProjectId());
     }
 
     private UserPrincipal getCurrentUser() {
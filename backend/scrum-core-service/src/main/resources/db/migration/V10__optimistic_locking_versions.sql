@@ -0,0 +1,10 @@
+-- ============================================
+-- Optimistic locking versions
+-- ============================================
+-- Incremented by every write to the row (JPA @Version and the bulk status
+-- updates). Writes compare it with the version the client read and fail with
+-- 409 instead of overwriting a concurrent change. Backlog position changes do
+-- not count as a new version, so reordering never conflicts with edits.
+ALTER TABLE product_backlog_items ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE sprints ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
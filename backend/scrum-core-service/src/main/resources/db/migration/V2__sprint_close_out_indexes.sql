@@ -0,0 +1,10 @@
+-- ============================================
+-- Sprint close-out indexes
+-- ============================================
+-- endSprint counts the remaining BACKLOG items of a project for burndown reporting.
+-- A composite index keeps that count an index-only lookup instead of intersecting
+-- the separate project_id and status indexes.
+CREATE INDEX idx_backlog_project_status ON product_backlog_items(project_id, status);
+
+-- Sprint close-out bulk statements look up sprint entries by backlog item.
+CREATE INDEX idx_sprint_backlog_item ON sprint_backlog_items(backlog_item_id);
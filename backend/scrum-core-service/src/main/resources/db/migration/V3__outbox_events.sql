@@ -0,0 +1,23 @@
+-- ============================================
+-- Transactional outbox for Kafka domain events
+-- ============================================
+-- Events are inserted in the same transaction as the state change that
+-- produced them and relayed to Kafka by a background job. Rows are deleted
+-- once the broker acknowledges them; rows that exhaust their retries are
+-- kept with status FAILED for inspection.
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_outbox_status CHECK (status IN ('PENDING', 'FAILED'))
+);
+
+-- The relay drains pending rows in insertion order
+CREATE INDEX idx_outbox_pending ON outbox_events(id) WHERE status = 'PENDING';
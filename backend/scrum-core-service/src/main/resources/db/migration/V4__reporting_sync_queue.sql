@@ -0,0 +1,20 @@
+-- ============================================
+-- Durable queue for reporting-service sync calls
+-- ============================================
+-- A row is written in the same transaction that completes the sprint and is
+-- delivered after commit. Failed deliveries stay here with a backoff until
+-- they succeed or exhaust their retries (status FAILED).
+CREATE TABLE reporting_sync_queue (
+    id BIGSERIAL PRIMARY KEY,
+    sprint_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_reporting_sync_status CHECK (status IN ('PENDING', 'FAILED'))
+);
+
+CREATE INDEX idx_reporting_sync_due ON reporting_sync_queue(available_at) WHERE status = 'PENDING';
@@ -0,0 +1,15 @@
+-- ============================================
+-- Per-project revision counter for conditional GETs
+-- ============================================
+-- Bumped once by every transaction that changes a project's backlog, sprints,
+-- board, tasks or approvals. Read endpoints serve it as their ETag, so a poll
+-- with a matching If-None-Match costs one primary-key lookup. Values come from
+-- a shared sequence so a project never reuses an ETag, even after its row is
+-- recreated.
+CREATE SEQUENCE project_revision_seq;
+
+CREATE TABLE project_revisions (
+    project_id BIGINT PRIMARY KEY,
+    revision BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
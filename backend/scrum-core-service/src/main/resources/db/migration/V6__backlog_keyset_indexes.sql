@@ -0,0 +1,21 @@
+-- ============================================
+-- Keyset pagination indexes for the project backlog
+-- ============================================
+-- The paged backlog walks a project in (position, id) order and resumes after
+-- the last row of the previous page. Each filter that is an equality on a
+-- leading column gets its own composite index ending in (position, id), so a
+-- page is a bounded index range scan however large the project is.
+CREATE INDEX idx_backlog_project_position_id ON product_backlog_items(project_id, position, id);
+CREATE INDEX idx_backlog_project_status_position ON product_backlog_items(project_id, status, position, id);
+CREATE INDEX idx_backlog_project_type_position ON product_backlog_items(project_id, type, position, id);
+
+-- "Unassigned" means no task of the item has an assignee; only assigned tasks are indexed.
+CREATE INDEX idx_tasks_backlog_item_assigned ON tasks(backlog_item_id) WHERE assignee_id IS NOT NULL;
+
+-- Superseded by the composites above (same leading columns), and the two
+-- project_id indexes duplicated each other. Dropping them saves a write per
+-- index on every backlog change.
+DROP INDEX IF EXISTS idx_backlog_project;
+DROP INDEX IF EXISTS idx_backlog_project_id;
+DROP INDEX IF EXISTS idx_backlog_position;
+DROP INDEX IF EXISTS idx_backlog_project_status;
@@ -0,0 +1,14 @@
+-- ============================================
+-- Sparse backlog positions
+-- ============================================
+-- Positions were dense (0, 1, 2, ...), so moving one item renumbered every
+-- item after it. They are now spaced 1024 apart: a move takes the midpoint
+-- of its new neighbours and writes a single row, and only a project whose
+-- gaps have run out is re-spaced.
+UPDATE product_backlog_items p
+SET position = r.rn * 1024
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY project_id ORDER BY position, id) AS rn
+    FROM product_backlog_items
+) r
+WHERE p.id = r.id;
@@ -0,0 +1,209 @@
+-- ============================================
+-- Full-text search over backlog items, tasks and retrospectives
+-- ============================================
+-- One row per searchable thing, kept current by triggers on the source
+-- tables, so a project search is a single ranked GIN index scan instead of
+-- a union over three tables (retrospective text lives in child tables).
+-- Weights: A = title, B = description / notes, C = acceptance criteria /
+-- retrospective items.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE TABLE search_documents (
+    doc_type VARCHAR(20) NOT NULL, -- BACKLOG_ITEM, TASK, RETROSPECTIVE
+    doc_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    parent_id BIGINT, -- backlog item of a task, sprint of a retrospective
+    title TEXT NOT NULL,
+    body TEXT,
+    search_vector TSVECTOR NOT NULL,
+    PRIMARY KEY (doc_type, doc_id)
+);
+
+-- project_id in the GIN index (btree_gin) so the project filter and the
+-- text match are answered by the same index
+CREATE INDEX idx_search_documents_project_vector ON search_documents USING GIN (project_id, search_vector);
+
+CREATE FUNCTION search_documents_put(p_type TEXT, p_id BIGINT, p_project_id BIGINT, p_parent_id BIGINT,
+                                     p_title TEXT, p_body TEXT, p_extra TEXT) RETURNS void AS $$
+BEGIN
+    IF p_project_id IS NULL THEN
+        DELETE FROM search_documents WHERE doc_type = p_type AND doc_id = p_id;
+        RETURN;
+    END IF;
+    INSERT INTO search_documents (doc_type, doc_id, project_id, parent_id, title, body, search_vector)
+    VALUES (p_type, p_id, p_project_id, p_parent_id, coalesce(p_title, ''),
+            nullif(concat_ws(E'\n', nullif(p_body, ''), nullif(p_extra, '')), ''),
+            setweight(to_tsvector('english', coalesce(p_title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(p_body, '')), 'B') ||
+            setweight(to_tsvector('english', coalesce(p_extra, '')), 'C'))
+    ON CONFLICT (doc_type, doc_id) DO UPDATE
+        SET project_id = EXCLUDED.project_id,
+            parent_id = EXCLUDED.parent_id,
+            title = EXCLUDED.title,
+            body = EXCLUDED.body,
+            search_vector = EXCLUDED.search_vector;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backlog items -------------------------------------------------------------
+CREATE FUNCTION search_documents_backlog_item() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM search_documents WHERE doc_type = 'BACKLOG_ITEM' AND doc_id = OLD.id;
+        RETURN OLD;
+    END IF;
+    PERFORM search_documents_put('BACKLOG_ITEM', NEW.id, NEW.project_id, NULL,
+                                 NEW.title, NEW.description, NEW.acceptance_criteria);
+    IF TG_OP = 'UPDATE' AND OLD.project_id IS DISTINCT FROM NEW.project_id THEN
+        UPDATE search_documents SET project_id = NEW.project_id
+        WHERE doc_type = 'TASK' AND parent_id = NEW.id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_search_backlog_item_insert
+    AFTER INSERT ON product_backlog_items
+    FOR EACH ROW EXECUTE FUNCTION search_documents_backlog_item();
+
+-- Entity saves rewrite every column, so only real text changes re-index
+CREATE TRIGGER trg_search_backlog_item_update
+    AFTER UPDATE ON product_backlog_items
+    FOR EACH ROW
+    WHEN (OLD.title IS DISTINCT FROM NEW.title
+          OR OLD.description IS DISTINCT FROM NEW.description
+          OR OLD.acceptance_criteria IS DISTINCT FROM NEW.acceptance_criteria
+          OR OLD.project_id IS DISTINCT FROM NEW.project_id)
+    EXECUTE FUNCTION search_documents_backlog_item();
+
+CREATE TRIGGER trg_search_backlog_item_delete
+    AFTER DELETE ON product_backlog_items
+    FOR EACH ROW EXECUTE FUNCTION search_documents_backlog_item();
+
+-- Tasks ---------------------------------------------------------------------
+CREATE FUNCTION search_documents_task() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM search_documents WHERE doc_type = 'TASK' AND doc_id = OLD.id;
+        RETURN OLD;
+    END IF;
+    PERFORM search_documents_put('TASK', NEW.id,
+                                 (SELECT project_id FROM product_backlog_items WHERE id = NEW.backlog_item_id),
+                                 NEW.backlog_item_id, NEW.title, NEW.description, NULL);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_search_task_insert
+    AFTER INSERT ON tasks
+    FOR EACH ROW EXECUTE FUNCTION search_documents_task();
+
+CREATE TRIGGER trg_search_task_update
+    AFTER UPDATE ON tasks
+    FOR EACH ROW
+    WHEN (OLD.title IS DISTINCT FROM NEW.title
+          OR OLD.description IS DISTINCT FROM NEW.description
+          OR OLD.backlog_item_id IS DISTINCT FROM NEW.backlog_item_id)
+    EXECUTE FUNCTION search_documents_task();
+
+CREATE TRIGGER trg_search_task_delete
+    AFTER DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION search_documents_task();
+
+-- Retrospectives ------------------------------------------------------------
+-- A retrospective is one document: the notes plus every went-well,
+-- improvement and action item, rebuilt whenever any of them changes.
+CREATE FUNCTION search_documents_refresh_retrospective(p_retrospective_id BIGINT) RETURNS void AS $$
+DECLARE
+    retro RECORD;
+BEGIN
+    SELECT r.id, r.sprint_id, r.overall_notes, s.project_id, s.name
+    INTO retro
+    FROM sprint_retrospectives r JOIN sprints s ON s.id = r.sprint_id
+    WHERE r.id = p_retrospective_id;
+
+    IF NOT FOUND THEN
+        DELETE FROM search_documents WHERE doc_type = 'RETROSPECTIVE' AND doc_id = p_retrospective_id;
+        RETURN;
+    END IF;
+
+    PERFORM search_documents_put('RETROSPECTIVE', retro.id, retro.project_id, retro.sprint_id,
+        retro.name || ' retrospective',
+        retro.overall_notes,
+        (SELECT string_agg(item, E'\n') FROM (
+             SELECT item FROM retrospective_went_well WHERE retrospective_id = retro.id
+             UNION ALL
+             SELECT item FROM retrospective_improvements WHERE retrospective_id = retro.id
+             UNION ALL
+             SELECT item FROM retrospective_action_items WHERE retrospective_id = retro.id) items));
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION search_documents_retrospective() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM search_documents WHERE doc_type = 'RETROSPECTIVE' AND doc_id = OLD.id;
+        RETURN OLD;
+    END IF;
+    PERFORM search_documents_refresh_retrospective(NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_search_retrospective_insert
+    AFTER INSERT ON sprint_retrospectives
+    FOR EACH ROW EXECUTE FUNCTION search_documents_retrospective();
+
+CREATE TRIGGER trg_search_retrospective_update
+    AFTER UPDATE ON sprint_retrospectives
+    FOR EACH ROW
+    WHEN (OLD.overall_notes IS DISTINCT FROM NEW.overall_notes OR OLD.sprint_id IS DISTINCT FROM NEW.sprint_id)
+    EXECUTE FUNCTION search_documents_retrospective();
+
+CREATE TRIGGER trg_search_retrospective_delete
+    AFTER DELETE ON sprint_retrospectives
+    FOR EACH ROW EXECUTE FUNCTION search_documents_retrospective();
+
+CREATE FUNCTION search_documents_retrospective_item() RETURNS trigger AS $$
+BEGIN
+    PERFORM search_documents_refresh_retrospective(
+        CASE WHEN TG_OP = 'DELETE' THEN OLD.retrospective_id ELSE NEW.retrospective_id END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_search_went_well
+    AFTER INSERT OR UPDATE OR DELETE ON retrospective_went_well
+    FOR EACH ROW EXECUTE FUNCTION search_documents_retrospective_item();
+
+CREATE TRIGGER trg_search_improvements
+    AFTER INSERT OR UPDATE OR DELETE ON retrospective_improvements
+    FOR EACH ROW EXECUTE FUNCTION search_documents_retrospective_item();
+
+CREATE TRIGGER trg_search_action_items
+    AFTER INSERT OR UPDATE OR DELETE ON retrospective_action_items
+    FOR EACH ROW EXECUTE FUNCTION search_documents_retrospective_item();
+
+-- Retrospective titles carry the sprint name
+CREATE FUNCTION search_documents_sprint() RETURNS trigger AS $$
+BEGIN
+    PERFORM search_documents_refresh_retrospective(r.id)
+    FROM sprint_retrospectives r WHERE r.sprint_id = NEW.id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_search_sprint_update
+    AFTER UPDATE ON sprints
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name OR OLD.project_id IS DISTINCT FROM NEW.project_id)
+    EXECUTE FUNCTION search_documents_sprint();
+
+-- Backfill ------------------------------------------------------------------
+SELECT search_documents_put('BACKLOG_ITEM', id, project_id, NULL, title, description, acceptance_criteria)
+FROM product_backlog_items;
+
+SELECT search_documents_put('TASK', t.id, p.project_id, t.backlog_item_id, t.title, t.description, NULL)
+FROM tasks t JOIN product_backlog_items p ON p.id = t.backlog_item_id;
+
+SELECT search_documents_refresh_retrospective(id) FROM sprint_retrospectives;
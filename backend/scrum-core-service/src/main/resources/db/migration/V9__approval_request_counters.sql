@@ -0,0 +1,53 @@
+-- ============================================
+-- Aggregate row per approval request
+-- ============================================
+-- One row per (backlog item, sprint) approval request holding how many
+-- responses are still pending, approved and rejected. Each response moves
+-- one counter to another in the same statement that records it, so whether
+-- the request is complete is read from a single row instead of counting
+-- backlog_item_approvals after every response.
+CREATE TABLE backlog_item_approval_requests (
+    backlog_item_id BIGINT NOT NULL,
+    sprint_id BIGINT NOT NULL,
+    pending_count INTEGER NOT NULL,
+    approved_count INTEGER NOT NULL DEFAULT 0,
+    rejected_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (backlog_item_id, sprint_id),
+
+    CONSTRAINT fk_approval_request_backlog_item
+        FOREIGN KEY (backlog_item_id)
+        REFERENCES product_backlog_items(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_approval_request_sprint
+        FOREIGN KEY (sprint_id)
+        REFERENCES sprints(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT chk_approval_request_counts
+        CHECK (pending_count >= 0 AND approved_count >= 0 AND rejected_count >= 0)
+);
+
+CREATE INDEX idx_approval_request_sprint ON backlog_item_approval_requests(sprint_id);
+
+INSERT INTO backlog_item_approval_requests
+    (backlog_item_id, sprint_id, pending_count, approved_count, rejected_count, created_at, updated_at)
+SELECT backlog_item_id,
+       sprint_id,
+       COUNT(*) FILTER (WHERE status = 'PENDING'),
+       COUNT(*) FILTER (WHERE status = 'APPROVED'),
+       COUNT(*) FILTER (WHERE status = 'REJECTED'),
+       COALESCE(MIN(requested_at), CURRENT_TIMESTAMP),
+       COALESCE(MAX(responded_at), MIN(requested_at), CURRENT_TIMESTAMP)
+FROM backlog_item_approvals
+GROUP BY backlog_item_id, sprint_id;
+
+-- The primary key (backlog_item_id, sprint_id, developer_id) already serves
+-- lookups by item and sprint; the extra index only added write contention
+DROP INDEX IF EXISTS idx_approval_item_sprint;
+
+COMMENT ON TABLE backlog_item_approval_requests IS
+    'Response counters of a backlog item approval request for a sprint. Updated in the same statement as each backlog_item_approvals response.';
@@ -0,0 +1,60 @@
+package com.example.scrumcoreservice.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReplicaCacheModeListenerTest {
+
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final Session session = mock(Session.class);
+    private final TransactionExecution transaction = mock(TransactionExecution.class);
+
+    private final ReplicaCacheModeListener listener = new ReplicaCacheModeListener(entityManagerFactory);
+
+    @BeforeEach
+    void bindEntityManager() {
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+    }
+
+    @AfterEach
+    void unbindEntityManager() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+    }
+
+    @Test
+    void testAfterBegin_ReadOnlyTransactionOnlyReadsTheCache() {
+        // Arrange
+        when(transaction.isReadOnly()).thenReturn(true);
+
+        // Act
+        listener.afterBegin(transaction, null);
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    void testAfterBegin_ReadWriteTransactionKeepsFillingTheCache() {
+        // Arrange
+        when(transaction.isReadOnly()).thenReturn(false);
+
+        // Act
+        listener.afterBegin(transaction, null);
+
+        // Assert
+        verify(session, never()).setCacheMode(any());
+    }
+}
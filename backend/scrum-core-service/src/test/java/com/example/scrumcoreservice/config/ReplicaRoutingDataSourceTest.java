@@ -0,0 +1,80 @@
+package com.example.scrumcoreservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final HikariDataSource primary = mock(HikariDataSource.class);
+    private final HikariDataSource replica = mock(HikariDataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replica, 1000);
+
+    @AfterEach
+    void clearTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testGetConnection_ReadOnlyTransactionUsesReplicaUntilItLags() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        ResultSet lag = replicaReportsLag(200);
+        routingDataSource.checkReplica();
+
+        // Act & Assert
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replicaConnection, routingDataSource.getConnection());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertSame(primaryConnection, routingDataSource.getConnection());
+
+        when(lag.getLong(1)).thenReturn(5000L);
+        routingDataSource.checkReplica();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertEquals(5000L, routingDataSource.getReplicaLagMs());
+    }
+
+    @Test
+    void testGetConnection_FallsBackToPrimaryWhenReplicaRefusesConnections() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        replicaReportsLag(0);
+        routingDataSource.checkReplica();
+        reset(replica);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertFalse(routingDataSource.isReplicaAvailable());
+    }
+
+    private ResultSet replicaReportsLag(long lagMs) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lagMs);
+        return resultSet;
+    }
+}
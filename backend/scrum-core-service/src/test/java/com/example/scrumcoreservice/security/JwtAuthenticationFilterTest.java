@@ -0,0 +1,138 @@
+package com.example.scrumcoreservice.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "testSecretKeyThatIsLongEnoughForHS256Algorithm";
+
+    private JwtUtil jwtUtil;
+    private VerifiedPrincipalCache cache;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil realJwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(realJwtUtil, "secret", SECRET);
+        realJwtUtil.init();
+        jwtUtil = spy(realJwtUtil);
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedPrincipalCache(100, meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtUtil, cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testRepeatedToken_ShouldParseOnceAndServeFromCache() throws Exception {
+        // Arrange
+        String token = token(3_600_000L);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = authenticate(token);
+            assertEquals(200, response.getStatus());
+            UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext()
+                    .getAuthentication().getPrincipal();
+            assertEquals(7L, principal.getUserId());
+            assertEquals("dev@example.com", principal.getEmail());
+            assertEquals(List.of(10L, 20L), principal.getProjectIds());
+            assertTrue(principal.getAuthorities().stream()
+                    .anyMatch(a -> a.getAuthority().equals("ROLE_DEVELOPER")));
+            SecurityContextHolder.clearContext();
+        }
+
+        // Assert
+        verify(jwtUtil, times(1)).extractAllClaims(anyString());
+        assertEquals(4.0, meterRegistry.get("jwt.principal.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.principal.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void testExpiredToken_ShouldReturnTokenExpired() throws Exception {
+        // Arrange
+        String token = token(-60_000L);
+
+        // Act
+        MockHttpServletResponse response = authenticate(token);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Token expired"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testTamperedToken_ShouldReturnInvalidToken() throws Exception {
+        // Arrange
+        String token = token(3_600_000L) + "x";
+
+        // Act
+        MockHttpServletResponse response = authenticate(token);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Invalid token"));
+    }
+
+    @Test
+    void testCache_ShouldStayBounded() {
+        // Arrange
+        VerifiedPrincipalCache smallCache = new VerifiedPrincipalCache(10, new SimpleMeterRegistry());
+        UserPrincipal principal = new UserPrincipal(1L, "a@example.com", List.of(), List.of(), List.of(), List.of());
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            smallCache.put("digest-" + i, principal, new Date(System.currentTimeMillis() + 60_000L).toInstant());
+        }
+
+        // Assert
+        assertTrue(smallCache.size() <= 10);
+    }
+
+    private MockHttpServletResponse authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sprints/1/board");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private String token(long ttlMillis) {
+        return Jwts.builder()
+                .claims(Map.of(
+                        "userId", 7L,
+                        "roles", List.of("DEVELOPER"),
+                        "teamIds", List.of(1),
+                        "projectIds", List.of(10, 20)))
+                .subject("dev@example.com")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + ttlMillis))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.ApprovalInboxPageDto;
+import com.example.scrumcoreservice.entity.BacklogItemApproval;
+import com.example.scrumcoreservice.entity.BacklogItemApprovalRequest;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.entity.Sprint;
+import com.example.scrumcoreservice.entity.SprintBacklogItem;
+import com.example.scrumcoreservice.repository.BacklogItemApprovalRepository;
+import com.example.scrumcoreservice.repository.BacklogItemApprovalRequestRepository;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalServiceTest {
+
+    @Mock
+    private BacklogItemApprovalRepository approvalRepository;
+
+    @Mock
+    private BacklogItemApprovalRequestRepository approvalRequestRepository;
+
+    @Mock
+    private ProductBacklogItemRepository backlogItemRepository;
+
+    @Mock
+    private SprintRepository sprintRepository;
+
+    @Mock
+    private SprintBacklogItemRepository sprintBacklogItemRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private ProjectRevisionService projectRevisionService;
+
+    @Mock
+    private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+    @InjectMocks
+    private ApprovalService approvalService;
+
+    private ProductBacklogItem item;
+    private Sprint sprint;
+
+    @BeforeEach
+    void setUp() {
+        item = ProductBacklogItem.builder()
+                .id(100L)
+                .projectId(10L)
+                .title("Login page")
+                .storyPoints(5)
+                .status(ProductBacklogItem.ItemStatus.PENDING_APPROVAL)
+                .createdBy(5L)
+                .build();
+        sprint = Sprint.builder()
+                .id(1L)
+                .projectId(10L)
+                .name("Sprint 1")
+                .status(Sprint.SprintStatus.PLANNED)
+                .build();
+    }
+
+    @Test
+    void testApproveSprintItem_LastApprovalAddsItemToSprintWithoutCounting() {
+        // Arrange
+        stubResponse("APPROVED", null, new Counts(0, 3, 0));
+        stubItemAndSprint();
+
+        // Act
+        approvalService.approveSprintItem(100L, 1L, 7L);
+
+        // Assert
+        ArgumentCaptor<SprintBacklogItem> captor = ArgumentCaptor.forClass(SprintBacklogItem.class);
+        verify(sprintBacklogItemRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getSprintId());
+        assertEquals(5, captor.getValue().getCommittedPoints());
+        assertEquals(ProductBacklogItem.ItemStatus.IN_SPRINT, item.getStatus());
+        verify(backlogItemRepository, times(1)).findById(100L);
+        verify(sprintRepository, times(1)).findById(1L);
+        verifyNoInteractions(approvalRepository);
+    }
+
+    @Test
+    void testApproveSprintItem_PendingResponsesLeaveItemAwaitingApproval() {
+        // Arrange
+        stubResponse("APPROVED", null, new Counts(2, 1, 0));
+        stubItemAndSprint();
+
+        // Act
+        approvalService.approveSprintItem(100L, 1L, 7L);
+
+        // Assert
+        verify(sprintBacklogItemRepository, never()).save(any());
+        assertEquals(ProductBacklogItem.ItemStatus.PENDING_APPROVAL, item.getStatus());
+    }
+
+    @Test
+    void testApproveSprintItem_AlreadyRespondedThrows() {
+        // Arrange
+        when(approvalRequestRepository.respond(eq(100L), eq(1L), eq(7L), eq("APPROVED"), isNull(), any()))
+                .thenReturn(Optional.empty());
+        when(approvalRepository.findByBacklogItemIdAndSprintIdAndDeveloperId(100L, 1L, 7L))
+                .thenReturn(Optional.of(BacklogItemApproval.builder()
+                        .backlogItemId(100L).sprintId(1L).developerId(7L)
+                        .status(BacklogItemApproval.ApprovalStatus.APPROVED)
+                        .build()));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> approvalService.approveSprintItem(100L, 1L, 7L));
+        assertEquals("Approval has already been responded to", exception.getMessage());
+        verify(sprintBacklogItemRepository, never()).save(any());
+    }
+
+    @Test
+    void testRejectSprintItem_ClearsRequestInBulk() {
+        // Arrange
+        stubResponse("REJECTED", "Too big", new Counts(1, 0, 1));
+        stubItemAndSprint();
+
+        // Act
+        approvalService.rejectSprintItem(100L, 1L, 7L, "Too big");
+
+        // Assert
+        assertEquals(ProductBacklogItem.ItemStatus.BACKLOG, item.getStatus());
+        verify(approvalRepository).deleteByBacklogItemIdAndSprintId(100L, 1L);
+        verify(approvalRequestRepository).deleteByBacklogItemIdAndSprintId(100L, 1L);
+    }
+
+    @Test
+    void testCancelApprovalsForSprint_UsesBulkStatements() {
+        // Arrange
+        when(backlogItemRepository.updatePendingApprovalItemsForSprint(eq(1L),
+                eq(ProductBacklogItem.ItemStatus.PENDING_APPROVAL), eq(ProductBacklogItem.ItemStatus.BACKLOG), any()))
+                .thenReturn(4);
+        when(sprintRepository.findProjectIdById(1L)).thenReturn(Optional.of(10L));
+        when(approvalRepository.deleteBySprintId(1L)).thenReturn(40);
+
+        // Act
+        approvalService.cancelApprovalsForSprint(1L);
+
+        // Assert
+        verify(approvalRequestRepository).deleteBySprintId(1L);
+        verify(cacheInvalidationBroadcaster).entitiesChanged(ProductBacklogItem.class);
+        verify(projectRevisionService).bump(10L);
+        verify(approvalRepository, never()).findBySprintId(any());
+        verify(approvalRepository, never()).delete(any());
+        verify(backlogItemRepository, never()).findById(any());
+    }
+
+    @Test
+    void testAreAllApprovalsComplete_ReadsCounters() {
+        // Arrange
+        BacklogItemApprovalRequest.BacklogItemApprovalRequestId id =
+                new BacklogItemApprovalRequest.BacklogItemApprovalRequestId(100L, 1L);
+        when(approvalRequestRepository.findById(id)).thenReturn(Optional.of(BacklogItemApprovalRequest.builder()
+                .backlogItemId(100L).sprintId(1L).pendingCount(1).approvedCount(2)
+                .build()));
+
+        // Act & Assert
+        assertFalse(approvalService.areAllApprovalsComplete(100L, 1L));
+        verifyNoInteractions(approvalRepository);
+    }
+
+    @Test
+    void testGetPendingInbox_PagesWithCursorAndTotal() {
+        // Arrange
+        LocalDateTime requestedAt = LocalDateTime.of(2026, 1, 5, 9, 0);
+        when(approvalRepository.findPendingInbox(7L, Limit.of(3))).thenReturn(List.of(
+                new Inbox(100L, requestedAt), new Inbox(101L, requestedAt), new Inbox(102L, requestedAt)));
+        when(approvalRepository.countPendingForDeveloper(7L)).thenReturn(5L);
+
+        // Act
+        ApprovalInboxPageDto page = approvalService.getPendingInbox(7L, null, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals("Login page", page.getItems().get(0).getTitle());
+        assertEquals("Sprint 1", page.getItems().get(0).getSprintName());
+        assertEquals(5L, page.getTotal());
+        assertTrue(page.isHasMore());
+        String[] keyset = ApprovalService.decodeInboxCursor(page.getNextCursor());
+        assertEquals(requestedAt, LocalDateTime.parse(keyset[0]));
+        assertEquals("101", keyset[1]);
+        assertEquals("1", keyset[2]);
+    }
+
+    @Test
+    void testGetPendingInbox_ResumesAfterCursor() {
+        // Arrange
+        LocalDateTime requestedAt = LocalDateTime.of(2026, 1, 5, 9, 0, 30, 125_000);
+        String cursor = ApprovalService.encodeInboxCursor(requestedAt, 101L, 1L);
+        when(approvalRepository.findPendingInboxAfter(7L, requestedAt, 101L, 1L, Limit.of(21)))
+                .thenReturn(List.of(new Inbox(102L, requestedAt)));
+
+        // Act
+        ApprovalInboxPageDto page = approvalService.getPendingInbox(7L, cursor, null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetPendingInbox_RejectsMalformedCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> approvalService.getPendingInbox(7L, "not-a-cursor", null));
+        verifyNoInteractions(approvalRepository);
+    }
+
+    private void stubResponse(String status, String reason, Counts counts) {
+        when(approvalRequestRepository.respond(eq(100L), eq(1L), eq(7L), eq(status),
+                reason == null ? isNull() : eq(reason), any()))
+                .thenReturn(Optional.of(counts));
+    }
+
+    private void stubItemAndSprint() {
+        when(backlogItemRepository.findById(100L)).thenReturn(Optional.of(item));
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(sprint));
+    }
+
+    private record Counts(int pending, int approved, int rejected)
+            implements BacklogItemApprovalRequestRepository.ApprovalResponse {
+
+        @Override
+        public LocalDateTime getRequestedAt() {
+            return LocalDateTime.of(2026, 1, 5, 9, 0);
+        }
+
+        @Override
+        public LocalDateTime getRespondedAt() {
+            return LocalDateTime.of(2026, 1, 5, 10, 0);
+        }
+
+        @Override
+        public int getPendingCount() {
+            return pending;
+        }
+
+        @Override
+        public int getApprovedCount() {
+            return approved;
+        }
+
+        @Override
+        public int getRejectedCount() {
+            return rejected;
+        }
+    }
+
+    private record Inbox(Long backlogItemId, LocalDateTime requestedAt)
+            implements BacklogItemApprovalRepository.InboxEntry {
+
+        @Override
+        public Long getBacklogItemId() {
+            return backlogItemId;
+        }
+
+        @Override
+        public Long getSprintId() {
+            return 1L;
+        }
+
+        @Override
+        public Long getProjectId() {
+            return 10L;
+        }
+
+        @Override
+        public String getTitle() {
+            return "Login page";
+        }
+
+        @Override
+        public ProductBacklogItem.ItemType getType() {
+            return ProductBacklogItem.ItemType.STORY;
+        }
+
+        @Override
+        public Integer getStoryPoints() {
+            return 5;
+        }
+
+        @Override
+        public Integer getPriority() {
+            return 1;
+        }
+
+        @Override
+        public String getSprintName() {
+            return "Sprint 1";
+        }
+
+        @Override
+        public LocalDate getSprintStartDate() {
+            return LocalDate.of(2026, 1, 12);
+        }
+
+        @Override
+        public Long getRequestedBy() {
+            return 5L;
+        }
+
+        @Override
+        public String getRequestedByRole() {
+            return "DEVELOPER";
+        }
+
+        @Override
+        public LocalDateTime getRequestedAt() {
+            return requestedAt;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BacklogImportResultDto;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BacklogImportServiceTest {
+
+    private final ProductBacklogItemRepository backlogItemRepository = mock(ProductBacklogItemRepository.class);
+    private final ProjectRevisionService projectRevisionService = mock(ProjectRevisionService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final BacklogImportService backlogImportService = new BacklogImportService(
+            backlogItemRepository, projectRevisionService, mock(CacheInvalidationBroadcaster.class), jdbcTemplate, mock(PlatformTransactionManager.class), 2, 10);
+
+    @Test
+    void testImportBacklogItems_SkipsBadRowsAndAppendsTheRestInBatches() throws Exception {
+        // Arrange
+        when(backlogItemRepository.findMaxPositionByProjectId(10L)).thenReturn(2048, 4096);
+        String ndjson = """
+                {"title": "Login page", "type": "story", "story_points": 3}
+                {"title": "Broken"
+                {"title": "No type"}
+                {"title": "Export", "type": "EPIC", "priority": "high"}
+
+                {"title": "Fix crash", "type": "BUG"}
+                {"title": "Audit log", "type": "TECHNICAL_TASK"}
+                """;
+
+        // Act
+        BacklogImportResultDto result = backlogImportService.importBacklogItems(
+                10L, stream(ndjson), MediaType.parseMediaType("application/x-ndjson"), 5L, "PRODUCT_OWNER");
+
+        // Assert
+        assertEquals(3, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(2L, 3L, 4L), result.getErrors().stream().map(BacklogImportResultDto.RowErrorDto::getRow).toList());
+        assertEquals("Type is required", result.getErrors().get(1).getMessage());
+
+        ArgumentCaptor<BatchPreparedStatementSetter> batches = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        assertEquals(2, batches.getAllValues().get(0).getBatchSize());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        batches.getAllValues().get(0).setValues(statement, 1);
+        verify(statement).setString(2, "Fix crash");
+        verify(statement).setInt(7, 2048 + 2 * BacklogService.RANK_GAP);
+        verify(backlogItemRepository, times(2)).lockRanking(BacklogService.RANK_LOCK_NAMESPACE, 10L);
+        verify(projectRevisionService, times(2)).bump(10L);
+    }
+
+    @Test
+    void testImportBacklogItems_ReadsQuotedCsvFields() throws Exception {
+        // Arrange
+        String csv = "Title,Type,Description,Story Points\r\n" +
+                     "\"Search, with filters\",STORY,\"Supports \"\"exact\"\" matches\nand prefixes\",5\r\n" +
+                     "Too,many,columns,1,2\r\n";
+
+        // Act
+        BacklogImportResultDto result = backlogImportService.importBacklogItems(
+                10L, stream(csv), MediaType.parseMediaType("text/csv"), 5L, "PRODUCT_OWNER");
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        ArgumentCaptor<BatchPreparedStatementSetter> batch = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        batch.getValue().setValues(statement, 0);
+        verify(statement).setString(2, "Search, with filters");
+        verify(statement).setString(3, "Supports \"exact\" matches\nand prefixes");
+        verify(statement).setObject(eq(5), eq(5), anyInt());
+        verify(statement).setInt(7, BacklogService.RANK_GAP);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BacklogItemDto;
+import com.example.scrumcoreservice.dto.BacklogItemFilter;
+import com.example.scrumcoreservice.dto.BacklogItemSummaryDto;
+import com.example.scrumcoreservice.dto.BacklogPageDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BacklogServiceTest {
+
+    @Mock
+    private ProductBacklogItemRepository backlogItemRepository;
+
+    @Mock
+    private ProjectRevisionService projectRevisionService;
+
+    @Mock
+    private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @InjectMocks
+    private BacklogService backlogService;
+
+    @Test
+    void testGetProjectBacklogPage_ResumesAfterCursorOfLastRow() {
+        // Arrange
+        BacklogItemFilter filter = BacklogItemFilter.builder().build();
+        when(backlogItemRepository.findBacklogPage(10L, filter, null, null, 3)).thenReturn(rows(1, 3));
+        when(backlogItemRepository.findBacklogPage(10L, filter, 2, 2L, 3)).thenReturn(rows(3, 1));
+
+        // Act
+        BacklogPageDto first = backlogService.getProjectBacklogPage(10L, filter, null, 2);
+        BacklogPageDto second = backlogService.getProjectBacklogPage(10L, filter, first.getNextCursor(), 2);
+
+        // Assert
+        assertTrue(first.isHasMore());
+        assertEquals(List.of(1L, 2L), first.getItems().stream().map(BacklogItemSummaryDto::getId).toList());
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+        assertEquals(List.of(3L), second.getItems().stream().map(BacklogItemSummaryDto::getId).toList());
+    }
+
+    @Test
+    void testGetProjectBacklogPage_CapsPageSizeAndRejectsBadCursor() {
+        // Arrange
+        BacklogItemFilter filter = BacklogItemFilter.builder().build();
+        when(backlogItemRepository.findBacklogPage(eq(10L), eq(filter), any(), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        backlogService.getProjectBacklogPage(10L, filter, null, 10_000);
+
+        // Assert
+        verify(backlogItemRepository).findBacklogPage(10L, filter, null, null, BacklogService.MAX_PAGE_SIZE + 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> backlogService.getProjectBacklogPage(10L, filter, "not-a-cursor", 10));
+    }
+
+    @Test
+    void testMoveBacklogItem_WritesOnlyTheMovedItemAtTheMidpoint() {
+        // Arrange
+        when(backlogItemRepository.findRankById(3L)).thenReturn(Optional.of(rank(3L, 3072)));
+        when(backlogItemRepository.findRankById(1L)).thenReturn(Optional.of(rank(1L, 1024)));
+        when(backlogItemRepository.findRankById(2L)).thenReturn(Optional.of(rank(2L, 2048)));
+
+        // Act
+        backlogService.moveBacklogItem(3L, 1L, 2L);
+
+        // Assert
+        verify(backlogItemRepository).lockRanking(BacklogService.RANK_LOCK_NAMESPACE, 10L);
+        verify(backlogItemRepository).updatePosition(eq(3L), eq(1536), any());
+        verify(backlogItemRepository, never()).rebalancePositions(anyLong(), anyInt());
+        verify(cacheInvalidationBroadcaster).entityChanged(ProductBacklogItem.class, 3L);
+        verify(cacheInvalidationBroadcaster, never()).entitiesChanged(any());
+        verify(projectRevisionService).bump(10L);
+    }
+
+    @Test
+    void testReorderBacklog_UpdatesOnlyItemsThatLeftTheirOrder() {
+        // Arrange
+        when(backlogItemRepository.findRanksByProjectId(10L)).thenReturn(
+                List.of(rank(1L, 1024), rank(2L, 2048), rank(3L, 3072), rank(4L, 4096)));
+
+        // Act
+        backlogService.reorderBacklog(10L, List.of(1L, 4L, 2L, 3L));
+
+        // Assert
+        verify(backlogItemRepository).updatePosition(eq(4L), eq(1536), any());
+        verify(backlogItemRepository, times(1)).updatePosition(anyLong(), anyInt(), any());
+        verify(cacheInvalidationBroadcaster).entityChanged(ProductBacklogItem.class, 4L);
+        verify(cacheInvalidationBroadcaster, never()).entitiesChanged(any());
+        verify(projectRevisionService).bump(10L);
+    }
+
+    @Test
+    void testAcceptBacklogItem_StaleVersionIsRejectedWithoutWriting() {
+        // Arrange
+        when(backlogItemRepository.findById(5L)).thenReturn(Optional.of(doneItem(4L)));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> backlogService.acceptBacklogItem(5L, 2L, 3L));
+        verify(backlogItemRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(projectRevisionService, eventPublisher);
+    }
+
+    @Test
+    void testAcceptBacklogItem_MatchingVersionReturnsFlushedVersion() {
+        // Arrange
+        when(backlogItemRepository.findById(5L)).thenReturn(Optional.of(doneItem(4L)));
+        when(backlogItemRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            ProductBacklogItem saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() + 1);
+            return saved;
+        });
+
+        // Act
+        BacklogItemDto result = backlogService.acceptBacklogItem(5L, 2L, 4L);
+
+        // Assert
+        assertEquals("ACCEPTED", result.getStatus());
+        assertEquals(5L, result.getVersion());
+        verify(projectRevisionService).bump(10L);
+    }
+
+    private static ProductBacklogItemRepository.BacklogRank rank(Long id, int position) {
+        return new ProductBacklogItemRepository.BacklogRank() {
+            public Long getId() { return id; }
+            public Long getProjectId() { return 10L; }
+            public Integer getPosition() { return position; }
+        };
+    }
+
+    private static ProductBacklogItem doneItem(Long version) {
+        return ProductBacklogItem.builder()
+                .id(5L)
+                .projectId(10L)
+                .title("Checkout")
+                .type(ProductBacklogItem.ItemType.STORY)
+                .status(ProductBacklogItem.ItemStatus.DONE)
+                .version(version)
+                .build();
+    }
+
+    private static List<BacklogItemSummaryDto> rows(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> BacklogItemSummaryDto.builder().id(id).position((int) id).build())
+                .toList();
+    }
+}
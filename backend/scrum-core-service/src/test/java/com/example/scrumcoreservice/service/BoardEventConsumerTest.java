@@ -0,0 +1,45 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BoardDelta;
+import com.example.scrumcoreservice.entity.OutboxEvent;
+import com.example.scrumcoreservice.events.BacklogItemEvent;
+import com.example.scrumcoreservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoardEventConsumerTest {
+
+    @Test
+    void testToDelta_BoardMoveFromOutboxPayload() throws Exception {
+        // Arrange
+        BacklogItemEvent event = BacklogItemEvent.builder()
+                .itemId(7L).projectId(10L).sprintId(1L).title("Login page").type("STORY")
+                .status("DONE").storyPoints(5).boardColumn("DONE").action("MOVED")
+                .timestamp(Instant.parse("2026-01-05T10:15:30Z"))
+                .build();
+        OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+        new EventPublisher(outboxEventRepository).publishBacklogItemEvent(event);
+        ArgumentCaptor<OutboxEvent> outbox = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(outbox.capture());
+        String payload = outbox.getValue().getPayload();
+
+        // Act
+        BoardDelta delta = BoardEventConsumer.toDelta(EventPublisher.BACKLOG_TOPIC, new ObjectMapper().readTree(payload));
+
+        // Assert
+        assertEquals("item", delta.getType());
+        assertEquals(10L, delta.getProjectId());
+        assertEquals(1L, delta.getSprintId());
+        assertEquals(7L, delta.getItemId());
+        assertEquals("DONE", delta.getBoardColumn());
+        assertEquals("MOVED", delta.getAction());
+        assertEquals(5, delta.getStoryPoints());
+        assertNull(delta.getTaskId());
+    }
+}
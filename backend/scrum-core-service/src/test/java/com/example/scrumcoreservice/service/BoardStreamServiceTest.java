@@ -0,0 +1,107 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BoardDelta;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoardStreamServiceTest {
+
+    private final SprintRepository sprintRepository = mock(SprintRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch clientStalled = new CountDownLatch(1);
+    private final Map<SseEmitter, List<Object>> sent = new ConcurrentHashMap<>();
+    private volatile boolean slowClient;
+
+    private final BoardStreamService boardStreamService =
+            new BoardStreamService(sprintRepository, meterRegistry, 2, 60_000, 60_000) {
+                @Override
+                SseEmitter createEmitter() {
+                    List<Object> events = new CopyOnWriteArrayList<>();
+                    SseEmitter emitter = new SseEmitter() {
+                        @Override
+                        public void send(SseEventBuilder builder) {
+                            if (slowClient) {
+                                try {
+                                    clientStalled.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                            builder.build().stream()
+                                    .map(SseEmitter.DataWithMediaType::getData)
+                                    .filter(BoardDelta.class::isInstance)
+                                    .forEach(events::add);
+                        }
+                    };
+                    sent.put(emitter, events);
+                    return emitter;
+                }
+            };
+
+    @AfterEach
+    void tearDown() {
+        clientStalled.countDown();
+        boardStreamService.shutdown();
+    }
+
+    @Test
+    void testPublish_RoutesSprintDeltasToThatSprintOnly() throws InterruptedException {
+        // Arrange
+        when(sprintRepository.findProjectIdById(1L)).thenReturn(Optional.of(10L));
+        when(sprintRepository.findProjectIdById(2L)).thenReturn(Optional.of(10L));
+        SseEmitter sprintOne = boardStreamService.subscribe(1L);
+        SseEmitter sprintTwo = boardStreamService.subscribe(2L);
+        BoardDelta move = BoardDelta.builder().type("item").projectId(10L).sprintId(1L).itemId(7L).build();
+        BoardDelta update = BoardDelta.builder().type("item").projectId(10L).itemId(8L).build();
+        BoardDelta otherProject = BoardDelta.builder().type("item").projectId(11L).itemId(9L).build();
+
+        // Act
+        boardStreamService.publish(move);
+        boardStreamService.publish(update);
+        boardStreamService.publish(otherProject);
+
+        // Assert
+        awaitSize(sent.get(sprintOne), 2);
+        awaitSize(sent.get(sprintTwo), 1);
+        assertEquals(List.of(move, update), sent.get(sprintOne));
+        assertEquals(List.of(update), sent.get(sprintTwo));
+    }
+
+    @Test
+    void testPublish_EvictsClientThatFallsBehind() {
+        // Arrange
+        slowClient = true;
+        when(sprintRepository.findProjectIdById(1L)).thenReturn(Optional.of(10L));
+        boardStreamService.subscribe(1L);
+
+        // Act
+        for (long itemId = 1; itemId <= 5; itemId++) {
+            boardStreamService.publish(BoardDelta.builder().type("item").projectId(10L).sprintId(1L).itemId(itemId).build());
+        }
+
+        // Assert
+        assertEquals(0, boardStreamService.connectionCount());
+        assertEquals(1.0, meterRegistry.get("board.stream.evicted").counter().count());
+    }
+
+    private static void awaitSize(List<Object> events, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (events.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
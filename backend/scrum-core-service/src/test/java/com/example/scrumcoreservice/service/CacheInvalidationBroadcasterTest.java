@@ -0,0 +1,100 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.entity.Sprint;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidationBroadcasterTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+    private final CacheImplementor cache = mock(CacheImplementor.class);
+
+    private CacheInvalidationBroadcaster broadcaster() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(mock(MappingMetamodelImplementor.class));
+        return new CacheInvalidationBroadcaster(kafkaTemplate, entityManagerFactory, new SimpleMeterRegistry(), true);
+    }
+
+    @Test
+    void testEntityChanged_PublishesOneMessagePerTransactionAfterCommit() {
+        // Arrange
+        CacheInvalidationBroadcaster broadcaster = broadcaster();
+        when(kafkaTemplate.send(anyString(), anyString())).thenReturn(new CompletableFuture<>());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            broadcaster.entityChanged(Sprint.class.getName(), 1L);
+            broadcaster.entityChanged(Sprint.class.getName(), 2L);
+            broadcaster.entitiesChanged(ProductBacklogItem.class);
+            verifyNoInteractions(kafkaTemplate);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verify(kafkaTemplate).send(eq(CacheInvalidationBroadcaster.TOPIC), argThat(payload ->
+                payload.contains("\"" + Sprint.class.getName() + "\":[1,2]")
+                        && payload.contains("\"regions\":[\"" + ProductBacklogItem.class.getName() + "\"]")));
+        assertNull(TransactionSynchronizationManager.getResource(broadcaster));
+    }
+
+    @Test
+    void testEvict_DropsEntriesAndDependentQueryRegions() {
+        // Arrange
+        CacheInvalidationBroadcaster broadcaster = broadcaster();
+        CacheInvalidationBroadcaster.Invalidation invalidation = new CacheInvalidationBroadcaster.Invalidation(
+                "other-replica", Map.of(Sprint.class.getName(), Set.of(4L)), Set.of(ProductBacklogItem.class.getName()));
+
+        // Act
+        broadcaster.evict(invalidation);
+
+        // Assert
+        verify(cache).evictEntityData(Sprint.class.getName(), 4L);
+        verify(cache).evictEntityData(ProductBacklogItem.class.getName());
+        verify(cache).evictQueryRegion(SprintRepository.ACTIVE_SPRINT_REGION);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void testOnInvalidation_IgnoresOwnMessages() {
+        // Arrange
+        CacheInvalidationBroadcaster broadcaster = broadcaster();
+        when(kafkaTemplate.send(anyString(), anyString())).thenReturn(new CompletableFuture<>());
+        broadcaster.entityChanged(Sprint.class.getName(), 1L); // no transaction: published at once
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(kafkaTemplate).send(eq(CacheInvalidationBroadcaster.TOPIC), payload.capture());
+
+        // Act
+        broadcaster.onInvalidation(payload.getValue());
+
+        // Assert - Hibernate already evicted locally
+        verifyNoInteractions(cache);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.entity.OutboxEvent;
+import com.example.scrumcoreservice.events.SprintEvent;
+import com.example.scrumcoreservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventPublisherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private EventPublisher eventPublisher;
+
+    @Test
+    void testPublishSprintEvent_WritesOutboxRowIdenticalToKafkaPayload() {
+        // Arrange
+        SprintEvent event = SprintEvent.builder()
+                .sprintId(4L)
+                .projectId(10L)
+                .sprintName("Sprint 4")
+                .status("ACTIVE")
+                .startDate(LocalDate.of(2026, 1, 5))
+                .committedPoints(21)
+                .action("STARTED")
+                .timestamp(Instant.parse("2026-01-05T09:00:00Z"))
+                .build();
+        // Byte-for-byte what the producer's former JsonSerializer wrote
+        String expected = "{\"sprintId\":4,\"projectId\":10,\"teamId\":null,\"sprintName\":\"Sprint 4\","
+                + "\"sprintGoal\":null,\"status\":\"ACTIVE\",\"startDate\":[2026,1,5],\"endDate\":null,"
+                + "\"committedPoints\":21,\"completedPoints\":null,\"velocity\":null,\"storiesCompleted\":null,"
+                + "\"action\":\"STARTED\",\"timestamp\":1767603600.000000000,\"performedBy\":null}";
+
+        // Act
+        eventPublisher.publishSprintEvent(event);
+
+        // Assert
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        assertEquals("scrum.sprint", saved.getValue().getTopic());
+        assertEquals("4", saved.getValue().getMessageKey());
+        assertEquals(expected, saved.getValue().getPayload());
+        assertEquals(OutboxEvent.OutboxStatus.PENDING, saved.getValue().getStatus());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.NotificationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Mock
+    private HttpResponse<String> response;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testOffer_DropOldestKeepsNewestWhenFull() throws Exception {
+        // Arrange
+        NotificationDispatcher dispatcher = dispatcher(2, NotificationDispatcher.OverflowPolicy.DROP_OLDEST);
+
+        // Act
+        dispatcher.offer(notification(1L, 100L));
+        dispatcher.offer(notification(2L, 100L));
+        dispatcher.offer(notification(3L, 100L));
+
+        // Assert
+        assertEquals(2, dispatcher.queueDepth());
+        List<NotificationRequest> batch = dispatcher.nextBatch();
+        assertEquals(List.of(2L, 3L), batch.stream().map(NotificationRequest::getRecipientId).toList());
+        assertEquals(1.0, meterRegistry.get("notification.dropped").tag("reason", "overflow").counter().count());
+    }
+
+    @Test
+    void testOffer_DropNewestKeepsQueuedNotifications() throws Exception {
+        // Arrange
+        NotificationDispatcher dispatcher = dispatcher(2, NotificationDispatcher.OverflowPolicy.DROP_NEWEST);
+
+        // Act
+        dispatcher.offer(notification(1L, 100L));
+        dispatcher.offer(notification(2L, 100L));
+        dispatcher.offer(notification(3L, 100L));
+
+        // Assert
+        List<NotificationRequest> batch = dispatcher.nextBatch();
+        assertEquals(List.of(1L, 2L), batch.stream().map(NotificationRequest::getRecipientId).toList());
+    }
+
+    @Test
+    void testNextBatch_CoalescesPerRecipient() throws Exception {
+        // Arrange
+        NotificationDispatcher dispatcher = dispatcher(10, NotificationDispatcher.OverflowPolicy.DROP_OLDEST);
+        dispatcher.offer(notification(1L, 100L));
+        dispatcher.offer(notification(2L, 100L));
+        dispatcher.offer(notification(1L, 100L));
+        dispatcher.offer(notification(1L, 101L));
+
+        // Act
+        List<NotificationRequest> batch = dispatcher.nextBatch();
+
+        // Assert
+        assertEquals(3, batch.size());
+        assertEquals(List.of(1L, 1L, 2L), batch.stream().map(NotificationRequest::getRecipientId).toList());
+        assertEquals(1.0, meterRegistry.get("notification.coalesced").counter().count());
+    }
+
+    @Test
+    void testSendWithRetry_RetriesThenDeliversWholeBatchInOneRequest() throws Exception {
+        // Arrange
+        NotificationDispatcher dispatcher = dispatcher(10, NotificationDispatcher.OverflowPolicy.DROP_OLDEST);
+        when(response.statusCode()).thenReturn(201);
+        when(httpClient.send(any(HttpRequest.class), anyBodyHandler()))
+                .thenThrow(new IOException("Connection refused"))
+                .thenReturn(response);
+
+        // Act
+        dispatcher.sendWithRetry(List.of(notification(1L, 100L), notification(2L, 100L)));
+
+        // Assert
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(2)).send(request.capture(), anyBodyHandler());
+        assertEquals("http://collaboration-service:3000/notifications/batch", request.getValue().uri().toString());
+        assertEquals(1, meterRegistry.get("notification.send").tag("outcome", "success").timer().count());
+        assertEquals(0.0, meterRegistry.get("notification.dropped").tag("reason", "failed").counter().count());
+    }
+
+    @Test
+    void testSendWithRetry_DropsBatchRejectedByCollaborationService() throws Exception {
+        // Arrange
+        NotificationDispatcher dispatcher = dispatcher(10, NotificationDispatcher.OverflowPolicy.DROP_OLDEST);
+        when(response.statusCode()).thenReturn(400);
+        when(httpClient.send(any(HttpRequest.class), anyBodyHandler())).thenReturn(response);
+
+        // Act
+        dispatcher.sendWithRetry(List.of(notification(1L, 100L)));
+
+        // Assert
+        verify(httpClient, times(1)).send(any(HttpRequest.class), anyBodyHandler());
+        assertEquals(1.0, meterRegistry.get("notification.dropped").tag("reason", "failed").counter().count());
+    }
+
+    private NotificationDispatcher dispatcher(int capacity, NotificationDispatcher.OverflowPolicy policy) {
+        return new NotificationDispatcher(httpClient, meterRegistry, "http://collaboration-service:3000/",
+                capacity, policy, 50, 0, 3, 1, 1000);
+    }
+
+    private static NotificationRequest notification(Long recipientId, Long entityId) {
+        return NotificationRequest.builder()
+                .recipientId(recipientId)
+                .type("BACKLOG_ITEM_APPROVED")
+                .payload(NotificationRequest.Payload.builder()
+                        .title("Backlog Item Approved")
+                        .message("Your backlog item was approved")
+                        .entityType("BACKLOG_ITEM")
+                        .entityId(entityId)
+                        .build())
+                .build();
+    }
+
+    private static HttpResponse.BodyHandler<String> anyBodyHandler() {
+        return any();
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.entity.OutboxEvent;
+import com.example.scrumcoreservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, kafkaTemplate, transactionManager,
+                new SimpleMeterRegistry(), 100, 3, 1000);
+        when(outboxEventRepository.tryRelayLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+    }
+
+    @Test
+    void testRelayBatch_DeliversInOrderAndDeletesSentRows() {
+        // Arrange
+        OutboxEvent first = event(1L, "7");
+        OutboxEvent second = event(2L, "7");
+        when(outboxEventRepository.findRelayBatch(100)).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(acked());
+
+        // Act
+        int delivered = relay.relayBatch();
+
+        // Assert
+        assertEquals(2, delivered);
+        var inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send("scrum.sprint", "7", "{\"n\":1}");
+        inOrder.verify(kafkaTemplate).send("scrum.sprint", "7", "{\"n\":2}");
+        verify(outboxEventRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    void testRelayBatch_FailureHoldsBackLaterEventsWithSameKey() {
+        // Arrange
+        OutboxEvent failing = event(1L, "7");
+        OutboxEvent sameKey = event(2L, "7");
+        OutboxEvent otherKey = event(3L, "8");
+        when(outboxEventRepository.findRelayBatch(100)).thenReturn(List.of(failing, sameKey, otherKey));
+        when(kafkaTemplate.send("scrum.sprint", "7", "{\"n\":1}"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaTemplate.send("scrum.sprint", "8", "{\"n\":3}")).thenReturn(acked());
+
+        // Act
+        int delivered = relay.relayBatch();
+
+        // Assert
+        assertEquals(1, delivered);
+        verify(outboxEventRepository).deleteAllInBatch(List.of(otherKey));
+        assertEquals(1, failing.getAttempts());
+        assertEquals(OutboxEvent.OutboxStatus.PENDING, failing.getStatus());
+        assertTrue(failing.getAvailableAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, sameKey.getAttempts());
+        verify(kafkaTemplate, never()).send("scrum.sprint", "7", "{\"n\":2}");
+    }
+
+    @Test
+    void testRelayBatch_SendsNextEventOfKeyOnlyAfterAcknowledgement() {
+        // Arrange
+        OutboxEvent first = event(1L, "7");
+        OutboxEvent second = event(2L, "7");
+        OutboxEvent otherKey = event(3L, "8");
+        when(outboxEventRepository.findRelayBatch(100)).thenReturn(List.of(first, second, otherKey));
+        CompletableFuture<SendResult<String, String>> firstAck = new CompletableFuture<>();
+        when(kafkaTemplate.send("scrum.sprint", "7", "{\"n\":1}")).thenAnswer(inv -> {
+            // Acknowledged only after the relay has moved on to the other key
+            CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> firstAck.complete(null));
+            return firstAck;
+        });
+        when(kafkaTemplate.send("scrum.sprint", "7", "{\"n\":2}")).thenAnswer(inv -> {
+            assertTrue(firstAck.isDone(), "second event sent before the first was acknowledged");
+            return acked();
+        });
+        when(kafkaTemplate.send("scrum.sprint", "8", "{\"n\":3}")).thenReturn(acked());
+
+        // Act
+        int delivered = relay.relayBatch();
+
+        // Assert
+        assertEquals(3, delivered);
+        var inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send("scrum.sprint", "7", "{\"n\":1}");
+        inOrder.verify(kafkaTemplate).send("scrum.sprint", "8", "{\"n\":3}");
+        inOrder.verify(kafkaTemplate).send("scrum.sprint", "7", "{\"n\":2}");
+    }
+
+    @Test
+    void testRelayBatch_BackingOffEventBlocksItsKey() {
+        // Arrange
+        OutboxEvent backingOff = event(1L, "7");
+        backingOff.setAvailableAt(LocalDateTime.now().plusMinutes(1));
+        OutboxEvent sameKey = event(2L, "7");
+        when(outboxEventRepository.findRelayBatch(100)).thenReturn(List.of(backingOff, sameKey));
+
+        // Act
+        int delivered = relay.relayBatch();
+
+        // Assert
+        assertEquals(0, delivered);
+        verifyNoInteractions(kafkaTemplate);
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void testRelayBatch_ParksEventAfterMaxAttempts() {
+        // Arrange
+        OutboxEvent poison = event(1L, "7");
+        poison.setAttempts(2);
+        when(outboxEventRepository.findRelayBatch(100)).thenReturn(List.of(poison));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("record too large")));
+
+        // Act
+        relay.relayBatch();
+
+        // Assert
+        assertEquals(OutboxEvent.OutboxStatus.FAILED, poison.getStatus());
+        assertEquals(3, poison.getAttempts());
+        assertTrue(poison.getLastError().contains("record too large"));
+    }
+
+    @Test
+    void testRelayBatch_SkipsWhenAnotherReplicaHoldsTheLock() {
+        // Arrange
+        when(outboxEventRepository.tryRelayLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(false);
+
+        // Act
+        int delivered = relay.relayBatch();
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(outboxEventRepository, never()).findRelayBatch(anyInt());
+    }
+
+    private static OutboxEvent event(Long id, String key) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("scrum.sprint")
+                .messageKey(key)
+                .payload("{\"n\":" + id + "}")
+                .availableAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private static CompletableFuture<SendResult<String, String>> acked() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
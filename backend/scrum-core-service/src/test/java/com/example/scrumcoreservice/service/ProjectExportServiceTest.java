@@ -0,0 +1,76 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.entity.Sprint;
+import com.example.scrumcoreservice.entity.SprintBacklogItem;
+import com.example.scrumcoreservice.entity.Task;
+import com.example.scrumcoreservice.repository.ImpedimentRepository;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import com.example.scrumcoreservice.repository.SprintRetrospectiveRepository;
+import com.example.scrumcoreservice.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectExportServiceTest {
+
+    private final ProductBacklogItemRepository backlogItemRepository = mock(ProductBacklogItemRepository.class);
+    private final SprintRepository sprintRepository = mock(SprintRepository.class);
+    private final SprintBacklogItemRepository sprintBacklogItemRepository = mock(SprintBacklogItemRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ImpedimentRepository impedimentRepository = mock(ImpedimentRepository.class);
+    private final SprintRetrospectiveRepository retrospectiveRepository = mock(SprintRetrospectiveRepository.class);
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private final ProjectExportService projectExportService = new ProjectExportService(
+            backlogItemRepository, sprintRepository, sprintBacklogItemRepository, taskRepository,
+            impedimentRepository, retrospectiveRepository, mock(EntityManager.class), jsonMapper,
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void testExportProject_WritesOneLinePerRowAndClosesCursors() {
+        // Arrange
+        ProductBacklogItem item = ProductBacklogItem.builder().id(7L).projectId(10L).title("Login page")
+                .type(ProductBacklogItem.ItemType.STORY).position(1024).createdBy(5L).build();
+        Sprint sprint = Sprint.builder().id(1L).projectId(10L).name("Sprint 1").build();
+        SprintBacklogItem membership = SprintBacklogItem.builder().sprintId(1L).backlogItemId(7L)
+                .addedAt(LocalDateTime.of(2026, 1, 5, 10, 0)).build();
+        Task task = Task.builder().id(3L).backlogItem(item).title("Form").build();
+        AtomicBoolean backlogCursorClosed = new AtomicBoolean();
+        when(backlogItemRepository.streamByProjectId(10L))
+                .thenReturn(Stream.of(item).onClose(() -> backlogCursorClosed.set(true)));
+        when(sprintRepository.streamByProjectId(10L)).thenReturn(Stream.of(sprint));
+        when(sprintBacklogItemRepository.streamByProjectId(10L)).thenReturn(Stream.of(membership));
+        when(taskRepository.streamByProjectId(10L)).thenReturn(Stream.of(task));
+        when(impedimentRepository.streamByProjectId(10L)).thenReturn(Stream.empty());
+        when(retrospectiveRepository.streamByProjectId(10L)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        projectExportService.exportProject(10L, out);
+
+        // Assert
+        List<JsonNode> lines = out.toString(StandardCharsets.UTF_8).lines().map(jsonMapper::readTree).toList();
+        assertEquals(List.of("project", "backlogItem", "sprint", "sprintItem", "task"),
+                lines.stream().map(line -> line.get("type").asString()).toList());
+        assertEquals(10L, lines.get(0).get("data").get("projectId").asLong());
+        assertEquals("Login page", lines.get(1).get("data").get("title").asString());
+        assertEquals("2026-01-05T10:00:00", lines.get(3).get("data").get("addedAt").asString());
+        assertEquals(7L, lines.get(4).get("data").get("backlogItemId").asLong());
+        assertTrue(backlogCursorClosed.get());
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.ImpedimentDto;
+import com.example.scrumcoreservice.dto.ProjectOverviewDto;
+import com.example.scrumcoreservice.dto.SprintDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.repository.BacklogItemApprovalRepository;
+import com.example.scrumcoreservice.repository.BacklogItemApprovalRequestRepository;
+import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectOverviewServiceTest {
+
+    @Mock
+    private SprintService sprintService;
+
+    @Mock
+    private ImpedimentService impedimentService;
+
+    @Mock
+    private SprintBacklogItemRepository sprintBacklogItemRepository;
+
+    @Mock
+    private BacklogItemApprovalRepository approvalRepository;
+
+    @Mock
+    private BacklogItemApprovalRequestRepository approvalRequestRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectOverviewService overviewService;
+
+    @BeforeEach
+    void setUp() {
+        overviewService = new ProjectOverviewService(sprintService, impedimentService, sprintBacklogItemRepository,
+                approvalRepository, approvalRequestRepository, transactionManager, 500, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        overviewService.shutdown();
+    }
+
+    @Test
+    void testGetOverview_ReadsActiveSprintSectionsForItsId() {
+        // Arrange
+        when(sprintService.getActiveSprint(10L)).thenReturn(SprintDto.builder().id(1L).name("Sprint 1").build());
+        when(sprintService.getProjectSprints(10L)).thenReturn(List.of(SprintDto.builder().id(1L).build()));
+        when(approvalRepository.countPendingForDeveloper(7L)).thenReturn(2L);
+        when(sprintBacklogItemRepository.countBoardColumns(1L)).thenReturn(List.of(
+                new Count(null, 1, 2),
+                new Count(ProductBacklogItem.BoardColumn.TO_DO, 2, 5),
+                new Count(ProductBacklogItem.BoardColumn.DONE, 3, 8)));
+        when(impedimentService.getOpenImpediments(1L)).thenReturn(List.of(ImpedimentDto.builder().id(4L).build()));
+        when(approvalRequestRepository.countBySprintIdAndPendingCountGreaterThan(1L, 0)).thenReturn(1L);
+
+        // Act
+        ProjectOverviewDto overview = overviewService.getOverview(10L, 7L);
+
+        // Assert
+        assertTrue(overview.getDegraded().isEmpty());
+        assertEquals("Sprint 1", overview.getActiveSprint().getName());
+        assertEquals(1, overview.getSprints().size());
+        assertEquals(3, overview.getBoard().getToDo().getItems());
+        assertEquals(7, overview.getBoard().getToDo().getStoryPoints());
+        assertEquals(0, overview.getBoard().getInProgress().getItems());
+        assertEquals(3, overview.getBoard().getDone().getItems());
+        assertEquals(1, overview.getOpenImpediments().size());
+        assertEquals(1L, overview.getApprovals().getSprintItemsPending());
+        assertEquals(2L, overview.getApprovals().getAwaitingMyResponse());
+    }
+
+    @Test
+    void testGetOverview_SlowSectionIsDegradedWithoutHoldingBackOthers() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(sprintService.getActiveSprint(10L)).thenReturn(SprintDto.builder().id(1L).build());
+        when(sprintService.getProjectSprints(10L)).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(sprintBacklogItemRepository.countBoardColumns(1L)).thenReturn(List.of());
+        when(impedimentService.getOpenImpediments(1L)).thenReturn(List.of());
+
+        // Act
+        long started = System.nanoTime();
+        ProjectOverviewDto overview = overviewService.getOverview(10L, 7L);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+        // Assert
+        assertEquals(List.of(ProjectOverviewService.SPRINTS), overview.getDegraded());
+        assertNull(overview.getSprints());
+        assertNotNull(overview.getActiveSprint());
+        assertNotNull(overview.getBoard());
+        assertTrue(elapsedMs < 2_000, "overview waited " + elapsedMs + " ms");
+    }
+
+    @Test
+    void testGetOverview_SectionPastDeadlineIsNotInterrupted() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+        when(sprintService.getProjectSprints(10L)).thenAnswer(inv -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+                interrupted.complete(false);
+            } catch (InterruptedException e) {
+                interrupted.complete(true);
+            }
+            return List.of();
+        });
+
+        // Act
+        ProjectOverviewDto overview = overviewService.getOverview(10L, 7L);
+        release.countDown();
+
+        // Assert
+        assertEquals(List.of(ProjectOverviewService.SPRINTS), overview.getDegraded());
+        assertFalse(interrupted.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testGetOverview_SectionsRunInReadOnlyTransactionsEndingAtTheDeadline() {
+        // Arrange
+        when(sprintService.getProjectSprints(10L)).thenReturn(List.of());
+
+        // Act
+        overviewService.getOverview(10L, 7L);
+
+        // Assert
+        ArgumentCaptor<TransactionDefinition> transactions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(3)).getTransaction(transactions.capture());
+        for (TransactionDefinition transaction : transactions.getAllValues()) {
+            assertTrue(transaction.isReadOnly());
+            // 500 ms section timeout, rounded up to the transaction timeout's whole seconds
+            assertEquals(1, transaction.getTimeout());
+        }
+    }
+
+    @Test
+    void testGetOverview_FailedActiveSprintDegradesItsSections() {
+        // Arrange
+        when(sprintService.getActiveSprint(10L)).thenThrow(new RuntimeException("replica unavailable"));
+        when(sprintService.getProjectSprints(10L)).thenReturn(List.of());
+
+        // Act
+        ProjectOverviewDto overview = overviewService.getOverview(10L, 7L);
+
+        // Assert
+        assertEquals(List.of(ProjectOverviewService.ACTIVE_SPRINT, ProjectOverviewService.BOARD,
+                ProjectOverviewService.OPEN_IMPEDIMENTS, ProjectOverviewService.SPRINT_APPROVALS),
+                overview.getDegraded());
+        assertEquals(0L, overview.getApprovals().getAwaitingMyResponse());
+        verify(sprintBacklogItemRepository, never()).countBoardColumns(anyLong());
+    }
+
+    @Test
+    void testGetOverview_NoActiveSprintIsNotDegraded() {
+        // Arrange
+        when(sprintService.getProjectSprints(10L)).thenReturn(List.of());
+
+        // Act
+        ProjectOverviewDto overview = overviewService.getOverview(10L, 7L);
+
+        // Assert
+        assertTrue(overview.getDegraded().isEmpty());
+        assertNull(overview.getActiveSprint());
+        assertNull(overview.getBoard());
+        verifyNoInteractions(sprintBacklogItemRepository, impedimentService, approvalRequestRepository);
+    }
+
+    private record Count(ProductBacklogItem.BoardColumn boardColumn, long itemCount, long storyPoints)
+            implements SprintBacklogItemRepository.BoardColumnCount {
+
+        @Override
+        public ProductBacklogItem.BoardColumn getBoardColumn() {
+            return boardColumn;
+        }
+
+        @Override
+        public long getItemCount() {
+            return itemCount;
+        }
+
+        @Override
+        public long getStoryPoints() {
+            return storyPoints;
+        }
+    }
+}
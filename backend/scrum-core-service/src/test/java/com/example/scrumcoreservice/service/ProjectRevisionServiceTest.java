@@ -0,0 +1,151 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.repository.ProjectRevisionRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectRevisionServiceTest {
+
+    @Mock
+    private ProjectRevisionRepository projectRevisionRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private ProjectRevisionService projectRevisionService;
+
+    @BeforeEach
+    void setUp() {
+        // Built by hand: a Session is also an EntityManager, so @InjectMocks could pass either one
+        projectRevisionService = new ProjectRevisionService(projectRevisionRepository, entityManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testBump_OncePerProjectJustBeforeCommitAfterFlush() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        projectRevisionService.bump(7L);
+        projectRevisionService.bump(3L);
+        projectRevisionService.bump(7L);
+
+        // Assert
+        verifyNoInteractions(projectRevisionRepository);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        InOrder inOrder = inOrder(projectRevisionRepository);
+        inOrder.verify(projectRevisionRepository).flush();
+        inOrder.verify(projectRevisionRepository).bump(3L);
+        inOrder.verify(projectRevisionRepository).bump(7L);
+        verify(projectRevisionRepository, times(2)).bump(anyLong());
+        assertFalse(TransactionSynchronizationManager.hasResource(projectRevisionService));
+    }
+
+    @Test
+    void testBump_WithoutTransactionWritesImmediately() {
+        // Act
+        projectRevisionService.bump(7L);
+
+        // Assert
+        verify(projectRevisionRepository).bump(7L);
+    }
+
+    @Test
+    void testReadWithProjectETag_UnwrittenProjectStartsAtZero() {
+        // Arrange
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(projectRevisionRepository.findRevision(7L)).thenReturn(Optional.empty());
+        when(projectRevisionRepository.findRevision(8L)).thenReturn(Optional.of(42L));
+
+        // Act & Assert
+        assertEquals("\"7-0\"", projectRevisionService.readWithProjectETag(7L, Function.identity()));
+        assertEquals("\"8-42\"", projectRevisionService.readWithProjectETag(8L, Function.identity()));
+    }
+
+    @Test
+    void testReadWithSprintETag_ReadsRevisionBeforeBody() {
+        // Arrange
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(projectRevisionRepository.findSprintRevision(3L)).thenReturn(Optional.of(sprintRevision(8L, 42L)));
+        when(projectRevisionRepository.findSprintRevision(4L)).thenReturn(Optional.empty());
+        List<String> reads = new ArrayList<>();
+
+        // Act
+        String board = projectRevisionService.readWithSprintETag(3L, eTag -> {
+            verify(projectRevisionRepository).findSprintRevision(3L);
+            reads.add(eTag);
+            return "board";
+        });
+        projectRevisionService.readWithSprintETag(4L, reads::add);
+
+        // Assert
+        assertEquals("board", board);
+        assertEquals(Arrays.asList("\"8-42\"", null), reads);
+    }
+
+    @Test
+    void testReadWithProjectETag_BodyIsNotReadFromTheSecondLevelCache() {
+        // Arrange
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(projectRevisionRepository.findRevision(7L)).thenReturn(Optional.of(3L));
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL, CacheMode.GET);
+
+        // Act
+        projectRevisionService.readWithProjectETag(7L, Function.identity());
+        projectRevisionService.readWithProjectETag(7L, Function.identity());
+
+        // Assert
+        InOrder inOrder = inOrder(session);
+        inOrder.verify(session).setCacheMode(CacheMode.REFRESH);
+        // Read-only transactions on a replica setup must not fill the cache either
+        inOrder.verify(session).setCacheMode(CacheMode.IGNORE);
+    }
+
+    private static ProjectRevisionRepository.SprintRevision sprintRevision(Long projectId, long revision) {
+        return new ProjectRevisionRepository.SprintRevision() {
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public long getRevision() {
+                return revision;
+            }
+        };
+    }
+}
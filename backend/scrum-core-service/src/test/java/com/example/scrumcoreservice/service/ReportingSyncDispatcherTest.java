@@ -0,0 +1,161 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.SprintCompletionSyncRequest;
+import com.example.scrumcoreservice.entity.ReportingSyncTask;
+import com.example.scrumcoreservice.repository.ReportingSyncTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.ConnectException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportingSyncDispatcherTest {
+
+    @Mock
+    private ReportingSyncTaskRepository syncTaskRepository;
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Mock
+    private HttpResponse<String> response;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReportingSyncDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new ReportingSyncDispatcher(syncTaskRepository, httpClient, meterRegistry,
+                "http://reporting-service:3001/", 1000, 3, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void testDispatch_StoresEscapedJsonPayload() {
+        // Arrange
+        when(syncTaskRepository.save(any(ReportingSyncTask.class))).thenAnswer(inv -> {
+            ReportingSyncTask task = inv.getArgument(0);
+            task.setId(1L);
+            return task;
+        });
+        // Outside a transaction the sync is handed to a worker straight away
+        lenient().when(syncTaskRepository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        // Act
+        dispatcher.dispatchSprintCompletion(SprintCompletionSyncRequest.builder()
+                .sprintId(4L)
+                .projectId(10L)
+                .sprintName("Sprint \"Phoenix\"")
+                .completedPoints(13)
+                .build());
+
+        // Assert
+        ArgumentCaptor<ReportingSyncTask> saved = ArgumentCaptor.forClass(ReportingSyncTask.class);
+        verify(syncTaskRepository).save(saved.capture());
+        assertEquals(4L, saved.getValue().getSprintId());
+        assertTrue(saved.getValue().getPayload().contains("\"sprintName\":\"Sprint \\\"Phoenix\\\"\""));
+    }
+
+    @Test
+    void testDeliver_SuccessDeletesTaskAndRecordsLatency() throws Exception {
+        // Arrange
+        ReportingSyncTask task = claimedTask();
+        when(response.statusCode()).thenReturn(201);
+        when(httpClient.send(any(HttpRequest.class), anyBodyHandler())).thenReturn(response);
+
+        // Act
+        dispatcher.deliver(1L);
+
+        // Assert
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).send(request.capture(), anyBodyHandler());
+        assertEquals("http://reporting-service:3001/api/sync/sprint-completion", request.getValue().uri().toString());
+        verify(syncTaskRepository).deleteById(1L);
+        assertEquals(1, meterRegistry.get("reporting.sync.delivery.latency").timer().count());
+        assertEquals(0, task.getAttempts());
+    }
+
+    @Test
+    void testDeliver_ConnectionFailureSchedulesRetry() throws Exception {
+        // Arrange
+        ReportingSyncTask task = claimedTask();
+        when(httpClient.send(any(HttpRequest.class), anyBodyHandler()))
+                .thenThrow(new ConnectException("Connection refused"));
+
+        // Act
+        dispatcher.deliver(1L);
+
+        // Assert
+        verify(syncTaskRepository, never()).deleteById(any());
+        verify(syncTaskRepository).save(task);
+        assertEquals(1, task.getAttempts());
+        assertEquals(ReportingSyncTask.SyncStatus.PENDING, task.getStatus());
+        assertTrue(task.getAvailableAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void testDeliver_ClientErrorIsParkedWithoutRetry() throws Exception {
+        // Arrange
+        ReportingSyncTask task = claimedTask();
+        when(response.statusCode()).thenReturn(400);
+        when(response.body()).thenReturn("{\"error\":\"Missing required fields\"}");
+        when(httpClient.send(any(HttpRequest.class), anyBodyHandler())).thenReturn(response);
+
+        // Act
+        dispatcher.deliver(1L);
+
+        // Assert
+        assertEquals(ReportingSyncTask.SyncStatus.FAILED, task.getStatus());
+        assertTrue(task.getLastError().startsWith("HTTP 400"));
+    }
+
+    @Test
+    void testDeliver_SkipsTaskLeasedElsewhere() throws Exception {
+        // Arrange
+        when(syncTaskRepository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        // Act
+        dispatcher.deliver(1L);
+
+        // Assert
+        verifyNoInteractions(httpClient);
+        verify(syncTaskRepository, never()).findById(any());
+    }
+
+    private ReportingSyncTask claimedTask() {
+        ReportingSyncTask task = ReportingSyncTask.builder()
+                .id(1L)
+                .sprintId(4L)
+                .payload("{\"sprintId\":4}")
+                .createdAt(LocalDateTime.now().minusSeconds(2))
+                .availableAt(LocalDateTime.now())
+                .build();
+        when(syncTaskRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(syncTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        return task;
+    }
+
+    private static HttpResponse.BodyHandler<String> anyBodyHandler() {
+        return any();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.SearchHitDto;
+import com.example.scrumcoreservice.dto.SearchPageDto;
+import com.example.scrumcoreservice.repository.SearchDocumentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchDocumentRepository searchDocumentRepository;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    void testSearch_ResumesAfterRankTypeAndIdOfLastHit() {
+        // Arrange
+        SearchHitDto first = hit("BACKLOG_ITEM", 7L, 0.3f, "<mark>Login</mark> page");
+        SearchHitDto second = hit("TASK", 3L, 0.1f, "Build <mark>login</mark> form");
+        SearchHitDto third = hit("TASK", 4L, 0.1f, null);
+        when(searchDocumentRepository.search(10L, "login", null, null, null, 3)).thenReturn(List.of(first, second, third));
+        when(searchDocumentRepository.search(10L, "login", 0.1f, "TASK", 3L, 3)).thenReturn(List.of(third));
+
+        // Act
+        SearchPageDto page = searchService.search(10L, " login ", null, 2);
+        SearchPageDto next = searchService.search(10L, "login", page.getNextCursor(), 2);
+
+        // Assert
+        assertTrue(page.isHasMore());
+        assertEquals(List.of(7L, 3L), page.getHits().stream().map(SearchHitDto::getId).toList());
+        assertFalse(next.isHasMore());
+        assertEquals(List.of(4L), next.getHits().stream().map(SearchHitDto::getId).toList());
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(10L, "   ", null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(10L, "login", "bm9wZQ", null));
+    }
+
+    @Test
+    void testHighlight_EscapesDocumentTextButKeepsMatchMarks() {
+        // Act
+        String snippet = SearchService.highlight("Fix <script>alert(1)</script> in <mark>login</mark> & signup");
+
+        // Assert
+        assertEquals("Fix &lt;script&gt;alert(1)&lt;/script&gt; in <mark>login</mark> &amp; signup", snippet);
+    }
+
+    private static SearchHitDto hit(String type, long id, float rank, String snippet) {
+        return SearchHitDto.builder().type(type).id(id).rank(rank).title("t").snippet(snippet).build();
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.scrumcoreservice.service;
+
+import com.example.scrumcoreservice.dto.BacklogItemDto;
+import com.example.scrumcoreservice.dto.SprintBoardDto;
+import com.example.scrumcoreservice.dto.SprintCompletionSyncRequest;
+import com.example.scrumcoreservice.dto.SprintDto;
+import com.example.scrumcoreservice.entity.ProductBacklogItem;
+import com.example.scrumcoreservice.entity.Sprint;
+import com.example.scrumcoreservice.events.SprintEvent;
+import com.example.scrumcoreservice.repository.ProductBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintBacklogItemRepository;
+import com.example.scrumcoreservice.repository.SprintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SprintServiceTest {
+
+    @Mock
+    private SprintRepository sprintRepository;
+
+    @Mock
+    private SprintBacklogItemRepository sprintBacklogItemRepository;
+
+    @Mock
+    private ProductBacklogItemRepository backlogItemRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private ApprovalService approvalService;
+
+    @Mock
+    private ReportingSyncDispatcher reportingSyncDispatcher;
+
+    @Mock
+    private ProjectRevisionService projectRevisionService;
+
+    @Mock
+    private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+    @InjectMocks
+    private SprintService sprintService;
+
+    private Sprint plannedSprint;
+
+    @BeforeEach
+    void setUp() {
+        plannedSprint = Sprint.builder()
+                .id(1L)
+                .projectId(10L)
+                .name("Sprint 1")
+                .goal("Ship the board")
+                .status(Sprint.SprintStatus.PLANNED)
+                .createdBy(5L)
+                .build();
+    }
+
+    @Test
+    void testStartSprint_StatementCountIndependentOfSprintSize() {
+        // Act
+        int smallSprintCalls = repositoryCallsToStartSprintWith(3);
+        int largeSprintCalls = repositoryCallsToStartSprintWith(300);
+
+        // Assert
+        assertEquals(smallSprintCalls, largeSprintCalls);
+        assertEquals(5, largeSprintCalls);
+    }
+
+    @Test
+    void testStartSprint_PublishesCommittedPointsFromAggregate() {
+        // Arrange
+        stubStartableSprint(4, 21);
+
+        // Act
+        SprintDto result = sprintService.startSprint(1L);
+
+        // Assert
+        assertEquals("ACTIVE", result.getStatus());
+        verify(backlogItemRepository).updateStatusAndBoardColumnForSprint(eq(1L),
+                eq(ProductBacklogItem.ItemStatus.IN_SPRINT), eq(ProductBacklogItem.BoardColumn.TO_DO), any());
+        ArgumentCaptor<SprintEvent> event = ArgumentCaptor.forClass(SprintEvent.class);
+        verify(eventPublisher).publishSprintEvent(event.capture());
+        assertEquals("STARTED", event.getValue().getAction());
+        assertEquals(21, event.getValue().getCommittedPoints());
+        verify(projectRevisionService).bump(10L);
+    }
+
+    @Test
+    void testStartSprint_RejectsItemThatIsNotReady() {
+        // Arrange
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(plannedSprint));
+        when(sprintBacklogItemRepository.summarizeCommitment(1L)).thenReturn(commitment(2, 8));
+        ProductBacklogItem notReady = ProductBacklogItem.builder()
+                .id(3L)
+                .title("Login page")
+                .status(ProductBacklogItem.ItemStatus.PENDING_APPROVAL)
+                .build();
+        when(backlogItemRepository.findSprintItemsNotInStatus(eq(1L), anyCollection())).thenReturn(List.of(notReady));
+
+        // Act & Assert
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> sprintService.startSprint(1L));
+        assertEquals("Cannot start sprint: Backlog item 'Login page' is not ready for sprint (status: PENDING_APPROVAL). " +
+                "All items must have SPRINT_READY or IN_SPRINT status before sprint can start.", ex.getMessage());
+        verify(backlogItemRepository, never()).updateStatusAndBoardColumnForSprint(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testStartSprint_RejectsEmptySprint() {
+        // Arrange
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(plannedSprint));
+        when(sprintBacklogItemRepository.summarizeCommitment(1L)).thenReturn(commitment(0, 0));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> sprintService.startSprint(1L));
+        verify(backlogItemRepository, never()).findSprintItemsNotInStatus(any(), anyCollection());
+    }
+
+    @Test
+    void testEndSprint_StatementCountIndependentOfSprintSize() {
+        // Act
+        int smallSprintCalls = repositoryCallsToEndSprintWith(10);
+        int largeSprintCalls = repositoryCallsToEndSprintWith(2000);
+
+        // Assert
+        assertEquals(smallSprintCalls, largeSprintCalls);
+    }
+
+    @Test
+    void testEndSprint_PublishesTotalsFromAggregate() {
+        // Arrange
+        stubActiveSprint(13, 8, 2);
+
+        // Act
+        SprintDto result = sprintService.endSprint(1L);
+
+        // Assert
+        assertEquals("COMPLETED", result.getStatus());
+        verify(backlogItemRepository).updateSprintItemsNotInStatus(eq(1L), anyCollection(),
+                eq(ProductBacklogItem.ItemStatus.BACKLOG), any());
+        verify(sprintBacklogItemRepository).deleteUnfinishedItems(eq(1L), anyCollection());
+        ArgumentCaptor<SprintEvent> event = ArgumentCaptor.forClass(SprintEvent.class);
+        verify(eventPublisher).publishSprintEvent(event.capture());
+        assertEquals("COMPLETED", event.getValue().getAction());
+        assertEquals(13, event.getValue().getCommittedPoints());
+        assertEquals(8, event.getValue().getCompletedPoints());
+        assertEquals(8, event.getValue().getVelocity());
+        assertEquals(2, event.getValue().getStoriesCompleted());
+        ArgumentCaptor<SprintCompletionSyncRequest> sync = ArgumentCaptor.forClass(SprintCompletionSyncRequest.class);
+        verify(reportingSyncDispatcher).dispatchSprintCompletion(sync.capture());
+        assertEquals(8, sync.getValue().getCompletedPoints());
+        assertEquals("2026-01-16", sync.getValue().getEndDate());
+    }
+
+    @Test
+    void testGetSprintBoard_StatementCountIndependentOfSprintSize() {
+        // Act
+        int smallSprintCalls = repositoryCallsToGetSprintBoardWith(5);
+        int largeSprintCalls = repositoryCallsToGetSprintBoardWith(500);
+
+        // Assert
+        assertEquals(smallSprintCalls, largeSprintCalls);
+        assertEquals(2, largeSprintCalls);
+    }
+
+    @Test
+    void testGetSprintBoard_BucketsCardsFromSingleJoin() {
+        // Arrange
+        plannedSprint.setStatus(Sprint.SprintStatus.ACTIVE);
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(plannedSprint));
+        List<SprintBacklogItemRepository.BoardCard> cards = List.of(
+                boardCard(1L, null),
+                boardCard(2L, ProductBacklogItem.BoardColumn.IN_PROGRESS),
+                boardCard(3L, ProductBacklogItem.BoardColumn.DONE),
+                boardCard(4L, ProductBacklogItem.BoardColumn.TO_DO));
+        when(sprintBacklogItemRepository.findBoardCards(1L)).thenReturn(cards);
+
+        // Act
+        SprintBoardDto board = sprintService.getSprintBoard(1L);
+
+        // Assert
+        assertEquals(List.of(1L, 4L), board.getColumns().getToDo().stream().map(BacklogItemDto::getId).toList());
+        assertEquals(List.of(2L), board.getColumns().getInProgress().stream().map(BacklogItemDto::getId).toList());
+        assertTrue(board.getColumns().getReview().isEmpty());
+        assertEquals(List.of(3L), board.getColumns().getDone().stream().map(BacklogItemDto::getId).toList());
+        assertEquals("Item 2", board.getColumns().getInProgress().get(0).getTitle());
+        verifyNoInteractions(backlogItemRepository);
+    }
+
+    @Test
+    void testMoveBoardItem_StaleVersionIsRejectedWithoutWriting() {
+        // Arrange
+        plannedSprint.setStatus(Sprint.SprintStatus.ACTIVE);
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(plannedSprint));
+        when(backlogItemRepository.findById(2L)).thenReturn(Optional.of(ProductBacklogItem.builder()
+                .id(2L).projectId(10L).title("Item 2").version(7L).build()));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> sprintService.moveBoardItem(
+                1L, 2L, ProductBacklogItem.BoardColumn.DONE, 6L));
+        verify(backlogItemRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(projectRevisionService, eventPublisher);
+    }
+
+    private int repositoryCallsToEndSprintWith(int itemCount) {
+        resetRepositories();
+        stubActiveSprint(itemCount * 3L, itemCount * 2L, itemCount / 2);
+
+        sprintService.endSprint(1L);
+
+        return mockingDetails(sprintRepository).getInvocations().size()
+                + mockingDetails(sprintBacklogItemRepository).getInvocations().size()
+                + mockingDetails(backlogItemRepository).getInvocations().size();
+    }
+
+    private void stubActiveSprint(long committedPoints, long completedPoints, long storiesCompleted) {
+        plannedSprint.setStatus(Sprint.SprintStatus.ACTIVE);
+        plannedSprint.setEndDate(LocalDate.of(2026, 1, 16));
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(plannedSprint));
+        when(sprintRepository.save(any(Sprint.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(sprintBacklogItemRepository.summarizeCloseOut(eq(1L), anyCollection()))
+                .thenReturn(closeOut(committedPoints, completedPoints, storiesCompleted));
+    }
+
+    private int repositoryCallsToStartSprintWith(int itemCount) {
+        resetRepositories();
+        plannedSprint.setStatus(Sprint.SprintStatus.PLANNED);
+        stubStartableSprint(itemCount, itemCount * 3L);
+
+        sprintService.startSprint(1L);
+
+        return mockingDetails(sprintRepository).getInvocations().size()
+                + mockingDetails(sprintBacklogItemRepository).getInvocations().size()
+                + mockingDetails(backlogItemRepository).getInvocations().size();
+    }
+
+    private int repositoryCallsToGetSprintBoardWith(int itemCount) {
+        resetRepositories();
+        ProductBacklogItem.BoardColumn[] columns = ProductBacklogItem.BoardColumn.values();
+        List<SprintBacklogItemRepository.BoardCard> cards = new ArrayList<>(itemCount);
+        for (long id = 1; id <= itemCount; id++) {
+            cards.add(boardCard(id, columns[(int) (id % columns.length)]));
+        }
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(plannedSprint));
+        when(sprintBacklogItemRepository.findBoardCards(1L)).thenReturn(cards);
+
+        sprintService.getSprintBoard(1L);
+
+        return mockingDetails(sprintRepository).getInvocations().size()
+                + mockingDetails(sprintBacklogItemRepository).getInvocations().size()
+                + mockingDetails(backlogItemRepository).getInvocations().size();
+    }
+
+    private void resetRepositories() {
+        // One call per mock: the mocks differ in type, so a single varargs call is an unchecked generic array
+        reset(sprintRepository);
+        reset(sprintBacklogItemRepository);
+        reset(backlogItemRepository);
+    }
+
+    private void stubStartableSprint(int itemCount, long committedPoints) {
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(plannedSprint));
+        when(sprintRepository.save(any(Sprint.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(sprintBacklogItemRepository.summarizeCommitment(1L)).thenReturn(commitment(itemCount, committedPoints));
+        when(backlogItemRepository.findSprintItemsNotInStatus(eq(1L), anyCollection())).thenReturn(List.of());
+        when(backlogItemRepository.updateStatusAndBoardColumnForSprint(eq(1L), any(), any(), any())).thenReturn(itemCount);
+    }
+
+    private static SprintBacklogItemRepository.BoardCard boardCard(Long id, ProductBacklogItem.BoardColumn column) {
+        SprintBacklogItemRepository.BoardCard card = mock(SprintBacklogItemRepository.BoardCard.class);
+        lenient().when(card.getId()).thenReturn(id);
+        lenient().when(card.getTitle()).thenReturn("Item " + id);
+        lenient().when(card.getType()).thenReturn(ProductBacklogItem.ItemType.STORY);
+        lenient().when(card.getStatus()).thenReturn(ProductBacklogItem.ItemStatus.IN_SPRINT);
+        lenient().when(card.getBoardColumn()).thenReturn(column);
+        return card;
+    }
+
+    private static SprintBacklogItemRepository.SprintCloseOut closeOut(long committedPoints, long completedPoints,
+                                                                       long storiesCompleted) {
+        return new SprintBacklogItemRepository.SprintCloseOut() {
+            @Override
+            public long getCommittedPoints() {
+                return committedPoints;
+            }
+
+            @Override
+            public long getCompletedPoints() {
+                return completedPoints;
+            }
+
+            @Override
+            public long getStoriesCompleted() {
+                return storiesCompleted;
+            }
+        };
+    }
+
+    private static SprintBacklogItemRepository.SprintCommitment commitment(long itemCount, long committedPoints) {
+        return new SprintBacklogItemRepository.SprintCommitment() {
+            @Override
+            public long getItemCount() {
+                return itemCount;
+            }
+
+            @Override
+            public long getCommittedPoints() {
+                return committedPoints;
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.servicesupport.logging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer that never blocks producers.
+ * <p>
+ * Producers claim a sequence number and publish into its slot; when the buffer is full the new
+ * element overwrites the oldest one. Every slot carries the sequence it was written for, so the
+ * consumer can tell a published element from a stale or overwritten one and counts every element
+ * it never got to see as dropped. Only one thread may call {@link #drainTo}.
+ */
+public class LogRingBuffer<T> {
+
+    private record Slot<T>(long sequence, T element) {
+    }
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long tail;
+
+    public LogRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public void offer(T element) {
+        long sequence = head.getAndIncrement();
+        int index = (int) (sequence & mask);
+        Slot<T> slot = new Slot<>(sequence, element);
+        while (true) {
+            Slot<T> current = slots.get(index);
+            // A slower producer must not overwrite an element from a later lap
+            if (current != null && current.sequence() > sequence) {
+                return;
+            }
+            if (slots.compareAndSet(index, current, slot)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code maxElements} published elements, oldest first, into {@code target}.
+     */
+    public int drainTo(List<T> target, int maxElements) {
+        long published = head.get();
+        int capacity = mask + 1;
+        if (published - tail > capacity) {
+            dropped.addAndGet(published - capacity - tail);
+            tail = published - capacity;
+        }
+
+        int drained = 0;
+        while (tail < published && drained < maxElements) {
+            Slot<T> slot = slots.get((int) (tail & mask));
+            if (slot == null || slot.sequence() < tail) {
+                // Claimed but not yet published; pick it up on the next drain
+                break;
+            }
+            if (slot.sequence() == tail) {
+                target.add(slot.element());
+                drained++;
+            } else {
+                dropped.incrementAndGet();
+            }
+            tail++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.min(head.get() - tail, mask + 1);
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.servicesupport.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers the log shipper for services that talk to RabbitMQ; records are tagged with
+ * {@code spring.application.name}.
+ */
+@AutoConfiguration
+@ConditionalOnClass(RabbitTemplate.class)
+public class LogShippingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RabbitMQLoggerService rabbitMQLoggerService(
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.application.name}") String applicationName,
+            @Value("${log-shipper.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${log-shipper.batch-size:256}") int batchSize,
+            @Value("${log-shipper.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${log-shipper.sample-rate.debug:1.0}") double debugSampleRate,
+            @Value("${log-shipper.sample-rate.info:1.0}") double infoSampleRate,
+            @Value("${log-shipper.sample-rate.warn:1.0}") double warnSampleRate,
+            @Value("${log-shipper.sample-rate.error:1.0}") double errorSampleRate) {
+        return new RabbitMQLoggerService(rabbitTemplate, meterRegistry, applicationName, bufferCapacity, batchSize,
+                flushIntervalMs, debugSampleRate, infoSampleRate, warnSampleRate, errorSampleRate);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.servicesupport.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ships application logs to logging-service over RabbitMQ without touching the broker on the
+ * calling thread. Records are sampled per level, placed in a {@link LogRingBuffer} (oldest records
+ * are dropped when it is full) and published by a background thread as one JSON array per batch.
+ * Registered by {@link LogShippingAutoConfiguration}.
+ */
+@Slf4j
+public class RabbitMQLoggerService {
+
+    public static final String LOGGING_EXCHANGE = "logging_exchange";
+    public static final String LOGGING_ROUTING_KEY = "logs";
+
+    // Set by each service's CorrelationIdFilter for the duration of a request
+    static final String CORRELATION_ID_MDC_KEY = "correlationId";
+
+    /**
+     * Wire format read by logging-service; field names must not change.
+     */
+    record LogRecord(String timestamp, String logType, String url, String correlationId,
+                     String applicationName, String message) {
+    }
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String applicationName;
+    private final LogRingBuffer<LogRecord> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final double debugSampleRate;
+    private final double infoSampleRate;
+    private final double warnSampleRate;
+    private final double errorSampleRate;
+
+    private final Counter shipped;
+    private final Counter sampledOut;
+    private final Counter sendFailures;
+
+    private volatile boolean running = true;
+    private Thread publisher;
+
+    public RabbitMQLoggerService(RabbitTemplate rabbitTemplate,
+                                 MeterRegistry meterRegistry,
+                                 String applicationName,
+                                 int bufferCapacity,
+                                 int batchSize,
+                                 long flushIntervalMs,
+                                 double debugSampleRate,
+                                 double infoSampleRate,
+                                 double warnSampleRate,
+                                 double errorSampleRate) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.applicationName = applicationName;
+        this.buffer = new LogRingBuffer<>(Integer.highestOneBit(Math.max(2, bufferCapacity) - 1) << 1);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.debugSampleRate = debugSampleRate;
+        this.infoSampleRate = infoSampleRate;
+        this.warnSampleRate = warnSampleRate;
+        this.errorSampleRate = errorSampleRate;
+
+        this.shipped = Counter.builder("log.shipper.shipped")
+                .description("Log records published to RabbitMQ").register(meterRegistry);
+        this.sampledOut = Counter.builder("log.shipper.dropped").tag("reason", "sampled")
+                .description("Log records not shipped").register(meterRegistry);
+        this.sendFailures = Counter.builder("log.shipper.dropped").tag("reason", "send_failed")
+                .description("Log records not shipped").register(meterRegistry);
+        FunctionCounter.builder("log.shipper.dropped", buffer, LogRingBuffer::dropped).tag("reason", "overflow")
+                .description("Log records not shipped").register(meterRegistry);
+        Gauge.builder("log.shipper.buffer.size", buffer, LogRingBuffer::size)
+                .description("Log records waiting to be shipped").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        publisher = Thread.ofPlatform().name("log-shipper").daemon(true).start(this::run);
+    }
+
+    public void logInfo(String message, String url) {
+        sendLog("INFO", message, url);
+    }
+
+    public void logWarn(String message, String url) {
+        sendLog("WARN", message, url);
+    }
+
+    public void logError(String message, String url) {
+        sendLog("ERROR", message, url);
+    }
+
+    public void logDebug(String message, String url) {
+        sendLog("DEBUG", message, url);
+    }
+
+    private void sendLog(String logType, String message, String url) {
+        double sampleRate = switch (logType) {
+            case "DEBUG" -> debugSampleRate;
+            case "INFO" -> infoSampleRate;
+            case "WARN" -> warnSampleRate;
+            default -> errorSampleRate;
+        };
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            return;
+        }
+
+        // Timestamp and correlation id belong to the request thread, so capture them here
+        String correlationId = MDC.get(CORRELATION_ID_MDC_KEY);
+        buffer.offer(new LogRecord(Instant.now().toString(), logType, url,
+                correlationId != null ? correlationId : "NONE", applicationName, message));
+    }
+
+    private void run() {
+        while (running) {
+            if (flush() == 0) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Publishes one batch and returns its size. Only the publisher thread, or shutdown once the
+     * publisher has stopped, may call this.
+     */
+    int flush() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        buffer.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            rabbitTemplate.convertAndSend(LOGGING_EXCHANGE, LOGGING_ROUTING_KEY, batch);
+            shipped.increment(batch.size());
+        } catch (Exception e) {
+            sendFailures.increment(batch.size());
+            log.error("Failed to send {} logs to RabbitMQ: {}", batch.size(), e.getMessage());
+        }
+        return batch.size();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (publisher != null) {
+            LockSupport.unpark(publisher);
+            publisher.join(TimeUnit.SECONDS.toMillis(5));
+            if (publisher.isAlive()) {
+                return;
+            }
+        }
+        while (flush() > 0) {
+            // drain everything still buffered
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.servicesupport.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRingBufferTest {
+
+    @Test
+    void testDrainTo_ReturnsElementsOldestFirstInBatches() {
+        // Arrange
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+
+        // Act
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        buffer.drainTo(first, 3);
+        buffer.drainTo(second, 3);
+
+        // Assert
+        assertEquals(List.of(0, 1, 2), first);
+        assertEquals(List.of(3, 4), second);
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.dropped());
+    }
+
+    @Test
+    void testOffer_WhenFullOverwritesOldestAndCountsDrops() {
+        // Arrange
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 100);
+
+        // Assert
+        assertEquals(List.of(6, 7, 8, 9), drained);
+        assertEquals(6, buffer.dropped());
+    }
+
+    @Test
+    void testConcurrentProducers_EveryElementIsDrainedOrCountedAsDropped() throws Exception {
+        // Arrange
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(i);
+                }
+                return null;
+            });
+        }
+
+        // Act
+        start.countDown();
+        long drained = 0;
+        List<Integer> batch = new ArrayList<>();
+        pool.shutdown();
+        while (!pool.isTerminated() || buffer.size() > 0) {
+            batch.clear();
+            drained += buffer.drainTo(batch, 256);
+        }
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        batch.clear();
+        drained += buffer.drainTo(batch, Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals((long) producers * perProducer, drained + buffer.dropped());
+    }
+
+    @Test
+    void testConstructor_RejectsNonPowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer<>(1000));
+    }
+}
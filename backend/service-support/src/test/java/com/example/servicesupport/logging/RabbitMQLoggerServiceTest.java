@@ -0,0 +1,123 @@
+package com.example.servicesupport.logging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitMQLoggerServiceTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RabbitMQLoggerService loggerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Publisher thread is not started; tests drive flush() directly
+        loggerService = new RabbitMQLoggerService(rabbitTemplate, meterRegistry, "identity-service", 8, 100, 200,
+                0.0, 1.0, 1.0, 1.0);
+    }
+
+    @Test
+    void testLogCalls_DoNotTouchBrokerOnCallingThread() {
+        // Act
+        loggerService.logInfo("User logged in", "/auth/login");
+        loggerService.logError("Login failed", "/auth/login");
+
+        // Assert
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void testFlush_SendsOneMessagePerBatchWithSameFields() throws Exception {
+        // Arrange
+        loggerService.logInfo("User logged in", "/auth/login");
+        loggerService.logWarn("Slow query", "/users");
+        loggerService.logError("Login failed", "/auth/login");
+
+        // Act
+        int flushed = loggerService.flush();
+
+        // Assert
+        assertEquals(3, flushed);
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate, times(1)).convertAndSend(eq(RabbitMQLoggerService.LOGGING_EXCHANGE),
+                eq(RabbitMQLoggerService.LOGGING_ROUTING_KEY), payload.capture());
+
+        Message message = new Jackson2JsonMessageConverter().toMessage(payload.getValue(), new MessageProperties());
+        JsonNode logs = new ObjectMapper().readTree(message.getBody());
+        assertTrue(logs.isArray());
+        assertEquals(3, logs.size());
+        JsonNode first = logs.get(0);
+        assertEquals("INFO", first.get("logType").asText());
+        assertEquals("/auth/login", first.get("url").asText());
+        assertEquals("NONE", first.get("correlationId").asText());
+        assertEquals("identity-service", first.get("applicationName").asText());
+        assertEquals("User logged in", first.get("message").asText());
+        assertTrue(first.hasNonNull("timestamp"));
+        assertEquals(6, first.size());
+    }
+
+    @Test
+    void testSampling_DropsLevelsSampledAtZero() {
+        // Act
+        loggerService.logDebug("Cache warmed", "/users");
+        loggerService.logInfo("User created", "/users");
+        loggerService.flush();
+
+        // Assert
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), payload.capture());
+        assertEquals(1, ((List<?>) payload.getValue()).size());
+        assertEquals(1.0, meterRegistry.get("log.shipper.dropped").tag("reason", "sampled").counter().count());
+    }
+
+    @Test
+    void testOverflow_DropsOldestAndCountsIt() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            loggerService.logInfo("message " + i, "/users");
+        }
+
+        // Act
+        loggerService.flush();
+
+        // Assert
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), payload.capture());
+        List<?> batch = (List<?>) payload.getValue();
+        assertEquals(8, batch.size());
+        assertEquals(2.0, meterRegistry.get("log.shipper.dropped").tag("reason", "overflow").functionCounter().count());
+    }
+
+    @Test
+    void testShutdown_FlushesRemainingLogs() throws Exception {
+        // Arrange
+        loggerService.logInfo("Shutting down", "/actuator");
+
+        // Act
+        loggerService.shutdown();
+
+        // Assert
+        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+}
@@ -10,7 +10,7 @@ import { SprintService } from '../../services/sprint.service';
 import { ProjectService } from '../../services/project.service';
 import { ProjectContextService } from '../../services/project-context.service';
 import { AuthService } from '../../services/auth.service';
-import { ApprovalService, BacklogItemApproval } from '../../services/approval.service';
+import { ApprovalService } from '../../services/approval.service';
 import { BacklogItem, Sprint } from '../../models/sprint.model';
 import { Project, Team, TeamMember } from '../../models/project.model';
 import { CommentsComponent } from '../comments/comments.component';
@@ -54,8 +54,8 @@ export class BacklogComponent implements OnInit, OnDestroy {
   // Team members for approval workflow
   teamMembers: any[] = [];
 
-  // Approval tracking
-  itemApprovals: Map<number, BacklogItemApproval[]> = new Map();
+  // Approval tracking: backlog item id -> sprint id of the current user's pending approvals
+  myPendingApprovals: Map<number, number> = new Map();
   rejectionReason = '';
   showRejectionModal = false;
   currentRejectionItem: BacklogItem | null = null;
@@ -110,9 +110,12 @@ export class BacklogComponent implements OnInit, OnDestroy {
         this.backlogItems = items.sort((a, b) => a.position - b.position);
         this.applyFilters();
 
-        // Load approval status for pending approval items
-        const pendingItems = items.filter(item => item.status === 'PENDING_APPROVAL');
-        pendingItems.forEach(item => this.loadApprovalStatus(item));
+        // Load the current user's pending approvals once for all pending items
+        if (items.some(item => this.isPendingApproval(item))) {
+          this.loadMyPendingApprovals(this.selectedProject!.id);
+        } else {
+          this.myPendingApprovals = new Map();
+        }
 
         this.loading = false;
       },
@@ -433,45 +436,33 @@ export class BacklogComponent implements OnInit, OnDestroy {
     if (!currentUserId) return false;
 
     // Check if user has a pending approval for this item
-    const approvals = this.itemApprovals.get(item.id);
-    if (!approvals) return false;
-
-    const userApproval = approvals.find(a => a.developerId === currentUserId);
-    return userApproval?.status === 'PENDING';
+    return this.myPendingApprovals.has(item.id);
   }
 
   getUserApprovalStatus(item: BacklogItem): string {
     const currentUserId = this.authService.currentUserValue?.id;
     if (!currentUserId) return '';
 
-    const approvals = this.itemApprovals.get(item.id);
-    if (!approvals) return '';
-
-    const userApproval = approvals.find(a => a.developerId === currentUserId);
-    if (!userApproval) return 'Waiting for team';
-
-    if (userApproval.status === 'APPROVED') return '✓ You approved';
-    if (userApproval.status === 'REJECTED') return '✗ You rejected';
-    return '';
-  }
-
-  loadApprovalStatus(item: BacklogItem): void {
-    if (!this.isPendingApproval(item)) return;
-
-    // Try to get sprint ID from the item (we need to enhance the BacklogItem model or get it from backend)
-    // For now, we'll fetch pending approvals for the current user and match by item ID
-    this.approvalService.getMyPendingApprovals().subscribe({
-      next: (approvals) => {
-        // Group approvals by backlog item ID
-        const itemApprovalsList = approvals.filter(a => a.backlogItemId === item.id);
-        if (itemApprovalsList.length > 0) {
-          // Get full approval list for this item
-          const firstApproval = itemApprovalsList[0];
-          this.approvalService.getApprovalsForItem(item.id, firstApproval.sprintId).subscribe({
-            next: (fullApprovals) => {
-              this.itemApprovals.set(item.id, fullApprovals);
-            }
-          });
+    return this.myPendingApprovals.has(item.id) ? '' : 'Waiting for team';
+  }
+
+  /**
+   * Pages through the current user's approval inbox (all projects) and keeps the entries of
+   * this project, so pending items need no request of their own.
+   */
+  loadMyPendingApprovals(projectId: number, after?: string, pending: Map<number, number> = new Map()): void {
+    this.approvalService.getMyApprovalInbox(after, 100).subscribe({
+      next: (page) => {
+        if (this.selectedProject?.id !== projectId) return;
+
+        page.items
+          .filter(entry => entry.projectId === projectId)
+          .forEach(entry => pending.set(entry.backlogItemId, entry.sprintId));
+
+        if (page.hasMore && page.nextCursor) {
+          this.loadMyPendingApprovals(projectId, page.nextCursor, pending);
+        } else {
+          this.myPendingApprovals = pending;
         }
       },
       error: (err) => console.error('Failed to load approval status', err)
@@ -479,14 +470,12 @@ export class BacklogComponent implements OnInit, OnDestroy {
   }
 
   approveItem(item: BacklogItem): void {
-    const approvals = this.itemApprovals.get(item.id);
-    if (!approvals || approvals.length === 0) {
+    const sprintId = this.myPendingApprovals.get(item.id);
+    if (sprintId === undefined) {
       this.error = 'Unable to find approval information for this item';
       return;
     }
 
-    const sprintId = approvals[0].sprintId;
-
     this.approvalService.approveItem(item.id, sprintId).subscribe({
       next: () => {
         console.log('Item approved successfully');
@@ -519,14 +508,12 @@ export class BacklogComponent implements OnInit, OnDestroy {
     }
 
     const item = this.currentRejectionItem;
-    const approvals = this.itemApprovals.get(item.id);
-    if (!approvals || approvals.length === 0) {
+    const sprintId = this.myPendingApprovals.get(item.id);
+    if (sprintId === undefined) {
       this.error = 'Unable to find approval information for this item';
       return;
     }
 
-    const sprintId = approvals[0].sprintId;
-
     this.approvalService.rejectItem(item.id, sprintId, this.rejectionReason).subscribe({
       next: () => {
         console.log('Item rejected successfully');
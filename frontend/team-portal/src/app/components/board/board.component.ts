@@ -163,6 +163,7 @@ export class BoardComponent implements OnInit {
     return {
       id: item.id,
       backlogItemId: item.id,
+      backlogItemVersion: item.version,
       title: item.title,
       description: item.description,
       status: this.mapBacklogStatusToTaskStatus(item),
@@ -219,13 +220,23 @@ export class BoardComponent implements OnInit {
 
     console.log(newStatus);
     
-    this.sprintService.moveBoardItem(this.currentSprint.id, task.backlogItemId, newStatus).subscribe({
-      next: () => {
+    this.sprintService.moveBoardItem(this.currentSprint.id, task.backlogItemId, newStatus, task.backlogItemVersion).subscribe({
+      next: (item: BacklogItem) => {
         task.status = newStatus;
+        task.backlogItemVersion = item.version;
         console.log('Board item moved successfully to', newStatus);
       },
       error: (err) => {
-        console.error('Failed to move board item', err);
+        if (err.status === 409) {
+          // Someone else changed the card since it was loaded; show their version of the board
+          const current: BacklogItem | undefined = err.error?.current;
+          if (current) {
+            task.backlogItemVersion = current.version;
+          }
+          this.error = `"${task.title}" was changed by someone else, so it was not moved. The board now shows the latest state.`;
+        } else {
+          console.error('Failed to move board item', err);
+        }
         // Reload board on error to reset UI
         this.loadSprintBoard();
       }
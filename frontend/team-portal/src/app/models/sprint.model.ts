@@ -68,11 +68,13 @@ export interface BacklogItem {
   reviewedBy?: number;
   reviewedAt?: Date;
   rejectionReason?: string;
+  version?: number;
 }
 
 export interface Task {
   id: number;
   backlogItemId: number;
+  backlogItemVersion?: number; // board cards: version of the backlog item, sent with moves
   title: string;
   description?: string;
   status: 'TO_DO' | 'IN_PROGRESS' | 'DONE' | 'REVIEW';
@@ -104,6 +106,30 @@ export interface Impediment {
   resolution?: string;
 }
 
+export interface BoardColumnCount {
+  items: number;
+  storyPoints: number;
+}
+
+export interface ProjectOverview {
+  projectId: number;
+  activeSprint: Sprint | null;
+  sprints: Sprint[] | null;
+  board: {
+    toDo: BoardColumnCount;
+    inProgress: BoardColumnCount;
+    review: BoardColumnCount;
+    done: BoardColumnCount;
+  } | null;
+  openImpediments: Impediment[] | null;
+  approvals: {
+    sprintItemsPending: number | null;
+    awaitingMyResponse: number | null;
+  };
+  // Sections left out because they failed or timed out
+  degraded: string[];
+}
+
 export interface ScrumEvent {
   id: number;
   sprintId: number;
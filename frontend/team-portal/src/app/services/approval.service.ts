@@ -13,6 +13,28 @@ export interface BacklogItemApproval {
   rejectionReason?: string;
 }
 
+export interface ApprovalInboxItem {
+  backlogItemId: number;
+  sprintId: number;
+  projectId: number;
+  title: string;
+  type: string;
+  storyPoints?: number;
+  priority?: number;
+  sprintName: string;
+  sprintStartDate?: string;
+  requestedBy?: number;
+  requestedByRole?: string;
+  requestedAt: string;
+}
+
+export interface ApprovalInboxPage {
+  items: ApprovalInboxItem[];
+  total: number;
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -28,6 +50,17 @@ export class ApprovalService {
     return this.http.get<BacklogItemApproval[]>(`${this.apiUrl}/my-pending`);
   }
 
+  /**
+   * Page of the current user's pending approvals with item and sprint details, oldest first.
+   * Pass nextCursor of the previous page as `after`.
+   */
+  getMyApprovalInbox(after?: string, limit?: number): Observable<ApprovalInboxPage> {
+    const params: Record<string, string> = {};
+    if (after) params['after'] = after;
+    if (limit) params['limit'] = String(limit);
+    return this.http.get<ApprovalInboxPage>(`${this.apiUrl}/inbox`, { params });
+  }
+
   /**
    * Get all approvals for a specific backlog item in a sprint
    */
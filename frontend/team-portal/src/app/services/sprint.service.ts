@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Sprint, SprintBacklogItem, CreateSprintRequest } from '../models/sprint.model';
+import { Sprint, SprintBacklogItem, CreateSprintRequest, BacklogItem, ProjectOverview } from '../models/sprint.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -20,6 +20,10 @@ export class SprintService {
     return this.http.get<Sprint | null>(`${this.apiUrl}/project/${projectId}/active`);
   }
 
+  getProjectOverview(projectId: number): Observable<ProjectOverview> {
+    return this.http.get<ProjectOverview>(`${environment.scrumApiUrl}/projects/${projectId}/overview`);
+  }
+
   getSprint(id: number): Observable<Sprint> {
     return this.http.get<Sprint>(`${this.apiUrl}/${id}`);
   }
@@ -60,10 +64,11 @@ export class SprintService {
     return this.http.get<any>(`${this.apiUrl}/${sprintId}/board`);
   }
 
-  moveBoardItem(sprintId: number, backlogItemId: number, targetColumn: string): Observable<void> {
-    return this.http.post<void>(`${this.apiUrl}/${sprintId}/board/move`, {
+  moveBoardItem(sprintId: number, backlogItemId: number, targetColumn: string, version?: number): Observable<BacklogItem> {
+    return this.http.post<BacklogItem>(`${this.apiUrl}/${sprintId}/board/move`, {
       backlogItemId,
-      targetColumn
+      targetColumn,
+      version
     });
   }
 }